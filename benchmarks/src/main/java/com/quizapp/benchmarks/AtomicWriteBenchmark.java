@@ -0,0 +1,124 @@
+package com.quizapp.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.quizapp.data.AtomicFiles;
+import com.quizapp.data.QuestionRepository;
+import com.quizapp.model.HighscoreEntry;
+import com.quizapp.model.Question;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Vergleicht das alte "Truncate-and-Write" ({@code new FileWriter(...)}) mit dem
+ * absturzsicheren Schreiben über {@link AtomicFiles} (Temp-Datei, fsync, atomares Move).
+ * <p>
+ * {@code SampleTime} liefert zusätzlich die Perzentile (p99, p99.9) für die Tail-Latenz.
+ * Die beiden {@code burst}-Benchmarks zeigen den Effekt des Fragen-Journals: Zehn kurz
+ * hintereinander geänderte Fragen hängen zehn kurze Zeilen an, statt die komplette
+ * Fragenliste zehnmal neu zu schreiben.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AtomicWriteBenchmark {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    @Param({"100", "10000"})
+    int entries;
+
+    private Path dir;
+    private Path target;
+    private List<HighscoreEntry> scores;
+    private List<Question> questions;
+    private QuestionRepository repo;
+    private List<Question> stored;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("quizapp-bench");
+        target = dir.resolve("highscores.json");
+        scores = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            scores.add(new HighscoreEntry("Spieler " + (i % 500), (i * 31) % 300, "2024-01-15"));
+        }
+        questions = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            questions.add(new Question("Frage " + i, new String[]{"A", "B", "C", "D"}, i % 4));
+        }
+        repo = new QuestionRepository(dir.resolve("questions.json"));
+        stored = repo.addAll(questions);
+        repo.flush();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        repo.flush();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path p : (Iterable<Path>) files::iterator) Files.deleteIfExists(p);
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    /** Bisheriges Verfahren: Datei abschneiden und direkt hineinschreiben. */
+    @Benchmark
+    public void truncateAndWrite() throws IOException {
+        try (Writer writer = new FileWriter(target.toFile())) {
+            GSON.toJson(scores, writer);
+        }
+    }
+
+    /** Neues Verfahren: Temp-Datei, fsync und atomares Umbenennen. */
+    @Benchmark
+    public void atomicWrite() throws IOException {
+        AtomicFiles.write(target, out -> {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            GSON.toJson(scores, writer);
+            writer.flush();
+        });
+    }
+
+    /** Zehn Änderungen an der Fragenliste, jede einzeln atomar geschrieben. */
+    @Benchmark
+    @OperationsPerInvocation(10)
+    public void burstAtomicEach() throws IOException {
+        Path file = dir.resolve("questions-each.json");
+        for (int i = 0; i < 10; i++) {
+            questions.set(i, new Question("Frage " + i, new String[]{"A", "B", "C", "D"}, 0));
+            AtomicFiles.write(file, out -> {
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                GSON.toJson(questions, writer);
+                writer.flush();
+            });
+        }
+    }
+
+    /** Zehn Änderungen über das Repository; jede hängt nur eine Zeile an das Journal an. */
+    @Benchmark
+    @OperationsPerInvocation(10)
+    public void burstJournal() {
+        for (int i = 0; i < 10; i++) {
+            repo.update(stored.get(i).getId(), new Question("Frage " + i, new String[]{"A", "B", "C", "D"}, 0));
+        }
+    }
+}
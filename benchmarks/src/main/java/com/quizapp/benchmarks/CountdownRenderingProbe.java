@@ -0,0 +1,132 @@
+package com.quizapp.benchmarks;
+
+import com.quizapp.model.Countdown;
+import com.quizapp.model.GameClock;
+import com.quizapp.view.EdtBusyMeter;
+import com.quizapp.view.SwingGameClock;
+import com.quizapp.view.components.CountdownBar;
+
+import javax.swing.*;
+import java.awt.*;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vergleicht die EDT-Auslastung des Countdowns im Zeitmodus: früheres Verfahren
+ * ({@link JProgressBar#setValue} und {@link JLabel#setText} alle 50 ms) gegenüber
+ * {@link CountdownBar} mit Label-Update nur beim Sekundenwechsel.
+ * <p>
+ * Kein JMH-Benchmark, da echte Repaints gemessen werden; benötigt daher einen Bildschirm.
+ * Aufruf:
+ * </p>
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.quizapp.benchmarks.CountdownRenderingProbe [sekunden]
+ * </pre>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class CountdownRenderingProbe {
+
+    private static final Color TRACK = new Color(230, 233, 238);
+    private static final Color FILL = new Color(76, 120, 230);
+
+    private CountdownRenderingProbe() {
+    }
+
+    /**
+     * @param args optional die Dauer pro Variante in Sekunden (Standard: 20).
+     * @throws Exception wenn der EDT unterbrochen wird.
+     */
+    public static void main(String[] args) throws Exception {
+        if (GraphicsEnvironment.isHeadless()) {
+            System.err.println("Benötigt einen Bildschirm (kein headless-Betrieb).");
+            return;
+        }
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        EdtBusyMeter meter = EdtBusyMeter.install();
+
+        JFrame frame = new JFrame("Countdown-Messung");
+        JPanel content = new JPanel(new BorderLayout());
+        onEdt(() -> {
+            frame.setContentPane(content);
+            frame.setSize(1280, 720);
+            frame.setVisible(true);
+        });
+
+        measure("alt (JProgressBar, 50 ms)", meter, seconds, () -> legacy(content, seconds));
+        measure("neu (CountdownBar)", meter, seconds, () -> coalesced(content, seconds));
+
+        onEdt(frame::dispose);
+        System.exit(0);
+    }
+
+    private static void measure(String name, EdtBusyMeter meter, int seconds, Runnable start) throws Exception {
+        onEdt(start);
+        Thread.sleep(1000); // Layout und erstes Zeichnen nicht mitmessen
+        long t0 = System.nanoTime();
+        long busy0 = meter.busyNanos();
+        long events0 = meter.events();
+        Thread.sleep(TimeUnit.SECONDS.toMillis(seconds - 1));
+        long busy = meter.busyNanos() - busy0;
+        long wall = System.nanoTime() - t0;
+        System.out.printf("%-28s EDT belegt %6.2f %%  (%,d µs, %,d Events)%n", name,
+                100.0 * busy / wall, TimeUnit.NANOSECONDS.toMicros(busy), meter.events() - events0);
+    }
+
+    private static void legacy(JPanel content, int seconds) {
+        JProgressBar bar = new JProgressBar(0, seconds * 1000);
+        bar.setBorderPainted(false);
+        bar.setForeground(FILL);
+        bar.setBackground(TRACK);
+        JLabel label = new JLabel();
+        show(content, bar, label);
+        long start = System.currentTimeMillis();
+        Timer timer = new Timer(50, e -> {
+            long remaining = Math.max(0, seconds * 1000L - (System.currentTimeMillis() - start));
+            bar.setValue((int) remaining);
+            label.setText((int) Math.ceil(remaining / 1000.0) + "s");
+            if (remaining == 0) ((Timer) e.getSource()).stop();
+        });
+        timer.start();
+    }
+
+    private static void coalesced(JPanel content, int seconds) {
+        GameClock clock = SwingGameClock.shared();
+        CountdownBar bar = new CountdownBar(TRACK, FILL);
+        JLabel label = new JLabel();
+        show(content, bar, label);
+        Countdown countdown = new Countdown(clock, TimeUnit.SECONDS.toNanos(seconds));
+        int[] shown = {-1};
+        GameClock.Task[] tick = new GameClock.Task[1];
+        tick[0] = clock.repeat(bar.tickNanos(countdown.durationNanos()), () -> {
+            bar.setRemaining(countdown.remainingNanos(), countdown.durationNanos());
+            if (countdown.displaySeconds() != shown[0]) {
+                shown[0] = countdown.displaySeconds();
+                label.setText(shown[0] + "s");
+            }
+            if (countdown.isExpired()) tick[0].cancel();
+        });
+    }
+
+    // Nachbau der Statusleiste aus TimeMode, damit Layout-Kosten vergleichbar sind
+    private static void show(JPanel content, JComponent bar, JLabel label) {
+        content.removeAll();
+        JPanel center = new JPanel();
+        center.setLayout(new BoxLayout(center, BoxLayout.Y_AXIS));
+        bar.setPreferredSize(new Dimension(520, 14));
+        bar.setMaximumSize(new Dimension(520, 14));
+        label.setAlignmentX(Component.CENTER_ALIGNMENT);
+        center.add(bar);
+        center.add(label);
+        content.add(center, BorderLayout.NORTH);
+        content.add(new JScrollPane(new JTextArea("Fragenkarte\n".repeat(40))), BorderLayout.CENTER);
+        content.revalidate();
+        content.repaint();
+    }
+
+    private static void onEdt(Runnable r) throws InterruptedException, InvocationTargetException {
+        SwingUtilities.invokeAndWait(r);
+    }
+}
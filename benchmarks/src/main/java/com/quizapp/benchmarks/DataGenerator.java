@@ -0,0 +1,152 @@
+package com.quizapp.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import com.quizapp.data.QuestionImporter;
+import com.quizapp.model.HighscoreEntry;
+import com.quizapp.model.Question;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Erzeugt reproduzierbare Testdaten (Fragen und Highscores) für die Benchmarks.
+ * <p>
+ * Datensatz {@code i} ist immer derselbe, unabhängig von der Gesamtgröße. Die
+ * {@code write...}-Methoden schreiben streamend im Format der Anwendung
+ * (pretty-printed JSON), sodass auch Dateien mit 10 Mio. Einträgen ohne großen Heap
+ * entstehen.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class DataGenerator {
+
+    /** Anzahl unterschiedlicher Spieler in den Highscores. */
+    public static final int PLAYERS = 2000;
+
+    private static final Gson GSON = new Gson();
+
+    private DataGenerator() {
+    }
+
+    /**
+     * @param i Laufende Nummer (ab 0).
+     * @return Frage Nummer {@code i} mit ID {@code i + 1}.
+     */
+    public static Question question(int i) {
+        return new Question("Wie lautet die richtige Antwort auf Frage Nummer " + i + "?",
+                new String[]{"Antwort " + i, "Ja", "Nein", "Vielleicht"}, i % 4).withId(i + 1);
+    }
+
+    /**
+     * @param i Laufende Nummer (ab 0).
+     * @return Highscore Nummer {@code i}; Punkte zwischen 0 und 299, Spieler reihum.
+     */
+    public static HighscoreEntry highscore(int i) {
+        int score = (int) ((i * 2_654_435_761L) % 300);
+        return new HighscoreEntry("Spieler " + (i % PLAYERS), score, "2024-01-" + (10 + i % 20));
+    }
+
+    /**
+     * @param n Anzahl.
+     * @return Die ersten {@code n} Fragen.
+     */
+    public static List<Question> questions(int n) {
+        List<Question> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) list.add(question(i));
+        return list;
+    }
+
+    /**
+     * @param n Anzahl.
+     * @return Die ersten {@code n} Highscores.
+     */
+    public static List<HighscoreEntry> highscores(int n) {
+        List<HighscoreEntry> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) list.add(highscore(i));
+        return list;
+    }
+
+    /**
+     * Schreibt {@code n} Fragen streamend als JSON-Datei.
+     *
+     * @param file Zieldatei.
+     * @param n    Anzahl.
+     * @throws IOException wenn die Datei nicht geschrieben werden kann.
+     */
+    public static void writeQuestions(Path file, int n) throws IOException {
+        try (JsonWriter out = open(file)) {
+            out.beginArray();
+            for (int i = 0; i < n; i++) GSON.toJson(question(i), Question.class, out);
+            out.endArray();
+        }
+    }
+
+    /**
+     * Schreibt {@code n} Highscores streamend als JSON-Datei.
+     *
+     * @param file Zieldatei.
+     * @param n    Anzahl.
+     * @throws IOException wenn die Datei nicht geschrieben werden kann.
+     */
+    public static void writeHighscores(Path file, int n) throws IOException {
+        try (JsonWriter out = open(file)) {
+            out.beginArray();
+            for (int i = 0; i < n; i++) GSON.toJson(highscore(i), HighscoreEntry.class, out);
+            out.endArray();
+        }
+    }
+
+    /**
+     * Schreibt {@code n} Fragen als Importdatei, eine Frage pro Zeile. Das Format
+     * (NDJSON oder CSV) ergibt sich wie beim Import aus der Dateiendung.
+     *
+     * @param file Zieldatei ({@code .ndjson} oder {@code .csv}).
+     * @param n    Anzahl.
+     * @throws IOException wenn die Datei nicht geschrieben werden kann.
+     */
+    public static void writeImport(Path file, int n) throws IOException {
+        boolean csv = QuestionImporter.Format.of(file) == QuestionImporter.Format.CSV;
+        try (Writer w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            if (csv) w.write("text,a,b,c,d,correctIndex\n");
+            for (int i = 0; i < n; i++) {
+                Question q = question(i);
+                if (csv) {
+                    w.write(q.getText() + "," + String.join(",", q.getOptions()) + "," + q.getCorrectIndex());
+                } else {
+                    GSON.toJson(q, w);
+                }
+                w.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Löscht ein Verzeichnis samt Dateien (ohne Unterverzeichnisse).
+     *
+     * @param dir Das Verzeichnis.
+     * @throws IOException wenn nicht gelöscht werden kann.
+     */
+    public static void deleteDir(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path p : (Iterable<Path>) files::iterator) Files.deleteIfExists(p);
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    private static JsonWriter open(Path file) throws IOException {
+        Writer w = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        JsonWriter out = GSON.newJsonWriter(w);
+        out.setIndent("  ");
+        return out;
+    }
+}
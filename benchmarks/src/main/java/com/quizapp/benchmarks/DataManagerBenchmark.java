@@ -0,0 +1,86 @@
+package com.quizapp.benchmarks;
+
+import com.quizapp.data.HighscoreIngest;
+import com.quizapp.data.HighscoreRepository;
+import com.quizapp.model.HighscoreEntry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misst die Highscore-Pfade des {@code DataManager}.
+ * <p>
+ * Der {@code DataManager} ist an die Dateien im Arbeitsverzeichnis gebunden; gemessen wird
+ * deshalb dasselbe, was er aufruft, auf Testdaten in einem temporären Verzeichnis:
+ * </p>
+ * <ul>
+ * <li>{@code loadHighscores}: {@code findAll()} auf dem geladenen Repository (Kopie der Rangliste).</li>
+ * <li>{@code loadHighscoresCold}: Datei parsen und Rangliste aufbauen (erster Aufruf nach dem Start).</li>
+ * <li>{@code getUserHighscore}: bester Score eines Spielers über den Spieler-Index.</li>
+ * <li>{@code saveHighscore}: ein dauerhaft gespeicherter Eintrag über die {@link HighscoreIngest}.</li>
+ * </ul>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DataManagerBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    private Path dir;
+    private Path file;
+    private HighscoreRepository repo;
+    private HighscoreIngest ingest;
+    private int player;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("quizapp-datamanager");
+        file = dir.resolve("highscores.json");
+        DataGenerator.writeHighscores(file, size);
+        repo = new HighscoreRepository(file, false);
+        repo.leaderboard();
+        ingest = new HighscoreIngest(repo, HighscoreIngest.DEFAULT_CAPACITY, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        ingest.close();
+        DataGenerator.deleteDir(dir);
+    }
+
+    @Benchmark
+    public List<HighscoreEntry> loadHighscores() {
+        return repo.findAll();
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public int loadHighscoresCold() {
+        return new HighscoreRepository(file, false).leaderboard().size();
+    }
+
+    @Benchmark
+    public Integer getUserHighscore() {
+        player = (player + 1) % DataGenerator.PLAYERS;
+        return repo.findBestScore("Spieler " + player);
+    }
+
+    @Benchmark
+    public void saveHighscore() throws InterruptedException {
+        ingest.await(ingest.submit(new HighscoreEntry("Benchmark", 42, "2024-01-15")));
+    }
+}
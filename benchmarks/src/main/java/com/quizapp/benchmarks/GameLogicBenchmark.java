@@ -0,0 +1,58 @@
+package com.quizapp.benchmarks;
+
+import com.quizapp.model.GameLogic;
+import com.quizapp.model.GameSession;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misst die Punkteberechnung: {@link GameLogic#calculateScore(boolean, int)} und die
+ * Punktevergabe der {@link GameSession} im Zeitmodus.
+ * <p>
+ * Eingaben kommen aus einer vorab gefüllten Tabelle, damit die Sprungvorhersage nicht
+ * auf ein festes Muster trainiert wird.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameLogicBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    private final GameLogic logic = new GameLogic();
+    private final GameSession session = new GameSession(GameSession.Mode.TIMED);
+    private final boolean[] correct = new boolean[INPUTS];
+    private final int[] secondsLeft = new int[INPUTS];
+    private int i;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (int k = 0; k < INPUTS; k++) {
+            correct[k] = random.nextBoolean();
+            secondsLeft[k] = random.nextInt(-1, 21);
+        }
+    }
+
+    @Benchmark
+    public int calculateScore() {
+        int k = i++ & (INPUTS - 1);
+        return logic.calculateScore(correct[k], secondsLeft[k]);
+    }
+
+    @Benchmark
+    public int sessionPoints() {
+        int k = i++ & (INPUTS - 1);
+        return session.points(correct[k], secondsLeft[k]);
+    }
+}
@@ -0,0 +1,57 @@
+package com.quizapp.benchmarks;
+
+import com.quizapp.model.GameSession;
+import com.quizapp.model.Question;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misst den Durchsatz simulierter Spielrunden ohne Oberfläche: eine Runde mit 10 Fragen,
+ * zufälligen Antworten, gelegentlichem Joker und Überspringen.
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameSessionBenchmark {
+
+    @Param({"CLASSIC", "TIMED"})
+    public GameSession.Mode mode;
+
+    private final List<Question> round = new ArrayList<>();
+    private final SplittableRandom random = new SplittableRandom(7);
+    private GameSession session;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < 10; i++) {
+            round.add(new Question("Frage " + i, new String[]{"A", "B", "C", "D"}, i % 4));
+        }
+        session = new GameSession(mode);
+    }
+
+    @Benchmark
+    public int playRound() {
+        session.start(round);
+        do {
+            int dice = random.nextInt(10);
+            if (dice == 0) session.use5050();
+            if (dice == 1) {
+                if (!session.skip()) break;
+                continue;
+            }
+            session.answer(random.nextInt(4), random.nextInt(21));
+        } while (session.next());
+        return session.score();
+    }
+}
@@ -0,0 +1,104 @@
+package com.quizapp.benchmarks;
+
+import com.quizapp.data.HighscoreIngest;
+import com.quizapp.data.HighscoreRepository;
+import com.quizapp.model.HighscoreEntry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Durchsatz beim Speichern von Highscores aus 1, 8 und 64 Threads, jeweils dauerhaft
+ * ({@code fsync}) gespeichert.
+ * <p>
+ * {@code direct}: jeder Thread schreibt seinen Eintrag selbst über das Repository
+ * (ein Journal-Anhang plus {@code fsync} pro Eintrag). {@code ingest}: alle Threads
+ * übergeben an die {@link HighscoreIngest}, deren Schreiber in Batches schreibt.
+ * Der Score ist in Einträgen pro Sekunde angegeben.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HighscoreIngestBenchmark {
+
+    private static final int ENTRIES = 640;
+
+    @Param({"1", "8", "64"})
+    int producers;
+
+    @Param({"direct", "ingest"})
+    String path;
+
+    private ExecutorService pool;
+    private Path dir;
+    private HighscoreRepository repo;
+    private HighscoreIngest ingest;
+
+    @Setup(Level.Trial)
+    public void startProducers() {
+        pool = Executors.newFixedThreadPool(producers);
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("quizapp-ingest");
+        repo = new HighscoreRepository(dir.resolve("highscores.json"), false);
+        repo.leaderboard();
+        ingest = new HighscoreIngest(repo, HighscoreIngest.DEFAULT_CAPACITY, true);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        ingest.close();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path p : (Iterable<Path>) files::iterator) Files.deleteIfExists(p);
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopProducers() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRIES)
+    public void save() throws Exception {
+        List<Future<?>> done = new ArrayList<>(producers);
+        for (int p = 0; p < producers; p++) {
+            String name = "Spieler " + p;
+            done.add(pool.submit(() -> {
+                int count = ENTRIES / producers;
+                for (int i = 0; i < count; i++) {
+                    HighscoreEntry entry = new HighscoreEntry(name, i, "2024-01-15");
+                    if (path.equals("direct")) {
+                        repo.addAll(List.of(entry), true);
+                    } else if (i < count - 1) {
+                        ingest.enqueue(entry);
+                    } else {
+                        ingest.await(ingest.submit(entry)); // wartet auf alle eigenen Einträge
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> f : done) f.get();
+    }
+}
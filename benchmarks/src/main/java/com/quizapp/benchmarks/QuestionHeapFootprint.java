@@ -0,0 +1,81 @@
+package com.quizapp.benchmarks;
+
+import com.quizapp.data.MappedQuestionStore;
+import com.quizapp.data.QuestionRepository;
+import com.quizapp.model.Question;
+import com.quizapp.model.QuestionSampler;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Vergleicht den Heap-Bedarf eines vollständig geladenen Fragenkatalogs
+ * ({@code ArrayList<Question>} im {@link QuestionRepository}) mit dem {@link MappedQuestionStore}.
+ * <p>
+ * Kein JMH-Benchmark, da hier Speicher und nicht Zeit gemessen wird. Aufruf:
+ * </p>
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.quizapp.benchmarks.QuestionHeapFootprint [anzahl]
+ * </pre>
+ * <p>
+ * Gemessen wird der belegte Heap nach einer vollständigen GC. Die Seiten der
+ * abgebildeten Datei liegen im Page Cache des Betriebssystems und zählen nicht zum Heap.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class QuestionHeapFootprint {
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    private QuestionHeapFootprint() {
+    }
+
+    /**
+     * @param args optional die Anzahl der Fragen (Standard: 1.000.000).
+     * @throws IOException wenn die Testdateien nicht geschrieben werden können.
+     */
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path dir = Files.createTempDirectory("quizapp-heap");
+        Path json = dir.resolve("questions.json");
+        try {
+            DataGenerator.writeQuestions(json, count);
+            new QuestionRepository(json, true).findAll(); // legt questions.bin an
+
+            long base = usedHeap();
+
+            QuestionRepository full = new QuestionRepository(json, false);
+            full.size();
+            long fullHeap = usedHeap() - base;
+            Reference.reachabilityFence(full);
+            full = null;
+
+            base = usedHeap();
+            MappedQuestionStore mapped = MappedQuestionStore.open(dir.resolve("questions.bin"));
+            List<Question> round = new QuestionSampler().sample(mapped, 10);
+            round.forEach(Question::getText); // wie beim Anzeigen im Quiz
+            long mappedHeap = usedHeap() - base;
+            Reference.reachabilityFence(mapped);
+
+            System.out.printf("Fragen:              %,d%n", count);
+            System.out.printf("ArrayList<Question>: %,d KB%n", fullHeap / 1024);
+            System.out.printf("MappedQuestionStore: %,d KB (Datei: %,d KB)%n",
+                    mappedHeap / 1024, Files.size(dir.resolve("questions.bin")) / 1024);
+        } finally {
+            DataGenerator.deleteDir(dir);
+        }
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) System.gc();
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,93 @@
+package com.quizapp.benchmarks;
+
+import com.quizapp.data.QuestionImporter;
+import com.quizapp.data.QuestionRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misst den Massenimport von Fragen in Fragen pro Sekunde.
+ * <ul>
+ * <li>{@code parse}: Datei lesen, parallel parsen und prüfen ({@link QuestionImporter#parse(Path)}).</li>
+ * <li>{@code importAll}: wie {@code parse}, danach alle Fragen mit einem Schreibvorgang in ein
+ *     leeres {@link QuestionRepository} übernehmen (wie {@code DataManager.importQuestions}).</li>
+ * </ul>
+ * <p>
+ * Die Spalte {@code questions} in der JMH-Ausgabe ist der Durchsatz in Fragen pro Sekunde;
+ * {@code ops/s} zählt ganze Dateien.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class QuestionImportBenchmark {
+
+    @Param({"1000000"})
+    int rows;
+
+    @Param({"ndjson", "csv"})
+    String format;
+
+    private Path dir;
+    private Path source;
+    private Path target;
+
+    /**
+     * Zählt die importierten Fragen; JMH gibt den Wert pro Sekunde aus.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Rows {
+        public long questions;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            questions = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("quizapp-import");
+        source = dir.resolve("fragen." + format);
+        target = dir.resolve("questions.json");
+        DataGenerator.writeImport(source, rows);
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyTarget() throws IOException {
+        Files.deleteIfExists(target);
+        Files.deleteIfExists(dir.resolve("questions.journal"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        DataGenerator.deleteDir(dir);
+    }
+
+    @Benchmark
+    public QuestionImporter.Result parse(Rows counted) throws IOException {
+        QuestionImporter.Result result = QuestionImporter.parse(source);
+        counted.questions += result.questions().size();
+        return result;
+    }
+
+    @Benchmark
+    public int importAll(Rows counted) throws IOException {
+        QuestionImporter.Result result = QuestionImporter.parse(source);
+        int stored = new QuestionRepository(target).addAll(result.questions()).size();
+        counted.questions += stored;
+        return stored;
+    }
+}
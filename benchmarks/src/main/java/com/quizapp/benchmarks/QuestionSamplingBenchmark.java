@@ -0,0 +1,71 @@
+package com.quizapp.benchmarks;
+
+import com.quizapp.model.Question;
+import com.quizapp.model.QuestionSampler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misst die Auswahl von 10 Fragen pro Spielrunde.
+ * <p>
+ * {@code shuffleSubList} entspricht dem bisherigen Ablauf in {@code Quiz.startGame}
+ * (Kopie über {@code loadQuestions()}, {@code Collections.shuffle}, {@code subList(0, 10)}).
+ * {@code floydSample} und {@code reservoirSample} nutzen den {@link QuestionSampler}.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestionSamplingBenchmark {
+
+    private static final int ROUND = 10;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    int poolSize;
+
+    private List<Question> pool;
+    private Random random;
+    private QuestionSampler sampler;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        pool = new ArrayList<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            pool.add(new Question("Frage " + i, new String[]{"A", "B", "C", "D"}, i % 4));
+        }
+        random = new Random(42);
+        sampler = new QuestionSampler(42);
+    }
+
+    /** Bisheriges Verfahren: gesamten Pool kopieren und mischen, dann die ersten 10 nehmen. */
+    @Benchmark
+    public List<Question> shuffleSubList() {
+        List<Question> all = new ArrayList<>(pool);
+        Collections.shuffle(all, random);
+        return all.subList(0, Math.min(all.size(), ROUND));
+    }
+
+    /** Floyd-Sampling über den wahlfreien Zugriff: O(k). */
+    @Benchmark
+    public List<Question> floydSample() {
+        return sampler.sample(pool, ROUND);
+    }
+
+    /** Reservoir-Sampling über einen Iterator (z.B. Streaming-Quelle): O(n) Zeit, O(k) Speicher. */
+    @Benchmark
+    public List<Question> reservoirSample() {
+        return sampler.sample(pool.iterator(), ROUND);
+    }
+}
@@ -0,0 +1,158 @@
+package com.quizapp.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.quizapp.data.Leaderboard;
+import com.quizapp.model.Question;
+import com.quizapp.server.QuizServer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lastgenerator für den {@link QuizServer}: öffnet viele Runden gleichzeitig und spielt
+ * sie anschließend parallel auf virtuellen Threads zu Ende.
+ * <p>
+ * Kein JMH-Benchmark, da ein ganzer Server unter Last gemessen wird. Aufruf:
+ * </p>
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.quizapp.benchmarks.ServerLoadGenerator [url|embedded] [runden] [parallel]
+ * </pre>
+ * <p>
+ * Ohne URL ({@code embedded}) wird ein Server mit 1.000 synthetischen Fragen im selben
+ * Prozess gestartet; Ergebnisse werden dann nur gezählt, nicht gespeichert. {@code parallel}
+ * begrenzt die gleichzeitig offenen HTTP-Anfragen (und damit die Verbindungen), nicht die
+ * Zahl der laufenden Runden.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class ServerLoadGenerator {
+
+    private ServerLoadGenerator() {
+    }
+
+    /**
+     * @param args optional URL (oder {@code embedded}), Anzahl Runden (Standard: 10.000)
+     *             und maximale Anzahl gleichzeitiger Anfragen (Standard: 256).
+     * @throws Exception wenn der Server nicht erreichbar ist.
+     */
+    public static void main(String[] args) throws Exception {
+        String target = args.length > 0 ? args[0] : "embedded";
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int parallel = args.length > 2 ? Integer.parseInt(args[2]) : 256;
+
+        QuizServer embedded = null;
+        LongAdder saved = new LongAdder();
+        String base = target;
+        if (target.equals("embedded")) {
+            List<Question> questions = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                questions.add(new Question("Frage " + i, new String[]{"A", "B", "C", "D"}, i % 4).withId(i + 1));
+            }
+            embedded = new QuizServer(questions, (player, score) -> saved.increment(), Leaderboard::empty);
+            embedded.start(0);
+            base = "http://localhost:" + embedded.port();
+        }
+
+        HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+        Semaphore inFlight = new Semaphore(parallel);
+        Gson gson = new Gson();
+        long[] latencies = new long[rounds * (QuizServer.QUESTIONS_PER_ROUND + 1)];
+        AtomicInteger samples = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        long[] ids = new long[rounds];
+        String url = base;
+
+        Request request = path -> {
+            inFlight.acquire();
+            long t0 = System.nanoTime();
+            try {
+                HttpResponse<String> r = client.send(HttpRequest.newBuilder(URI.create(url + path))
+                        .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+                if (r.statusCode() != 200) throw new IllegalStateException(r.statusCode() + " " + r.body());
+                return gson.fromJson(r.body(), JsonObject.class);
+            } finally {
+                int i = samples.getAndIncrement();
+                if (i < latencies.length) latencies[i] = System.nanoTime() - t0;
+                inFlight.release();
+            }
+        };
+
+        // Phase 1: alle Runden öffnen, sodass sie gleichzeitig auf dem Server liegen
+        long start = System.nanoTime();
+        try (ExecutorService players = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int p = 0; p < rounds; p++) {
+                int player = p;
+                players.submit(() -> {
+                    try {
+                        ids[player] = request.post("/sessions?player=Last" + player + "&mode=timed").get("session").getAsLong();
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                });
+            }
+        }
+        long opened = System.nanoTime();
+        JsonObject stats = gson.fromJson(client.send(HttpRequest.newBuilder(URI.create(url + "/stats")).build(),
+                HttpResponse.BodyHandlers.ofString()).body(), JsonObject.class);
+
+        // Phase 2: alle Runden parallel zu Ende spielen
+        try (ExecutorService players = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int p = 0; p < rounds; p++) {
+                long id = ids[p];
+                players.submit(() -> {
+                    try {
+                        JsonObject state;
+                        int answer = 0;
+                        do {
+                            state = request.post("/sessions/" + id + "/answer?choice=" + (answer++ % 4));
+                        } while (!state.get("finished").getAsBoolean());
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                });
+            }
+        }
+        long end = System.nanoTime();
+
+        int n = Math.min(samples.get(), latencies.length);
+        long[] sorted = Arrays.copyOf(latencies, n);
+        Arrays.sort(sorted);
+        double seconds = (end - start) / 1e9;
+        System.out.printf("Runden:            %,d (gleichzeitig offen: %s)%n", rounds, stats.get("activeSessions"));
+        System.out.printf("Öffnen:            %,.0f ms%n", (opened - start) / 1e6);
+        System.out.printf("Gesamt:            %,.1f s, %,.0f Runden/s, %,.0f Anfragen/s%n", seconds, rounds / seconds, n / seconds);
+        System.out.printf("Latenz p50/p99/max %,d / %,d / %,d µs%n",
+                micros(sorted, 0.50), micros(sorted, 0.99), n == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(sorted[n - 1]));
+        System.out.printf("Fehler:            %,d%n", errors.get());
+        if (embedded != null) {
+            System.out.printf("Gespeichert:       %,d%n", saved.sum());
+            embedded.stop();
+        }
+        System.exit(0);
+    }
+
+    private static long micros(long[] sorted, double quantile) {
+        if (sorted.length == 0) return 0;
+        return TimeUnit.NANOSECONDS.toMicros(sorted[(int) Math.min(sorted.length - 1, quantile * sorted.length)]);
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        JsonObject post(String path) throws Exception;
+    }
+}
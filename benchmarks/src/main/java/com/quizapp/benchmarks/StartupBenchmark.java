@@ -0,0 +1,82 @@
+package com.quizapp.benchmarks;
+
+import com.quizapp.data.HighscoreRepository;
+import com.quizapp.data.QuestionRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misst den Kaltstart der Repositories: pretty-printed JSON mit Gson parsen gegenüber
+ * dem memory-mapped Binär-Snapshot ({@code -Dquizapp.binarySnapshot=true}).
+ * <p>
+ * Jede Invocation erzeugt ein neues Repository und lädt die Daten vollständig, wie
+ * es {@code Main} beim Start über {@code ensureQuestionsExist()} und
+ * {@code ensureHighscoresExist()} tut. Im Binär-Fall ist die Prüfsummenberechnung
+ * der JSON-Datei (für die Zuordnung von Snapshot und Journal) mit enthalten.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StartupBenchmark {
+
+    @Param({"1000", "100000"})
+    int entries;
+
+    private Path dir;
+    private Path questionsFile;
+    private Path highscoresFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("quizapp-startup");
+        questionsFile = dir.resolve("questions.json");
+        highscoresFile = dir.resolve("highscores.json");
+        DataGenerator.writeQuestions(questionsFile, entries);
+        DataGenerator.writeHighscores(highscoresFile, entries);
+
+        // Binär-Snapshots einmal erzeugen, damit die Messung den Cache-Treffer zeigt
+        new QuestionRepository(questionsFile, true).size();
+        new HighscoreRepository(highscoresFile, true).leaderboard();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        DataGenerator.deleteDir(dir);
+    }
+
+    /** Fragen aus der JSON-Datei laden. */
+    @Benchmark
+    public int questionsJson() {
+        return new QuestionRepository(questionsFile, false).size();
+    }
+
+    /** Fragen aus dem Binär-Snapshot laden. */
+    @Benchmark
+    public int questionsBinary() {
+        return new QuestionRepository(questionsFile, true).size();
+    }
+
+    /** Highscores aus der JSON-Datei laden und die Rangliste aufbauen. */
+    @Benchmark
+    public int highscoresJson() {
+        return new HighscoreRepository(highscoresFile, false).leaderboard().size();
+    }
+
+    /** Highscores aus dem Binär-Snapshot laden und die Rangliste aufbauen. */
+    @Benchmark
+    public int highscoresBinary() {
+        return new HighscoreRepository(highscoresFile, true).leaderboard().size();
+    }
+}
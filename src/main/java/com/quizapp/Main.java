@@ -1,17 +1,27 @@
 package com.quizapp;
 
+import com.quizapp.data.AsyncDataManager;
 import com.quizapp.data.DataManager;
+import com.quizapp.metrics.Metrics;
+import com.quizapp.metrics.MetricsExporter;
+import com.quizapp.server.QuizServer;
 import com.quizapp.view.components.HeaderBar;
 import com.quizapp.view.*;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  * Die Hauptklasse (Entry Point) der QuizApp-Anwendung.
  * <p>
  * Diese Klasse ist verantwortlich für die Initialisierung des Hauptfensters (JFrame),
- * den Aufbau der Navigationsstruktur mittels {@link CardLayout} und die Verwaltung
+ * den Aufbau der Navigationsstruktur mittels {@link LazyCards} (CardLayout) und die Verwaltung
  * des globalen Benutzerzustands. Sie verknüpft die verschiedenen Views (Login, Menü, Quiz etc.)
  * und implementiert die Sicherheitslogik für den Administrator-Zugang.
  * </p>
@@ -25,19 +35,51 @@ public class Main {
     /**
      * Die Main-Methode dient als Einstiegspunkt der Anwendung.
      * <p>
-     * Sie startet die grafische Benutzeroberfläche (GUI) im Event Dispatch Thread (EDT),
-     * um Thread-Sicherheit zu gewährleisten. Hier werden alle Seiten (Views) instanziiert
-     * und die Navigationslogik (Callback-Methoden) definiert.
+     * Sie startet das Vorladen der Daten auf dem I/O-Thread und baut parallel dazu die
+     * grafische Benutzeroberfläche (GUI) im Event Dispatch Thread (EDT) auf. Beim Start
+     * werden nur das Fenster und die Login-Seite erzeugt; alle anderen Seiten (Views)
+     * entstehen über {@link LazyCards} erst beim ersten Aufruf. Hier wird außerdem die
+     * Navigationslogik (Callback-Methoden) definiert.
      * </p>
      *
-     * @param args Kommandozeilenargumente (werden in dieser Anwendung nicht verwendet).
+     * @param args Kommandozeilenargumente; {@code --server [port]} startet statt der
+     *             Oberfläche den {@link QuizServer}.
+     * @throws IOException wenn der Server-Port nicht belegt werden kann.
      */
-    public static void main(String[] args) {
-        // Daten-Initialisierung VOR dem Start der UI
-        // 1. Sicherstellen, dass Fragen existieren
-        DataManager.ensureQuestionsExist();
-        // 2. Sicherstellen, dass Dummy-Highscores existieren (Anforderung 1c)
-        DataManager.ensureHighscoresExist();
+    public static void main(String[] args) throws IOException {
+        // Metriken exportieren (-Dquizapp.metrics=datei, -Dquizapp.metricsPort=port)
+        boolean metrics = MetricsExporter.startFromSystemProperties();
+
+        if (args.length > 0 && args[0].equals("--server")) {
+            // Server-Modus ohne Fenster (siehe QuizServer)
+            QuizServer.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
+        StartupTimer startup = new StartupTimer();
+        if (Boolean.getBoolean("quizapp.edtBusy")) {
+            EdtBusyMeter meter = EdtBusyMeter.install();
+            meter.reportEvery(5);
+            Metrics.gauge("quizapp_edt_busy_seconds", "Arbeitszeit des EDT seit dem Start",
+                    () -> meter.busyNanos() / 1e9);
+        }
+        if (metrics) {
+            EdtLatencyProbe.start(100);
+        }
+        // EDT-Hänger mit Stack protokollieren (-Dquizapp.edtWatchdog=250)
+        EdtStallWatchdog.startFromSystemProperties();
+
+        // Daten-Initialisierung im Hintergrund, parallel zum Aufbau des Fensters.
+        // Alle späteren Datenzugriffe der Views laufen auf demselben Thread und warten so automatisch darauf.
+        CompletableFuture<Void> warmUp = AsyncDataManager.run(() -> {
+            // 1. Sicherstellen, dass Fragen existieren
+            DataManager.ensureQuestionsExist();
+            // 2. Sicherstellen, dass Dummy-Highscores existieren (Anforderung 1c)
+            DataManager.ensureHighscoresExist();
+            // 3. Von außen ersetzte questions.json im laufenden Betrieb übernehmen
+            // (gezählt in quizapp_question_reloads_total; Hinweis wie die übrigen Diagnosen auf stderr)
+            DataManager.watchQuestions(diff -> System.err.println("Fragen neu geladen: " + diff));
+        });
 
         SwingUtilities.invokeLater(() -> {
             // Initialisierung des Hauptfensters
@@ -46,6 +88,12 @@ public class Main {
             frame.setSize(1280, 720);
             frame.setLocationRelativeTo(null); // Zentriert das Fenster auf dem Bildschirm
             frame.setLayout(new BorderLayout());
+            frame.addWindowListener(new WindowAdapter() {
+                @Override
+                public void windowOpened(WindowEvent e) {
+                    startup.frameVisible();
+                }
+            });
 
             // Header-Leiste initialisieren (wird erst nach Login angezeigt)
             HeaderBar headerBar = new HeaderBar("QuizApp");
@@ -55,9 +103,9 @@ public class Main {
             // (Array wird genutzt, um den Wert innerhalb von Lambda-Ausdrücken veränderbar zu machen)
             final String[] currentUser = { "Gast" };
 
-            // Layout-Manager für die Navigation (Seitenwechsel)
-            CardLayout cardLayout = new CardLayout();
-            JPanel cardPanel = new JPanel(cardLayout);
+            // Navigation (Seitenwechsel); Seiten werden erst beim ersten Anzeigen erzeugt
+            LazyCards cards = new LazyCards();
+            Runnable backToMenu = () -> cards.show("MAIN_MENU");
 
             // --- Initialisierung der Seiten (Views) ---
 
@@ -70,34 +118,34 @@ public class Main {
                 frame.revalidate();
                 frame.repaint();
 
-                cardLayout.show(cardPanel, "MAIN_MENU");
+                cards.show("MAIN_MENU");
             });
 
-            // Initialisierung der Funktionsseiten mit Navigations-Callbacks
-            Quiz quizPage = new Quiz(() -> cardLayout.show(cardPanel, "MAIN_MENU"));
-            Highscores highscoresPage = new Highscores(() -> cardLayout.show(cardPanel, "MAIN_MENU"));
-            Credits creditsPage = new Credits(() -> cardLayout.show(cardPanel, "MAIN_MENU"));
-            TimeMode timeModePage = new TimeMode(() -> cardLayout.show(cardPanel, "MAIN_MENU"));
-            Admin adminPage = new Admin(() -> cardLayout.show(cardPanel, "MAIN_MENU"));
+            // Funktionsseiten mit Navigations-Callbacks (lazy)
+            Supplier<Quiz> quizPage = cards.register("QUIZ", () -> new Quiz(backToMenu), Quiz::getMainPanel);
+            Supplier<Highscores> highscoresPage = cards.register("HIGHSCORES", () -> new Highscores(backToMenu), Highscores::getMainPanel);
+            cards.register("CREDITS", () -> new Credits(backToMenu), Credits::getMainPanel);
+            Supplier<TimeMode> timeModePage = cards.register("TIME_MODE", () -> new TimeMode(backToMenu), TimeMode::getMainPanel);
+            cards.register("ADMIN", () -> new Admin(backToMenu), Admin::getMainPanel);
 
             // HAUPTMENÜ: Definition der Aktionen für die Menü-Buttons
-            MainMenu mainMenu = new MainMenu(
+            cards.register("MAIN_MENU", () -> new MainMenu(
                     // 1. Klassisches Quiz starten
                     () -> {
-                        quizPage.startGame(currentUser[0]);
-                        cardLayout.show(cardPanel, "QUIZ");
+                        quizPage.get().startGame(currentUser[0]);
+                        cards.show("QUIZ");
                     },
                     // 2. Highscores anzeigen
                     () -> {
-                        highscoresPage.refresh();
-                        cardLayout.show(cardPanel, "HIGHSCORES");
+                        highscoresPage.get().refresh();
+                        cards.show("HIGHSCORES");
                     },
                     // 3. Credits anzeigen
-                    () -> cardLayout.show(cardPanel, "CREDITS"),
+                    () -> cards.show("CREDITS"),
                     // 4. Zeit-Modus starten
                     () -> {
-                        timeModePage.startGame(currentUser[0]);
-                        cardLayout.show(cardPanel, "TIME_MODE");
+                        timeModePage.get().startGame(currentUser[0]);
+                        cards.show("TIME_MODE");
                     },
                     // 5. Admin-Bereich (🔒 GESICHERT DURCH SHA-256)
                     () -> {
@@ -112,28 +160,21 @@ public class Main {
 
                             // Prüfung des Hash-Wertes statt Klartext-Vergleich
                             if (checkPassword(input)) {
-                                cardLayout.show(cardPanel, "ADMIN");
+                                cards.show("ADMIN");
                             } else {
                                 JOptionPane.showMessageDialog(frame, "Falsches Passwort!", "Fehler", JOptionPane.ERROR_MESSAGE);
                             }
                         }
                     }
-            );
+            ), MainMenu::getMainPanel);
 
-            // --- Hinzufügen der Seiten zum CardLayout ---
-            cardPanel.add(loginPage.getMainPanel(), "LOGIN");
-            cardPanel.add(mainMenu.getMainPanel(), "MAIN_MENU");
-            cardPanel.add(quizPage.getMainPanel(), "QUIZ");
-            cardPanel.add(highscoresPage.getMainPanel(), "HIGHSCORES");
-            cardPanel.add(creditsPage.getMainPanel(), "CREDITS");
-            cardPanel.add(timeModePage.getMainPanel(), "TIME_MODE");
-            cardPanel.add(adminPage.getMainPanel(), "ADMIN");
+            // --- Startseite ist der Login ---
+            cards.add("LOGIN", loginPage.getMainPanel());
 
             // Startkonfiguration: Header noch nicht sichtbar
-            frame.add(cardPanel, BorderLayout.CENTER);
+            frame.add(cards.getPanel(), BorderLayout.CENTER);
 
-            // Startseite ist der Login
-            cardLayout.show(cardPanel, "LOGIN");
+            cards.show("LOGIN");
             frame.setVisible(true);
 
             loginPage.focusUsername();
@@ -148,13 +189,15 @@ public class Main {
                 frame.revalidate();
                 frame.repaint();
 
-                cardLayout.show(cardPanel, "LOGIN");
+                cards.show("LOGIN");
                 loginPage.focusUsername();
             });
 
             // Home: Kehrt immer zum Hauptmenü zurück
-            headerBar.onHome(() -> cardLayout.show(cardPanel, "MAIN_MENU"));
+            headerBar.onHome(backToMenu);
         });
+
+        startup.interactiveAfter(warmUp, SwingUtilities::invokeLater);
     }
 
     /**
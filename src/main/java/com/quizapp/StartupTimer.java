@@ -0,0 +1,83 @@
+package com.quizapp;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Misst die Startzeit der Anwendung, gerechnet ab dem Start der JVM.
+ * <p>
+ * Erfasst werden zwei Zeitpunkte:
+ * </p>
+ * <ul>
+ * <li><b>Erstes Fenster:</b> das Hauptfenster ist zum ersten Mal sichtbar.</li>
+ * <li><b>Interaktiv:</b> das Fenster ist sichtbar, die Daten sind im Hintergrund
+ *     vorgeladen und der EDT hat alle bis dahin angefallenen Aufgaben abgearbeitet.</li>
+ * </ul>
+ * <p>
+ * Aktiviert wird die Ausgabe über {@code -Dquizapp.startupTiming=true} (Konsole) oder
+ * {@code -Dquizapp.startupTiming=startup.csv} (eine CSV-Zeile pro Start, zum Verfolgen
+ * über mehrere Versionen).
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+final class StartupTimer {
+
+    private static final String TARGET = System.getProperty("quizapp.startupTiming");
+    private static final long JVM_START = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    private final CompletableFuture<Long> firstFrame = new CompletableFuture<>();
+
+    /**
+     * Merkt den Zeitpunkt, an dem das erste Fenster sichtbar wurde.
+     */
+    void frameVisible() {
+        firstFrame.complete(sinceJvmStart());
+    }
+
+    /**
+     * Wartet auf Fenster und Daten und protokolliert dann die Zeiten.
+     *
+     * @param warmUp Future des Daten-Vorladens.
+     * @param onEdt  Führt eine Aufgabe am Ende der EDT-Warteschlange aus (z.B. {@code SwingUtilities::invokeLater}).
+     */
+    void interactiveAfter(CompletableFuture<?> warmUp, Consumer<Runnable> onEdt) {
+        if (TARGET == null || TARGET.isBlank() || TARGET.equals("false")) {
+            return;
+        }
+        CompletableFuture.allOf(firstFrame, warmUp).whenComplete((v, error) -> onEdt.accept(() -> {
+            long interactive = sinceJvmStart();
+            CompletableFuture.runAsync(() -> report(firstFrame.join(), interactive)); // nicht auf dem EDT schreiben
+        }));
+    }
+
+    private static long sinceJvmStart() {
+        return System.currentTimeMillis() - JVM_START;
+    }
+
+    private static void report(long frameMs, long interactiveMs) {
+        if (TARGET.equals("true")) {
+            System.out.println("Startzeit: erstes Fenster " + frameMs + " ms, interaktiv " + interactiveMs + " ms");
+            return;
+        }
+        Path csv = Path.of(TARGET);
+        try {
+            if (!Files.exists(csv)) {
+                Files.writeString(csv, "zeitpunkt,erstesFensterMs,interaktivMs\n", StandardCharsets.UTF_8);
+            }
+            Files.writeString(csv, LocalDateTime.now() + "," + frameMs + "," + interactiveMs + "\n",
+                    StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.quizapp.data;
+
+import com.quizapp.model.Question;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Asynchroner Zugriff auf den {@link DataManager} für die Views.
+ * <p>
+ * Alle Aufrufe laufen auf einem eigenen I/O-Thread ({@code quizapp-io}) und liefern ein
+ * {@link CompletableFuture}. Die Views hängen ihre UI-Aktualisierung mit
+ * {@code thenAcceptAsync(..., SwingUtilities::invokeLater)} an, sodass der
+ * Event Dispatch Thread nie auf Festplatte oder JSON-Parsing warten muss.
+ * </p>
+ * <p>
+ * Da alle Aufgaben auf demselben Thread in Reihenfolge ausgeführt werden, sieht z.B. ein
+ * {@link #loadLeaderboard()} nach einem {@link #saveHighscore(String, int)} garantiert
+ * den neuen Eintrag.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class AsyncDataManager {
+
+    private static final ExecutorService IO = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "quizapp-io");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private AsyncDataManager() {
+        // Utility-Klasse
+    }
+
+    /**
+     * Führt eine beliebige Datenabfrage auf dem I/O-Thread aus.
+     *
+     * @param task Die Abfrage.
+     * @param <T>  Ergebnistyp.
+     * @return Future mit dem Ergebnis.
+     */
+    public static <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, IO).whenComplete(AsyncDataManager::logFailure);
+    }
+
+    /**
+     * Führt eine beliebige Datenoperation auf dem I/O-Thread aus.
+     *
+     * @param task Die Operation.
+     * @return Future, das nach Abschluss erfüllt wird.
+     */
+    public static CompletableFuture<Void> run(Runnable task) {
+        return CompletableFuture.runAsync(task, IO).whenComplete(AsyncDataManager::logFailure);
+    }
+
+    // Die Views hängen meist nur den Erfolgsfall an; Schreibfehler sollen trotzdem sichtbar bleiben
+    private static void logFailure(Object result, Throwable error) {
+        if (error != null) {
+            error.printStackTrace();
+        }
+    }
+
+    /**
+     * Beschreibt den Fehler eines fehlgeschlagenen Futures für eine Meldung an den Benutzer.
+     * <p>
+     * Packt {@link CompletionException} und {@link UncheckedIOException} aus, sodass die
+     * eigentliche Ursache (z.B. eine {@code AccessDeniedException} mit Dateipfad) genannt wird.
+     * </p>
+     *
+     * @param error Der Fehler aus {@code whenComplete} bzw. {@code exceptionally}.
+     * @return Kurzbeschreibung der Ursache.
+     */
+    public static String describeFailure(Throwable error) {
+        while (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error instanceof UncheckedIOException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error.toString();
+    }
+
+    /**
+     * @return Future mit der aktuellen Rangliste.
+     * @see DataManager#getLeaderboard()
+     */
+    public static CompletableFuture<Leaderboard> loadLeaderboard() {
+        return supply(DataManager::getLeaderboard);
+    }
+
+    /**
+     * @return Future mit einer Kopie aller Fragen.
+     * @see DataManager#loadQuestions()
+     */
+    public static CompletableFuture<List<Question>> loadQuestions() {
+        return supply(DataManager::loadQuestions);
+    }
+
+    /**
+     * @param count Anzahl der gewünschten Fragen.
+     * @return Future mit den zufällig gewählten Fragen.
+     * @see DataManager#sampleQuestions(int)
+     */
+    public static CompletableFuture<List<Question>> sampleQuestions(int count) {
+        return supply(() -> DataManager.sampleQuestions(count));
+    }
+
+    /**
+     * @param name  Spielername.
+     * @param score Erreichte Punktzahl.
+     * @return Future, das nach dem Speichern erfüllt wird.
+     * @see DataManager#saveHighscore(String, int)
+     */
+    public static CompletableFuture<Void> saveHighscore(String name, int score) {
+        return run(() -> DataManager.saveHighscore(name, score));
+    }
+
+    /**
+     * @param q Die neue Frage.
+     * @return Future mit der gespeicherten Frage (inkl. vergebener ID).
+     * @see DataManager#saveQuestion(Question)
+     */
+    public static CompletableFuture<Question> saveQuestion(Question q) {
+        return supply(() -> DataManager.saveQuestion(q));
+    }
+
+    /**
+     * @param file NDJSON- oder CSV-Datei mit neuen Fragen.
+     * @return Future mit den gespeicherten Fragen bzw. den Fehlern pro Zeile.
+     * @see DataManager#importQuestions(Path)
+     */
+    public static CompletableFuture<QuestionImporter.Result> importQuestions(Path file) {
+        return supply(() -> DataManager.importQuestions(file));
+    }
+
+    /**
+     * @param id       ID der Frage.
+     * @param updatedQ Neue Version der Frage.
+     * @return Future mit {@code true}, wenn die Frage existierte.
+     * @see DataManager#updateQuestion(long, Question)
+     */
+    public static CompletableFuture<Boolean> updateQuestion(long id, Question updatedQ) {
+        return supply(() -> DataManager.updateQuestion(id, updatedQ));
+    }
+
+    /**
+     * @param id ID der Frage.
+     * @return Future mit {@code true}, wenn die Frage existierte.
+     * @see DataManager#deleteQuestion(long)
+     */
+    public static CompletableFuture<Boolean> deleteQuestion(long id) {
+        return supply(() -> DataManager.deleteQuestion(id));
+    }
+}
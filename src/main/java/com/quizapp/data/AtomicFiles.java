@@ -0,0 +1,92 @@
+package com.quizapp.data;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Absturzsicheres Ersetzen von Dateien.
+ * <p>
+ * Der neue Inhalt wird zuerst vollständig in eine temporäre Datei im selben Verzeichnis
+ * geschrieben und mit {@link FileChannel#force(boolean)} auf die Platte gebracht.
+ * Erst danach ersetzt ein atomares {@link Files#move} die Zieldatei. Ein Leser (oder
+ * ein Neustart nach einem Absturz) sieht dadurch immer entweder den alten oder den
+ * neuen, aber nie einen leeren oder halb geschriebenen Inhalt.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class AtomicFiles {
+
+    /**
+     * Schreibt den Inhalt einer Datei in einen Stream.
+     */
+    @FunctionalInterface
+    public interface Content {
+        /**
+         * Schreibt den Dateiinhalt.
+         *
+         * @param out Ziel-Stream (gepuffert; wird vom Aufrufer geschlossen).
+         * @throws IOException bei Schreibfehlern.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private AtomicFiles() {
+        // Utility-Klasse
+    }
+
+    /**
+     * Ersetzt die Zieldatei atomar durch den angegebenen Inhalt.
+     *
+     * @param target  Die zu ersetzende Datei.
+     * @param content Erzeugt den neuen Inhalt.
+     * @throws IOException wenn Schreiben oder Umbenennen fehlschlägt; die Zieldatei bleibt dann unverändert.
+     */
+    public static void write(Path target, Content content) throws IOException {
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(ch), 64 * 1024);
+                content.writeTo(out);
+                out.flush();
+                ch.force(true);
+            }
+            move(tmp, target);
+            syncDirectory(target.toAbsolutePath().getParent());
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static void move(Path from, Path to) throws IOException {
+        try {
+            Files.move(from, to, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Macht die Umbenennung selbst dauerhaft. Auf Systemen, die Verzeichnisse nicht
+     * als Kanal öffnen können (z.B. Windows), wird dieser Schritt übersprungen.
+     */
+    private static void syncDirectory(Path dir) {
+        if (dir == null) return;
+        try (FileChannel ch = FileChannel.open(dir, StandardOpenOption.READ)) {
+            ch.force(true);
+        } catch (IOException e) {
+            // Nicht unterstützt – die Datei selbst ist bereits synchronisiert.
+        }
+    }
+}
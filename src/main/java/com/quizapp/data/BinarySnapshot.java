@@ -0,0 +1,382 @@
+package com.quizapp.data;
+
+import com.quizapp.metrics.FileIoEvent;
+import com.quizapp.model.HighscoreEntry;
+import com.quizapp.model.Question;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Kompaktes, versioniertes Binärformat für die Fragen- und Highscore-Snapshots.
+ * <p>
+ * Die JSON-Dateien bleiben das maßgebliche Format. Der Binär-Snapshot ist ein aus ihnen
+ * erzeugter Cache ({@code questions.json -> questions.bin}), der die CRC32-Prüfsumme
+ * der JSON-Quelle enthält. Beim Start muss dann nur noch die Prüfsumme der JSON-Datei
+ * berechnet werden (die das {@link Journal} ohnehin braucht); stimmt sie überein,
+ * werden die Daten über einen memory-mapped {@link FileChannel} aus dem Binär-Snapshot
+ * gelesen, statt das JSON reflektiv mit Gson zu parsen. Passt sie nicht, wird das JSON
+ * gelesen und der Binär-Snapshot neu geschrieben. Aktiviert wird der Cache über
+ * {@code -Dquizapp.binarySnapshot=true}.
+ * </p>
+ * <p>
+ * Aufbau (Big Endian):
+ * </p>
+ * <pre>
+ * int    magic ("QZBS")       short  version        byte kind (1 = Fragen, 2 = Highscores)
+ * byte   reserviert           long   CRC32 der JSON-Quelle
+ * int    Anzahl Strings       int[n+1] Offsets in die String-Daten    byte[] String-Daten (UTF-8)
+ * Fragen:     int Anzahl, int Anzahl Antwort-Refs, int[] Antwort-Refs,
+ *             je Frage 20 Byte: long id, int textRef, int ersterAntwortRef, short anzahlAntworten, short correctIndex
+ * Highscores: int Anzahl, je Eintrag varint nameRef, varint score (zigzag), varint dateRef
+ * int    CRC32 aller vorherigen Bytes
+ * </pre>
+ * <p>
+ * Gleiche Texte (Antworten wie "Ja"/"Nein", Spielernamen, Datumswerte) stehen nur einmal
+ * in der String-Tabelle. Über die Offset-Tabelle kann jeder String einzeln dekodiert werden.
+ * Fehlende Werte aus einer von Hand bearbeiteten JSON-Datei bleiben erhalten: ein fehlender
+ * String hat den Ref {@link #NULL_REF}, eine fehlende Antwortliste die Anzahl {@code -1}.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+final class BinarySnapshot {
+
+    /** {@code true}, wenn der Binär-Snapshot verwendet werden soll ({@code -Dquizapp.binarySnapshot=true}). */
+    static final boolean ENABLED = Boolean.getBoolean("quizapp.binarySnapshot");
+
+    static final int MAGIC = 0x515A4253; // "QZBS"
+    static final short VERSION = 2; // 2: null-Strings und -Antwortlisten statt ""
+    static final byte KIND_QUESTIONS = 1;
+    static final byte KIND_HIGHSCORES = 2;
+
+    /** Ref für einen fehlenden ({@code null}) String. */
+    static final int NULL_REF = -1;
+
+    /** Länge eines Fragen-Datensatzes in Byte. */
+    static final int QUESTION_RECORD = 20;
+
+    /** Prüfsumme, die beim Lesen jeden Binär-Snapshot unabhängig von der Quelle akzeptiert. */
+    static final long ANY_SOURCE = -1;
+
+    /** Länge des festen Dateikopfs; danach beginnt die String-Tabelle. */
+    static final int HEADER = 4 + 2 + 1 + 1 + 8;
+
+    private BinarySnapshot() {
+        // Utility-Klasse
+    }
+
+    /**
+     * Leitet den Pfad des Binär-Snapshots aus dem JSON-Pfad ab ({@code questions.json -> questions.bin}).
+     *
+     * @param json Pfad der JSON-Datei.
+     * @return Pfad des zugehörigen Binär-Snapshots.
+     */
+    static Path siblingOf(Path json) {
+        String name = json.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return json.resolveSibling((dot > 0 ? name.substring(0, dot) : name) + ".bin");
+    }
+
+    /**
+     * Berechnet die CRC32-Prüfsumme einer Datei über einen memory-mapped Puffer, ohne sie zu parsen.
+     *
+     * @param file Die Datei.
+     * @return Die Prüfsumme (0, wenn die Datei fehlt).
+     * @throws IOException wenn die Datei nicht gelesen werden kann.
+     */
+    static long crcOf(Path file) throws IOException {
+        EdtIoGuard.check("read", file);
+        CRC32 crc = new CRC32();
+        if (Files.exists(file)) {
+            try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+                crc.update(ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size()));
+            }
+        }
+        return crc.getValue();
+    }
+
+    // ==========================================
+    //                 SCHREIBEN
+    // ==========================================
+
+    /**
+     * Schreibt die Fragen atomar als Binär-Snapshot.
+     *
+     * @param file      Zieldatei.
+     * @param questions Die Fragen in Speicherreihenfolge.
+     * @param sourceCrc Prüfsumme der JSON-Quelle.
+     * @throws IOException wenn die Datei nicht geschrieben werden kann.
+     */
+    static void writeQuestions(Path file, List<Question> questions, long sourceCrc) throws IOException {
+        FileIoEvent io = FileIoEvent.start("write", file);
+        StringTable strings = new StringTable();
+        int[] textRefs = new int[questions.size()];
+        List<Integer> optionRefs = new ArrayList<>();
+        for (int i = 0; i < questions.size(); i++) {
+            Question q = questions.get(i);
+            textRefs[i] = strings.ref(q.getText());
+            if (q.getOptions() == null) continue; // Frage ohne Antwortliste, wie im JSON
+            for (String o : q.getOptions()) optionRefs.add(strings.ref(o));
+        }
+
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(buf);
+        writeHeader(out, KIND_QUESTIONS, sourceCrc, strings);
+        out.writeInt(questions.size());
+        out.writeInt(optionRefs.size());
+        for (int ref : optionRefs) out.writeInt(ref);
+        int firstOption = 0;
+        for (int i = 0; i < questions.size(); i++) {
+            Question q = questions.get(i);
+            out.writeLong(q.getId());
+            out.writeInt(textRefs[i]);
+            out.writeInt(firstOption);
+            int options = q.getOptions() == null ? -1 : q.getOptions().length;
+            out.writeShort(options);
+            out.writeShort(q.getCorrectIndex());
+            firstOption += Math.max(options, 0);
+        }
+        finish(file, buf, out);
+        if (io != null) io.finish(buf.size() + 4L, questions.size());
+    }
+
+    /**
+     * Schreibt die Highscores atomar als Binär-Snapshot.
+     *
+     * @param file      Zieldatei.
+     * @param entries   Die Einträge.
+     * @param sourceCrc Prüfsumme der JSON-Quelle.
+     * @throws IOException wenn die Datei nicht geschrieben werden kann.
+     */
+    static void writeHighscores(Path file, List<HighscoreEntry> entries, long sourceCrc) throws IOException {
+        FileIoEvent io = FileIoEvent.start("write", file);
+        StringTable strings = new StringTable();
+        for (HighscoreEntry e : entries) {
+            strings.ref(e.getPlayerName());
+            strings.ref(e.getDate());
+        }
+
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(buf);
+        writeHeader(out, KIND_HIGHSCORES, sourceCrc, strings);
+        out.writeInt(entries.size());
+        for (HighscoreEntry e : entries) {
+            writeVarint(out, strings.ref(e.getPlayerName()));
+            writeVarint(out, (e.getScore() << 1) ^ (e.getScore() >> 31)); // zigzag
+            writeVarint(out, strings.ref(e.getDate()));
+        }
+        finish(file, buf, out);
+        if (io != null) io.finish(buf.size() + 4L, entries.size());
+    }
+
+    private static void writeHeader(DataOutputStream out, byte kind, long sourceCrc, StringTable strings)
+            throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeByte(kind);
+        out.writeByte(0);
+        out.writeLong(sourceCrc);
+        out.writeInt(strings.values.size());
+        byte[][] encoded = new byte[strings.values.size()][];
+        int offset = 0;
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = strings.values.get(i).getBytes(StandardCharsets.UTF_8);
+            out.writeInt(offset);
+            offset += encoded[i].length;
+        }
+        out.writeInt(offset);
+        for (byte[] b : encoded) out.write(b);
+    }
+
+    private static void finish(Path file, ByteArrayOutputStream buf, DataOutputStream out) throws IOException {
+        out.flush();
+        CRC32 crc = new CRC32();
+        byte[] body = buf.toByteArray();
+        crc.update(body);
+        EdtIoGuard.check("write", file);
+        AtomicFiles.write(file, o -> {
+            DataOutputStream d = new DataOutputStream(o);
+            d.write(body);
+            d.writeInt((int) crc.getValue());
+            d.flush();
+        });
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    // ==========================================
+    //                  LESEN
+    // ==========================================
+
+    /**
+     * Liest die Fragen aus einem Binär-Snapshot.
+     *
+     * @param file      Der Binär-Snapshot.
+     * @param sourceCrc Erwartete Prüfsumme der JSON-Quelle oder {@link #ANY_SOURCE}.
+     * @return Die Fragen oder {@code null}, wenn die Datei fehlt, beschädigt ist oder zu einer anderen Quelle gehört.
+     */
+    static List<Question> readQuestions(Path file, long sourceCrc) {
+        FileIoEvent io = FileIoEvent.start("read", file);
+        ByteBuffer buf = map(file, KIND_QUESTIONS, sourceCrc);
+        if (buf == null) return null;
+        try {
+            Strings strings = new Strings(buf);
+            int count = buf.getInt();
+            int[] optionRefs = new int[buf.getInt()];
+            for (int i = 0; i < optionRefs.length; i++) optionRefs[i] = buf.getInt();
+            List<Question> questions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long id = buf.getLong();
+                String text = strings.get(buf.getInt());
+                int first = buf.getInt();
+                short optionCount = buf.getShort();
+                String[] options = optionCount < 0 ? null : new String[optionCount];
+                int correct = buf.getShort();
+                for (int o = 0; o < optionCount; o++) options[o] = strings.get(optionRefs[first + o]);
+                questions.add(new Question(text, options, correct).withId(id));
+            }
+            if (io != null) io.finish(buf.capacity(), count);
+            return questions;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            System.err.println("Binär-Snapshot " + file + " ist beschädigt und wird ignoriert.");
+            return null;
+        }
+    }
+
+    /**
+     * Liest die Highscores aus einem Binär-Snapshot.
+     *
+     * @param file      Der Binär-Snapshot.
+     * @param sourceCrc Erwartete Prüfsumme der JSON-Quelle oder {@link #ANY_SOURCE}.
+     * @return Die Einträge oder {@code null}, wenn die Datei fehlt, beschädigt ist oder zu einer anderen Quelle gehört.
+     */
+    static List<HighscoreEntry> readHighscores(Path file, long sourceCrc) {
+        FileIoEvent io = FileIoEvent.start("read", file);
+        ByteBuffer buf = map(file, KIND_HIGHSCORES, sourceCrc);
+        if (buf == null) return null;
+        try {
+            Strings strings = new Strings(buf);
+            int count = buf.getInt();
+            List<HighscoreEntry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String name = strings.get(readVarint(buf));
+                int zz = readVarint(buf);
+                String date = strings.get(readVarint(buf));
+                entries.add(new HighscoreEntry(name, (zz >>> 1) ^ -(zz & 1), date));
+            }
+            if (io != null) io.finish(buf.capacity(), count);
+            return entries;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            System.err.println("Binär-Snapshot " + file + " ist beschädigt und wird ignoriert.");
+            return null;
+        }
+    }
+
+    /**
+     * Bildet die Datei in den Speicher ab und prüft Kopf, Art, Quelle und Prüfsumme.
+     *
+     * @return Puffer direkt hinter dem Kopf (bei der String-Tabelle) oder {@code null}.
+     */
+    static ByteBuffer map(Path file, byte kind, long sourceCrc) {
+        EdtIoGuard.check("read", file);
+        if (!Files.exists(file)) return null;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ch.size() < HEADER + 4 || ch.size() > Integer.MAX_VALUE) return null;
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            if (buf.getInt() != MAGIC || buf.getShort() != VERSION || buf.get() != kind) return null;
+            buf.get();
+            long source = buf.getLong();
+            if (sourceCrc != ANY_SOURCE && source != sourceCrc) return null; // veraltet
+
+            int end = buf.capacity() - 4;
+            CRC32 crc = new CRC32();
+            crc.update(buf.duplicate().position(0).limit(end));
+            if ((int) crc.getValue() != buf.getInt(end)) {
+                System.err.println("Binär-Snapshot " + file + ": Prüfsumme falsch, wird ignoriert.");
+                return null;
+            }
+            return buf.limit(end);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private static int readVarint(ByteBuffer buf) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buf.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IndexOutOfBoundsException("varint zu lang");
+    }
+
+    /** String-Tabelle beim Schreiben: jeder Text bekommt genau eine Nummer. */
+    private static final class StringTable {
+        final List<String> values = new ArrayList<>();
+        final Map<String, Integer> refs = new HashMap<>();
+
+        int ref(String s) {
+            if (s == null) return NULL_REF;
+            return refs.computeIfAbsent(s, k -> {
+                values.add(k);
+                return values.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * String-Tabelle beim Lesen: dekodiert jeden String erst bei Bedarf und nur einmal.
+     * Danach steht der Puffer hinter den String-Daten.
+     */
+    static final class Strings {
+        private final ByteBuffer data;
+        private final int[] offsets;
+        private final String[] decoded;
+
+        Strings(ByteBuffer buf) {
+            int count = buf.getInt();
+            offsets = new int[count + 1];
+            for (int i = 0; i <= count; i++) offsets[i] = buf.getInt();
+            data = buf.slice(buf.position(), offsets[count]);
+            buf.position(buf.position() + offsets[count]);
+            decoded = new String[count];
+        }
+
+        String get(int ref) {
+            if (ref == NULL_REF) return null;
+            String s = decoded[ref];
+            if (s == null) {
+                byte[] b = new byte[offsets[ref + 1] - offsets[ref]];
+                data.get(offsets[ref], b);
+                s = new String(b, StandardCharsets.UTF_8);
+                decoded[ref] = s;
+            }
+            return s;
+        }
+    }
+}
@@ -1,15 +1,18 @@
 package com.quizapp.data;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
+import com.quizapp.metrics.Counter;
+import com.quizapp.metrics.LatencyHistogram;
+import com.quizapp.metrics.Metrics;
 import com.quizapp.model.HighscoreEntry;
 import com.quizapp.model.Question;
+import com.quizapp.model.QuestionSampler;
 
-import java.io.*;
-import java.lang.reflect.Type;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Der DataManager ist für die Persistenzschicht der Anwendung verantwortlich.
@@ -17,125 +20,323 @@ import java.util.List;
  * Er verwaltet das Laden und Speichern von Quizfragen und Highscores in lokalen JSON-Dateien.
  * Diese Klasse nutzt die Google Gson Library für die Serialisierung und Deserialisierung von Objekten.
  * </p>
+ * <p>
+ * Die statischen Methoden bilden eine Fassade über {@link QuestionRepository} und
+ * {@link HighscoreRepository}. Die Dateien werden nur einmal geparst, danach werden
+ * Lesezugriffe aus dem Speicher bedient und Änderungen als Journal-Zeile angehängt.
+ * </p>
+ * <p>
+ * Die Dauer jedes Aufrufs landet im Histogramm {@code quizapp_data_seconds} mit dem
+ * Methodennamen als Label {@code op} (siehe {@link Metrics}).
+ * </p>
  *
  * @author Istiqlal Momand
  * @author Helal Storany
- * @version 1.0
+ * @version 1.1
  */
 public class DataManager {
 
     private static final String HIGHSCORE_FILE = "highscores.json";
     private static final String QUESTIONS_FILE = "questions.json";
-    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    private static final HighscoreRepository highscores = new HighscoreRepository(Path.of(HIGHSCORE_FILE));
+    private static final QuestionRepository questions = new QuestionRepository(Path.of(QUESTIONS_FILE));
+    private static final QuestionSampler sampler = new QuestionSampler();
+    private static final HighscoreIngest highscoreIngest =
+            new HighscoreIngest(highscores, HighscoreIngest.DEFAULT_CAPACITY, true);
+
+    private static final LatencyHistogram SAVE_HIGHSCORE = timer("saveHighscore");
+    private static final LatencyHistogram SUBMIT_HIGHSCORE = timer("submitHighscore");
+    private static final LatencyHistogram LOAD_HIGHSCORES = timer("loadHighscores");
+    private static final LatencyHistogram GET_LEADERBOARD = timer("getLeaderboard");
+    private static final LatencyHistogram ENSURE_HIGHSCORES = timer("ensureHighscoresExist");
+    private static final LatencyHistogram SAVE_QUESTION = timer("saveQuestion");
+    private static final LatencyHistogram LOAD_QUESTIONS = timer("loadQuestions");
+    private static final LatencyHistogram SAMPLE_QUESTIONS = timer("sampleQuestions");
+    private static final LatencyHistogram UPDATE_QUESTION = timer("updateQuestion");
+    private static final LatencyHistogram DELETE_QUESTION = timer("deleteQuestion");
+    private static final LatencyHistogram ENSURE_QUESTIONS = timer("ensureQuestionsExist");
+    private static final LatencyHistogram IMPORT_QUESTIONS = timer("importQuestions");
+    private static final LatencyHistogram FLUSH = timer("flush");
+    private static final LatencyHistogram GET_USER_HIGHSCORE = timer("getUserHighscore");
+    private static final Counter QUESTION_RELOADS = Metrics.counter("quizapp_question_reloads_total",
+            "Von außen geänderte Fragendatei neu geladen");
+
+    static {
+        Metrics.gauge("quizapp_highscore_queue_pending", "Highscores, die auf den Schreiber warten",
+                highscoreIngest::pending);
+        // Journal beim Beenden der Anwendung in den Snapshot übernehmen
+        Runtime.getRuntime().addShutdownHook(new Thread(DataManager::flush, "quizapp-flush"));
+    }
+
+    private static LatencyHistogram timer(String op) {
+        return Metrics.histogram("quizapp_data_seconds", "Dauer der DataManager-Aufrufe", "op", op);
+    }
 
     // ==========================================
     //              HIGHSCORE VERWALTUNG
     // ==========================================
 
+    /**
+     * Speichert einen Highscore und kehrt erst zurück, wenn er auf dem Datenträger ist.
+     * <p>
+     * Der Eintrag läuft über die {@link HighscoreIngest}-Warteschlange; gleichzeitige
+     * Aufrufe aus mehreren Threads werden vom Schreiber zu einem Schreibvorgang zusammengefasst.
+     * </p>
+     *
+     * @param name  Spielername.
+     * @param score Erreichte Punktzahl.
+     * @throws java.io.UncheckedIOException wenn der Highscore nicht gespeichert werden konnte.
+     */
     public static void saveHighscore(String name, int score) {
-        List<HighscoreEntry> scores = loadHighscores();
-        scores.add(new HighscoreEntry(name, score, java.time.LocalDate.now().toString()));
+        EdtIoGuard.check("saveHighscore", HIGHSCORE_FILE);
+        long start = System.nanoTime();
+        try {
+            highscoreIngest.await(highscoreIngest.submit(newEntry(name, score)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            SAVE_HIGHSCORE.recordSince(start);
+        }
+    }
 
-        try (Writer writer = new FileWriter(HIGHSCORE_FILE)) {
-            gson.toJson(scores, writer);
-        } catch (IOException e) {
-            e.printStackTrace();
+    /**
+     * Übergibt einen Highscore an den Schreiber, ohne auf das Speichern zu warten.
+     * Blockiert nur, solange die Warteschlange voll ist (Backpressure).
+     *
+     * @param name  Spielername.
+     * @param score Erreichte Punktzahl.
+     */
+    public static void submitHighscore(String name, int score) {
+        long start = System.nanoTime();
+        try {
+            highscoreIngest.enqueue(newEntry(name, score));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            SUBMIT_HIGHSCORE.recordSince(start);
         }
     }
 
+    private static HighscoreEntry newEntry(String name, int score) {
+        return new HighscoreEntry(name, score, java.time.LocalDate.now().toString());
+    }
+
     public static List<HighscoreEntry> loadHighscores() {
-        try (Reader reader = new FileReader(HIGHSCORE_FILE)) {
-            Type listType = new TypeToken<ArrayList<HighscoreEntry>>(){}.getType();
-            List<HighscoreEntry> list = gson.fromJson(reader, listType);
+        long start = System.nanoTime();
+        try {
+            return highscores.findAll();
+        } finally {
+            LOAD_HIGHSCORES.recordSince(start);
+        }
+    }
 
-            if (list != null) {
-                list.sort((p1, p2) -> Integer.compare(p2.getScore(), p1.getScore()));
-                return list;
-            }
-            return new ArrayList<>();
-        } catch (IOException e) {
-            return new ArrayList<>();
+    /**
+     * Gibt die aktuelle, nach Punktzahl sortierte Rangliste zurück.
+     * <p>
+     * Im Gegensatz zu {@link #loadHighscores()} wird dabei nichts kopiert; die
+     * Rangliste ist unveränderlich und erlaubt Zugriff auf einzelne Plätze in O(log n).
+     * </p>
+     *
+     * @return Die aktuelle Rangliste.
+     */
+    public static Leaderboard getLeaderboard() {
+        long start = System.nanoTime();
+        try {
+            return highscores.leaderboard();
+        } finally {
+            GET_LEADERBOARD.recordSince(start);
         }
     }
 
+    /**
+     * Berechnet, welchen Platz eine Punktzahl in der aktuellen Rangliste belegen würde.
+     *
+     * @param score Die Punktzahl.
+     * @return Der Rang (1 = bester Platz); punktgleiche Einträge teilen sich einen Rang.
+     */
+    public static int getRank(int score) {
+        return highscores.leaderboard().rankOf(score);
+    }
+
     /**
      * Stellt sicher, dass Dummy-Daten (Axel Muster, Kim Beispiel) vorhanden sind.
      * (Anforderung 1c)
      */
     public static void ensureHighscoresExist() {
-        List<HighscoreEntry> current = loadHighscores();
-        if (current.isEmpty()) {
-            current.add(new HighscoreEntry("Axel Muster", 100, "2024-01-15"));
-            current.add(new HighscoreEntry("Kim Beispiel", 1, "2024-02-20"));
-
-            try (Writer writer = new FileWriter(HIGHSCORE_FILE)) {
-                gson.toJson(current, writer);
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+        long start = System.nanoTime();
+        if (highscores.isEmpty()) {
+            highscores.addAll(List.of(
+                    new HighscoreEntry("Axel Muster", 100, "2024-01-15"),
+                    new HighscoreEntry("Kim Beispiel", 1, "2024-02-20")));
         }
+        ENSURE_HIGHSCORES.recordSince(start);
     }
 
     // ==========================================
     //              FRAGEN VERWALTUNG
     // ==========================================
 
-    public static void saveQuestion(Question q) {
-        List<Question> questions = loadQuestions();
-        questions.add(q);
-        try (Writer writer = new FileWriter(QUESTIONS_FILE)) {
-            gson.toJson(questions, writer);
-        } catch (IOException e) {
-            e.printStackTrace();
+    /**
+     * Speichert eine neue Frage und vergibt dabei ihre stabile ID.
+     *
+     * @param q Die neue Frage.
+     * @return Die gespeicherte Frage mit ID (für spätere Änderungen).
+     */
+    public static Question saveQuestion(Question q) {
+        long start = System.nanoTime();
+        try {
+            return questions.add(q);
+        } finally {
+            SAVE_QUESTION.recordSince(start);
         }
     }
 
     public static List<Question> loadQuestions() {
-        try (Reader reader = new FileReader(QUESTIONS_FILE)) {
-            Type listType = new TypeToken<ArrayList<Question>>(){}.getType();
-            List<Question> list = gson.fromJson(reader, listType);
-            return list != null ? list : new ArrayList<>();
-        } catch (IOException e) {
-            return new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            return questions.findAll();
+        } finally {
+            LOAD_QUESTIONS.recordSince(start);
         }
     }
 
-    public static void updateQuestion(int index, Question updatedQ) {
-        List<Question> all = loadQuestions();
-        if (index >= 0 && index < all.size()) {
-            all.set(index, updatedQ);
-            saveAllQuestions(all);
+    /**
+     * Wählt zufällig {@code count} verschiedene Fragen für eine Spielrunde aus.
+     * <p>
+     * Im Gegensatz zu {@code loadQuestions()} + {@code shuffle} wird dabei weder der
+     * gesamte Pool kopiert noch gemischt.
+     * </p>
+     *
+     * @param count Anzahl der gewünschten Fragen.
+     * @return Eine neue Liste mit bis zu {@code count} Fragen in zufälliger Reihenfolge.
+     */
+    public static List<Question> sampleQuestions(int count) {
+        long start = System.nanoTime();
+        try {
+            return questions.sample(sampler, count);
+        } finally {
+            SAMPLE_QUESTIONS.recordSince(start);
+        }
+    }
+
+    /**
+     * Liefert alle Fragen als lazy Stream direkt aus der Datei.
+     * <p>
+     * Gedacht für sehr große Fragenkataloge: Es wird immer nur die aktuelle Frage
+     * materialisiert. Der Stream muss geschlossen werden (try-with-resources).
+     * </p>
+     *
+     * @return Ein Stream über alle gespeicherten Fragen.
+     */
+    public static Stream<Question> streamQuestions() {
+        return questions.stream();
+    }
+
+    /**
+     * Ersetzt eine Frage anhand ihrer ID. Es wird nur eine Zeile an das Journal angehängt.
+     *
+     * @param id       Die ID der Frage ({@link Question#getId()}).
+     * @param updatedQ Die neue Version der Frage.
+     * @return {@code true}, wenn die Frage existierte.
+     */
+    public static boolean updateQuestion(long id, Question updatedQ) {
+        long start = System.nanoTime();
+        try {
+            return questions.update(id, updatedQ);
+        } finally {
+            UPDATE_QUESTION.recordSince(start);
         }
     }
 
-    public static void deleteQuestion(int index) {
-        List<Question> all = loadQuestions();
-        if (index >= 0 && index < all.size()) {
-            all.remove(index);
-            saveAllQuestions(all);
+    /**
+     * Löscht eine Frage anhand ihrer ID. Es wird nur eine Zeile an das Journal angehängt.
+     *
+     * @param id Die ID der Frage ({@link Question#getId()}).
+     * @return {@code true}, wenn die Frage existierte.
+     */
+    public static boolean deleteQuestion(long id) {
+        long start = System.nanoTime();
+        try {
+            return questions.delete(id);
+        } finally {
+            DELETE_QUESTION.recordSince(start);
         }
     }
 
-    private static void saveAllQuestions(List<Question> questions) {
-        try (java.io.Writer writer = new java.io.FileWriter(QUESTIONS_FILE)) {
-            gson.toJson(questions, writer);
-        } catch (java.io.IOException e) {
+    /**
+     * Importiert alle Fragen einer NDJSON- oder CSV-Datei (siehe {@link QuestionImporter}).
+     * <p>
+     * Gespeichert wird nur, wenn jede Zeile gültig ist – dann aber alle Fragen mit einem
+     * einzigen Schreibvorgang. Enthält die Datei Fehler, bleibt der Fragenkatalog
+     * unverändert und das Ergebnis nennt die fehlerhaften Zeilen.
+     * </p>
+     *
+     * @param file Die Importdatei.
+     * @return Die gespeicherten Fragen (mit IDs) bzw. die Fehler pro Zeile.
+     */
+    public static QuestionImporter.Result importQuestions(Path file) {
+        long start = System.nanoTime();
+        try {
+            QuestionImporter.Result result = QuestionImporter.parse(file);
+            if (!result.isValid()) {
+                return result;
+            }
+            return new QuestionImporter.Result(questions.addAll(result.questions()), result.errors());
+        } catch (IOException e) {
+            e.printStackTrace();
+            return new QuestionImporter.Result(List.of(),
+                    List.of(new QuestionImporter.LineError(0, file + " konnte nicht gelesen werden: " + e.getMessage())));
+        } finally {
+            IMPORT_QUESTIONS.recordSince(start);
+        }
+    }
+
+    /**
+     * Beobachtet {@code questions.json} und übernimmt Änderungen von außen im laufenden
+     * Betrieb (siehe {@link QuestionFileWatcher}). Laufende Runden behalten ihre Fragen;
+     * die nächste Runde zieht aus dem neuen Stand.
+     *
+     * @param onReload Wird nach jedem tatsächlichen Neuladen mit den Unterschieden aufgerufen.
+     * @return Der laufende Watcher, oder {@code null}, wenn das Verzeichnis nicht beobachtet werden kann.
+     */
+    public static QuestionFileWatcher watchQuestions(Consumer<QuestionDiff> onReload) {
+        try {
+            return QuestionFileWatcher.start(questions, Path.of(QUESTIONS_FILE), diff -> {
+                QUESTION_RELOADS.inc();
+                onReload.accept(diff);
+            });
+        } catch (IOException e) {
             e.printStackTrace();
+            return null;
         }
     }
 
     public static void ensureQuestionsExist() {
-        List<Question> current = loadQuestions();
-        if (current.isEmpty()) {
-            saveQuestion(new Question("Welcher Datentyp speichert Text in Java?",
-                    new String[]{"int", "String", "boolean", "char"}, 1));
-            saveQuestion(new Question("Wie beendet man eine Schleife vorzeitig?",
-                    new String[]{"stop", "exit", "break", "return"}, 2));
-            saveQuestion(new Question("Was ist die Größe eines 'int' in Java?",
-                    new String[]{"32 Bit", "16 Bit", "64 Bit", "8 Bit"}, 0));
-            saveQuestion(new Question("Was ist Big Data?",
-                    new String[]{"Eine große Datei", "Verarbeitung riesiger Datenmengen", "Ein großer Server", "Ein langes Kabel"}, 1));
+        long start = System.nanoTime();
+        if (questions.size() == 0) {
+            questions.addAll(List.of(
+                    new Question("Welcher Datentyp speichert Text in Java?",
+                            new String[]{"int", "String", "boolean", "char"}, 1),
+                    new Question("Wie beendet man eine Schleife vorzeitig?",
+                            new String[]{"stop", "exit", "break", "return"}, 2),
+                    new Question("Was ist die Größe eines 'int' in Java?",
+                            new String[]{"32 Bit", "16 Bit", "64 Bit", "8 Bit"}, 0),
+                    new Question("Was ist Big Data?",
+                            new String[]{"Eine große Datei", "Verarbeitung riesiger Datenmengen", "Ein großer Server", "Ein langes Kabel"}, 1)));
         }
+        ENSURE_QUESTIONS.recordSince(start);
+    }
+
+    /**
+     * Schreibt alle noch ausstehenden Änderungen sofort auf die Platte
+     * (wartende Highscores und das Fragen-Journal).
+     */
+    public static void flush() {
+        long start = System.nanoTime();
+        highscoreIngest.flush();
+        questions.flush();
+        FLUSH.recordSince(start);
     }
 
     // ==========================================
@@ -150,14 +351,7 @@ public class DataManager {
         if (username == null || username.trim().isEmpty()) {
             return new ArrayList<>();
         }
-        List<HighscoreEntry> all = loadHighscores();
-        List<HighscoreEntry> userOnly = new ArrayList<>();
-        for (HighscoreEntry entry : all) {
-            if (entry.getPlayerName().equalsIgnoreCase(username)) {
-                userOnly.add(entry);
-            }
-        }
-        return userOnly;
+        return highscores.findByPlayer(username);
     }
 
     /**
@@ -170,21 +364,14 @@ public class DataManager {
      * @return Die höchste erreichte Punktzahl als String (z.B. "150"). Gibt "0" zurück, wenn kein Eintrag existiert.
      */
     public static String getUserHighscore(String username) {
-        // Wir nutzen die existierende Methode, um Code-Duplizierung zu vermeiden
-        List<HighscoreEntry> userEntries = getUserHighscores(username);
-
-        if (userEntries.isEmpty()) {
+        if (username == null || username.trim().isEmpty()) {
             return "0";
         }
 
-        // Finde den maximalen Score
-        int maxScore = 0;
-        for (HighscoreEntry entry : userEntries) {
-            if (entry.getScore() > maxScore) {
-                maxScore = entry.getScore();
-            }
-        }
-
-        return String.valueOf(maxScore);
+        // O(1) über den Spieler-Index statt Suche in der gesamten Liste
+        long start = System.nanoTime();
+        Integer best = highscores.findBestScore(username);
+        GET_USER_HIGHSCORE.recordSince(start);
+        return best == null ? "0" : String.valueOf(Math.max(0, best));
     }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.quizapp.data;
+
+import java.awt.EventQueue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Überwacht, dass keine Datei-Ein-/Ausgabe auf dem Event Dispatch Thread (EDT) stattfindet.
+ * <p>
+ * Alle Stellen, an denen die Persistenzschicht tatsächlich auf die Platte zugreift, rufen
+ * {@link #check(String, Object)} auf. Ist die Überwachung aktiv und der Aufruf kommt vom EDT,
+ * wird ein Verstoß mit Stacktrace protokolliert. Aktiviert wird sie über die System-Property
+ * {@code -Dquizapp.checkEdtIo=true} oder in Tests über {@link #setEnabled(boolean)}.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class EdtIoGuard {
+
+    private static volatile boolean enabled = Boolean.getBoolean("quizapp.checkEdtIo");
+    private static final List<String> violations = new CopyOnWriteArrayList<>();
+
+    private EdtIoGuard() {
+        // Utility-Klasse
+    }
+
+    /**
+     * Meldet einen Dateizugriff.
+     *
+     * @param operation Art des Zugriffs (z.B. "read", "append").
+     * @param file      Betroffene Datei (für die Meldung).
+     */
+    static void check(String operation, Object file) {
+        if (enabled && EventQueue.isDispatchThread()) {
+            String msg = "Datei-I/O auf dem EDT: " + operation + " " + file;
+            violations.add(msg);
+            new IllegalStateException(msg).printStackTrace();
+        }
+    }
+
+    /**
+     * Schaltet die Überwachung ein oder aus.
+     *
+     * @param on {@code true} zum Aktivieren.
+     */
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    /**
+     * Gibt alle bisher protokollierten Verstöße zurück.
+     *
+     * @return Kopie der Verstoß-Meldungen.
+     */
+    public static List<String> violations() {
+        return new ArrayList<>(violations);
+    }
+
+    /**
+     * Löscht die protokollierten Verstöße.
+     */
+    public static void reset() {
+        violations.clear();
+    }
+}
@@ -0,0 +1,258 @@
+package com.quizapp.data;
+
+import com.quizapp.model.HighscoreEntry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Warteschlange, über die neue Highscores von beliebig vielen Threads an genau einen
+ * Schreiber-Thread übergeben werden.
+ * <p>
+ * Produzenten legen Einträge in eine begrenzte Warteschlange; ist sie voll, blockiert
+ * {@link #submit(HighscoreEntry)} (Backpressure), statt unbegrenzt Speicher zu belegen.
+ * Der Schreiber ({@code quizapp-highscore-writer}) nimmt jeweils alles, was gerade
+ * ansteht (höchstens {@value #MAX_BATCH} Einträge), und schreibt es mit
+ * {@link HighscoreRepository#addAll(java.util.Collection, boolean)} als einen einzigen
+ * Journal-Anhang mit anschließendem {@code fsync}. Gleichzeitig beendete Runden teilen
+ * sich so einen Schreibvorgang ("Group Commit"), und kein Eintrag geht durch
+ * konkurrierende Schreibzugriffe verloren.
+ * </p>
+ * <p>
+ * Wer wissen muss, dass sein Eintrag gespeichert ist, wartet mit {@link #await(long)}
+ * auf die von {@code submit} gelieferte Nummer; {@link #flush()} wartet auf alle bisher
+ * angenommenen Einträge. Schlägt ein Schreibvorgang fehl, gilt das für alle Einträge
+ * dieses Schreibvorgangs: {@code await} wirft dann eine {@link UncheckedIOException},
+ * statt Erfolg zu melden. Fehlgeschlagene Schreibvorgänge werden nur so lange gemerkt,
+ * bis auf alle darin enthaltenen Nummern gewartet wurde; wer nicht warten will, übergibt
+ * seinen Eintrag daher mit {@link #enqueue(HighscoreEntry)} statt mit {@code submit}.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class HighscoreIngest implements AutoCloseable {
+
+    /** Standardgröße der Warteschlange. */
+    public static final int DEFAULT_CAPACITY = 8192;
+    /** Maximale Anzahl an Einträgen pro Schreibvorgang. */
+    static final int MAX_BATCH = 1024;
+
+    private static final HighscoreEntry STOP = new HighscoreEntry("", 0, "");
+
+    private final HighscoreRepository repository;
+    private final boolean durable;
+    private final BlockingQueue<HighscoreEntry> queue;
+    private final Thread writer;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition progress = lock.newCondition();
+    private long accepted;  // unter lock
+    private long written;   // unter lock (geschrieben oder endgültig fehlgeschlagen)
+    private boolean closed; // unter lock
+    private final TreeSet<Long> unawaited = new TreeSet<>(); // unter lock: Nummern aus submit ohne await
+    private final Deque<Failure> failures = new ArrayDeque<>(); // unter lock, aufsteigend nach first
+
+    /** Nummern {@code first..last} eines Schreibvorgangs, der fehlgeschlagen ist. */
+    private record Failure(long first, long last, IOException cause) {
+    }
+
+    /**
+     * Erstellt die Warteschlange und startet den Schreiber-Thread.
+     *
+     * @param repository Ziel der Einträge.
+     * @param capacity   Maximale Anzahl wartender Einträge.
+     * @param durable    {@code true}, um jeden Schreibvorgang per {@code fsync} abzuschließen.
+     */
+    public HighscoreIngest(HighscoreRepository repository, int capacity, boolean durable) {
+        this.repository = repository;
+        this.durable = durable;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writer = new Thread(this::drain, "quizapp-highscore-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Übergibt einen Eintrag an den Schreiber; blockiert, solange die Warteschlange voll ist.
+     * Die gelieferte Nummer muss genau einmal mit {@link #await(long)} abgeholt werden,
+     * sonst bleibt ein Fehlschlag ihres Schreibvorgangs im Speicher.
+     *
+     * @param entry Der neue Eintrag.
+     * @return Laufende Nummer des Eintrags für {@link #await(long)}.
+     * @throws InterruptedException  wenn der Thread beim Warten unterbrochen wird.
+     * @throws IllegalStateException wenn die Warteschlange bereits geschlossen ist.
+     */
+    public long submit(HighscoreEntry entry) throws InterruptedException {
+        return offer(entry, true);
+    }
+
+    /**
+     * Übergibt einen Eintrag an den Schreiber, ohne später auf ihn zu warten; blockiert nur,
+     * solange die Warteschlange voll ist. Ein Fehlschlag wird lediglich protokolliert.
+     *
+     * @param entry Der neue Eintrag.
+     * @throws InterruptedException  wenn der Thread beim Warten unterbrochen wird.
+     * @throws IllegalStateException wenn die Warteschlange bereits geschlossen ist.
+     */
+    public void enqueue(HighscoreEntry entry) throws InterruptedException {
+        offer(entry, false);
+    }
+
+    private long offer(HighscoreEntry entry, boolean tracked) throws InterruptedException {
+        lock.lock();
+        try {
+            // Nummer und Reihenfolge in der Warteschlange müssen übereinstimmen
+            while (!closed && !queue.offer(entry)) {
+                progress.await();
+            }
+            // Unter derselben Sperre wie in close(): nichts landet mehr hinter dem STOP-Eintrag
+            if (closed) throw new IllegalStateException("Highscore-Warteschlange ist geschlossen");
+            if (tracked) unawaited.add(accepted + 1);
+            return ++accepted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wartet, bis der Eintrag mit der angegebenen Nummer geschrieben wurde.
+     *
+     * @param ticket Rückgabewert von {@link #submit(HighscoreEntry)}.
+     * @throws InterruptedException wenn der Thread beim Warten unterbrochen wird.
+     * @throws UncheckedIOException wenn der Eintrag nicht gespeichert werden konnte.
+     */
+    public void await(long ticket) throws InterruptedException {
+        lock.lock();
+        try {
+            while (written < ticket) {
+                progress.await();
+            }
+            for (Failure f : failures) {
+                if (f.first() > ticket) break;
+                if (ticket <= f.last()) {
+                    throw new UncheckedIOException("Highscore Nr. " + ticket + " wurde nicht gespeichert", f.cause());
+                }
+            }
+        } finally {
+            unawaited.remove(ticket); // auch bei Unterbrechung: der Aufrufer fragt nicht mehr nach
+            pruneFailures();
+            lock.unlock();
+        }
+    }
+
+    // Fehlschläge unterhalb der ältesten noch nicht abgeholten Nummer fragt niemand mehr ab
+    private void pruneFailures() {
+        long oldest = unawaited.isEmpty() ? Long.MAX_VALUE : unawaited.first();
+        while (!failures.isEmpty() && failures.peekFirst().last() < oldest) {
+            failures.removeFirst();
+        }
+    }
+
+    /**
+     * @return Anzahl der gemerkten fehlgeschlagenen Schreibvorgänge (für Tests).
+     */
+    int failuresRetained() {
+        lock.lock();
+        try {
+            return failures.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wartet, bis alle bisher angenommenen Einträge verarbeitet wurden. Ob einzelne
+     * Einträge nicht gespeichert werden konnten, meldet nur {@link #await(long)}.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            long target = accepted;
+            while (written < target) {
+                progress.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gibt die Anzahl der Einträge zurück, die noch auf den Schreiber warten.
+     *
+     * @return Länge der Warteschlange.
+     */
+    public int pending() {
+        return queue.size();
+    }
+
+    /**
+     * Nimmt keine neuen Einträge mehr an, schreibt alle wartenden und beendet den Schreiber.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+            progress.signalAll(); // Produzenten, die auf Platz warten, brechen ab
+        } finally {
+            lock.unlock();
+        }
+        flush();
+        try {
+            queue.put(STOP);
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        List<HighscoreEntry> batch = new ArrayList<>(MAX_BATCH);
+        boolean stop = false;
+        while (!stop) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+            stop = batch.removeIf(e -> e == STOP);
+            IOException failure = null;
+            try {
+                if (!batch.isEmpty()) {
+                    repository.addAll(batch, durable);
+                }
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+                failure = e instanceof UncheckedIOException io ? io.getCause() : new IOException(e);
+            }
+            lock.lock();
+            try {
+                if (failure != null) {
+                    failures.addLast(new Failure(written + 1, written + batch.size(), failure));
+                }
+                written += batch.size();
+                pruneFailures(); // z.B. ein Schreibvorgang, der nur Einträge aus enqueue enthielt
+                progress.signalAll(); // wartende Aufrufer und Produzenten bei voller Warteschlange
+            } finally {
+                lock.unlock();
+            }
+            batch.clear();
+        }
+    }
+}
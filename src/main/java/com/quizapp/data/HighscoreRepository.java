@@ -0,0 +1,256 @@
+package com.quizapp.data;
+
+import com.google.gson.reflect.TypeToken;
+import com.quizapp.model.HighscoreEntry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * In-Memory-Repository für die Highscore-Liste.
+ * <p>
+ * Die Einträge werden einmalig geladen und in einem {@link Leaderboard} gehalten,
+ * das immer nach Punktzahl sortiert ist. Neue Einträge werden in O(log n) eingefügt,
+ * ein erneutes Sortieren ist nie nötig. Da das Leaderboard unveränderlich ist, können
+ * Leser über {@link #leaderboard()} ohne Sperre darauf zugreifen. Zusätzlich führt ein
+ * {@link PlayerIndex} die Einträge pro Spieler, damit Profilabfragen nicht die ganze
+ * Rangliste durchsuchen müssen.
+ * </p>
+ * <p>
+ * Persistiert wird in zwei Teilen: Der Snapshot ({@code highscores.json}) enthält
+ * den Stand der letzten Kompaktierung, neue Einträge werden nur als eine Zeile an
+ * das {@link Journal} ({@code highscores.journal}) angehängt. Beim Laden wird das
+ * Journal auf den Snapshot angewendet; ab {@value #COMPACT_THRESHOLD} Journal-Einträgen
+ * wird beides wieder zu einem neuen Snapshot zusammengefasst. Bestehende
+ * {@code highscores.json}-Dateien werden so ohne Konvertierung übernommen.
+ * </p>
+ * <p>
+ * Optional wird neben dem JSON-Snapshot ein {@link BinarySnapshot} ({@code highscores.bin})
+ * gepflegt, aus dem beim Start gelesen wird, solange er zum JSON-Snapshot passt.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public class HighscoreRepository {
+
+    private static final Type LIST_TYPE = new TypeToken<ArrayList<HighscoreEntry>>(){}.getType();
+
+    /** Sortierung: Höchster Score zuerst. */
+    static final Comparator<HighscoreEntry> BY_SCORE_DESC =
+            (p1, p2) -> Integer.compare(p2.getScore(), p1.getScore());
+
+    /** Anzahl der Journal-Einträge, ab der ein neuer Snapshot geschrieben wird. */
+    static final int COMPACT_THRESHOLD = 1000;
+
+    private final Path file;
+    private final Path binaryFile;      // null = kein Binär-Snapshot
+    private final Journal<HighscoreEntry> journal;
+    private volatile Leaderboard board;
+    private volatile PlayerIndex players;
+
+    /**
+     * Erstellt ein Repository für die angegebene JSON-Datei.
+     *
+     * @param file Pfad zur Highscore-Datei (z.B. {@code highscores.json}).
+     */
+    public HighscoreRepository(Path file) {
+        this(file, BinarySnapshot.ENABLED);
+    }
+
+    /**
+     * Erstellt ein Repository und legt fest, ob der Binär-Snapshot verwendet wird.
+     *
+     * @param file           Pfad zur Highscore-Datei (z.B. {@code highscores.json}).
+     * @param binarySnapshot {@code true}, um zusätzlich {@code highscores.bin} zu lesen und zu pflegen.
+     */
+    public HighscoreRepository(Path file, boolean binarySnapshot) {
+        this.file = file;
+        this.binaryFile = binarySnapshot ? BinarySnapshot.siblingOf(file) : null;
+        this.journal = new Journal<>(Journal.siblingOf(file), HighscoreEntry.class);
+    }
+
+    /**
+     * Gibt den aktuellen Stand der Rangliste zurück.
+     * <p>
+     * Die zurückgegebene Instanz ist unveränderlich; spätere Einträge erscheinen erst
+     * in einem erneuten Aufruf.
+     * </p>
+     *
+     * @return Die aktuelle Rangliste.
+     */
+    public Leaderboard leaderboard() {
+        Leaderboard current = board;
+        return current != null ? current : load();
+    }
+
+    /**
+     * Gibt eine sortierte Kopie aller Einträge zurück (höchster Score zuerst).
+     *
+     * @return Eine neue, veränderbare Liste aller Einträge.
+     */
+    public List<HighscoreEntry> findAll() {
+        return leaderboard().toList();
+    }
+
+    /**
+     * Gibt alle Einträge eines Spielers zurück (Groß-/Kleinschreibung wird ignoriert).
+     *
+     * @param username Der gesuchte Spielername.
+     * @return Die Einträge des Spielers in Ranglisten-Reihenfolge.
+     */
+    public List<HighscoreEntry> findByPlayer(String username) {
+        PlayerIndex.PlayerScores scores = playerIndex().get(username);
+        return scores == null ? new ArrayList<>() : new ArrayList<>(scores.entries);
+    }
+
+    /**
+     * Gibt den höchsten Score eines Spielers in O(1) zurück.
+     *
+     * @param username Der Spielername (Groß-/Kleinschreibung wird ignoriert).
+     * @return Der höchste Score oder {@code null}, wenn der Spieler keine Einträge hat.
+     */
+    public Integer findBestScore(String username) {
+        PlayerIndex.PlayerScores scores = playerIndex().get(username);
+        return scores == null ? null : scores.maxScore;
+    }
+
+    /**
+     * Prüft, ob noch keine Einträge vorhanden sind.
+     *
+     * @return {@code true}, wenn die Liste leer ist.
+     */
+    public boolean isEmpty() {
+        return leaderboard().size() == 0;
+    }
+
+    /**
+     * Fügt einen neuen Eintrag hinzu und hängt ihn an das Journal an.
+     *
+     * @param entry Der neue Eintrag.
+     * @throws UncheckedIOException wenn das Journal nicht geschrieben werden konnte;
+     *                              der Eintrag wird dann auch nicht übernommen.
+     */
+    public synchronized void add(HighscoreEntry entry) {
+        Leaderboard current = leaderboard(); // zuerst laden, sonst käme der Eintrag über das Journal doppelt
+        journal.append(entry);
+        board = current.insert(entry);
+        players.add(entry);
+        compactIfNeeded();
+    }
+
+    /**
+     * Fügt mehrere Einträge hinzu und hängt sie mit einem Schreibvorgang an das Journal an.
+     *
+     * @param newEntries Die neuen Einträge.
+     */
+    public void addAll(Collection<HighscoreEntry> newEntries) {
+        addAll(newEntries, false);
+    }
+
+    /**
+     * Fügt mehrere Einträge hinzu; mit {@code durable} kehrt der Aufruf erst zurück, wenn
+     * die Journal-Zeilen per {@code fsync} auf dem Datenträger sind.
+     *
+     * @param newEntries Die neuen Einträge.
+     * @param durable    {@code true}, um das Journal nach dem Schreiben zu synchronisieren.
+     * @throws UncheckedIOException wenn das Journal nicht geschrieben werden konnte;
+     *                              dann wird keiner der Einträge übernommen.
+     */
+    public synchronized void addAll(Collection<HighscoreEntry> newEntries, boolean durable) {
+        Leaderboard next = leaderboard();
+        journal.appendAll(newEntries, durable); // erst gespeichert, dann sichtbar
+        for (HighscoreEntry e : newEntries) {
+            next = next.insert(e);
+            players.add(e);
+        }
+        board = next;
+        compactIfNeeded();
+    }
+
+    /**
+     * Schreibt alle Einträge in einen neuen Snapshot und leert das Journal.
+     * Schlägt das Schreiben fehl, bleibt das Journal unverändert und der Aufruf
+     * wird bei der nächsten Kompaktierung wiederholt. Lässt sich nur das Journal nicht
+     * leeren, enthält der Snapshot bereits alles; das nächste Anhängen verknüpft das
+     * Journal erneut oder meldet den Fehler dem Aufrufer.
+     */
+    public synchronized void compact() {
+        List<HighscoreEntry> all = leaderboard().toList();
+        long crc;
+        try {
+            crc = JsonFiles.write(file, all);
+        } catch (UncheckedIOException e) {
+            e.printStackTrace(); // Journal bleibt vollständig, der alte Snapshot gilt weiter
+            return;
+        }
+        try {
+            journal.reset(crc);
+        } catch (UncheckedIOException e) {
+            e.printStackTrace(); // Snapshot enthält alles, das Journal wird beim nächsten Anhängen gebunden
+        }
+        if (binaryFile != null) {
+            writeBinary(all, crc);
+        }
+    }
+
+    private PlayerIndex playerIndex() {
+        leaderboard(); // stellt sicher, dass geladen wurde
+        return players;
+    }
+
+    private synchronized Leaderboard load() {
+        if (board == null) {
+            long crc = 0;
+            List<HighscoreEntry> list = null;
+            if (binaryFile != null) {
+                try {
+                    crc = BinarySnapshot.crcOf(file);
+                    list = BinarySnapshot.readHighscores(binaryFile, crc);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+            if (list == null) {
+                CRC32 checksum = new CRC32();
+                list = JsonFiles.read(file, LIST_TYPE, checksum);
+                if (list == null) list = new ArrayList<>();
+                crc = checksum.getValue();
+                if (binaryFile != null) {
+                    writeBinary(list, crc); // Binär-Snapshot fehlte oder war veraltet
+                }
+            }
+            list.sort(BY_SCORE_DESC);
+            Leaderboard loaded = Leaderboard.ofSorted(list);
+            for (HighscoreEntry e : journal.replay(crc)) {
+                loaded = loaded.insert(e);
+            }
+            players = PlayerIndex.build(loaded);
+            board = loaded;
+            compactIfNeeded();
+        }
+        return board;
+    }
+
+    private void writeBinary(List<HighscoreEntry> snapshot, long crc) {
+        try {
+            BinarySnapshot.writeHighscores(binaryFile, snapshot, crc);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (journal.size() >= COMPACT_THRESHOLD) {
+            compact();
+        }
+    }
+}
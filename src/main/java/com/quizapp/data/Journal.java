@@ -0,0 +1,249 @@
+package com.quizapp.data;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.quizapp.metrics.FileIoEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Append-only Journal im JSON-Lines-Format (ein Datensatz pro Zeile).
+ * <p>
+ * Das Journal ergänzt einen JSON-Snapshot: Neue Datensätze werden nur angehängt,
+ * statt die komplette Datei neu zu schreiben. Die erste Zeile ist ein Header mit der
+ * CRC32-Prüfsumme des Snapshots, auf dem das Journal aufbaut. Passt die Prüfsumme
+ * nicht mehr (z.B. weil eine Kompaktierung den Snapshot bereits neu geschrieben hat,
+ * das Journal aber noch nicht geleert wurde), wird das Journal beim Einlesen ignoriert.
+ * So werden Datensätze weder verloren noch doppelt eingespielt.
+ * </p>
+ * <p>
+ * Schlägt das Neu-Verknüpfen fehl, bleibt die alte Datei samt Header liegen. Weitere Anhänge
+ * würden dort beim nächsten Start verworfen; {@link #appendAll(Collection, boolean)} versucht
+ * deshalb zuerst erneut zu verknüpfen und wirft eine Ausnahme, solange das nicht gelingt.
+ * </p>
+ *
+ * @param <T> Typ der Datensätze.
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+final class Journal<T> {
+
+    private static final Gson LINE_GSON = new Gson();
+
+    private final Path file;
+    private final Class<T> type;
+    private int size;
+    /** Prüfsumme, an die das Journal noch gebunden werden muss ({@code null} = bereits gebunden). */
+    private Long pendingCrc;
+
+    /** Header-Zeile des Journals. */
+    private static final class Header {
+        long snapshotCrc;
+
+        Header(long snapshotCrc) {
+            this.snapshotCrc = snapshotCrc;
+        }
+    }
+
+    /**
+     * Erstellt ein Journal für die angegebene Datei.
+     *
+     * @param file Pfad der Journal-Datei.
+     * @param type Klasse der Datensätze.
+     */
+    Journal(Path file, Class<T> type) {
+        this.file = file;
+        this.type = type;
+    }
+
+    /**
+     * Leitet den Journal-Pfad aus dem Snapshot-Pfad ab ({@code highscores.json -> highscores.journal}).
+     *
+     * @param snapshot Pfad der Snapshot-Datei.
+     * @return Pfad der zugehörigen Journal-Datei.
+     */
+    static Path siblingOf(Path snapshot) {
+        String name = snapshot.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return snapshot.resolveSibling((dot > 0 ? name.substring(0, dot) : name) + ".journal");
+    }
+
+    /**
+     * Liest alle Datensätze ein, die zum Snapshot mit der angegebenen Prüfsumme gehören.
+     * <p>
+     * Eine unvollständige letzte Zeile (z.B. nach einem Absturz während des Schreibens)
+     * wird abgeschnitten, damit spätere Anhänge wieder auf einer sauberen Zeile beginnen.
+     * Fehlt das Journal oder gehört es zu einem anderen Snapshot, wird es neu angelegt.
+     * Nach dem Aufruf ist das Journal also immer an den übergebenen Snapshot gebunden.
+     * </p>
+     *
+     * @param snapshotCrc Prüfsumme des aktuell geladenen Snapshots.
+     * @return Die Datensätze in Schreibreihenfolge (leer, wenn kein passendes Journal existiert).
+     */
+    List<T> replay(long snapshotCrc) {
+        EdtIoGuard.check("replay", file);
+        List<T> records = new ArrayList<>();
+        if (!Files.exists(file)) {
+            rebind(snapshotCrc);
+            return records;
+        }
+        FileIoEvent io = FileIoEvent.start("replay", file);
+        try {
+            byte[] data = Files.readAllBytes(file);
+            int lastNewline = -1;
+            for (int i = data.length - 1; i >= 0; i--) {
+                if (data[i] == '\n') { lastNewline = i; break; }
+            }
+            if (lastNewline < data.length - 1) {
+                truncate(lastNewline + 1);
+            }
+            String[] lines = new String(data, 0, lastNewline + 1, StandardCharsets.UTF_8).split("\n");
+            Header header = parseHeader(lines[0]);
+            if (header == null || header.snapshotCrc != snapshotCrc) {
+                rebind(snapshotCrc); // Journal gehört zu einem anderen Snapshot
+                return records;
+            }
+            for (int i = 1; i < lines.length; i++) {
+                try {
+                    T record = LINE_GSON.fromJson(lines[i], type);
+                    if (record != null) records.add(record);
+                } catch (JsonParseException e) {
+                    System.err.println("Journal " + file + ": Zeile " + (i + 1) + " übersprungen (" + e.getMessage() + ")");
+                }
+            }
+            if (io != null) io.finish(data.length, records.size());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        size = records.size();
+        return records;
+    }
+
+    /**
+     * Hängt einen Datensatz als einzelne Zeile an.
+     *
+     * @param record Der neue Datensatz.
+     * @throws UncheckedIOException wenn nicht geschrieben werden konnte.
+     */
+    void append(T record) {
+        appendAll(List.of(record));
+    }
+
+    /**
+     * Hängt mehrere Datensätze mit einem einzigen Schreibvorgang an.
+     *
+     * @param records Die neuen Datensätze.
+     * @throws UncheckedIOException wenn nicht geschrieben werden konnte.
+     */
+    void appendAll(Collection<T> records) {
+        appendAll(records, false);
+    }
+
+    /**
+     * Hängt mehrere Datensätze mit einem einzigen Schreibvorgang an und wartet optional,
+     * bis sie auf dem Datenträger angekommen sind ({@code fsync}).
+     *
+     * @param records Die neuen Datensätze.
+     * @param durable {@code true}, um nach dem Schreiben {@link FileChannel#force(boolean)} aufzurufen.
+     * @throws UncheckedIOException wenn nicht geschrieben werden konnte oder das Journal noch nicht
+     *                              an den aktuellen Snapshot gebunden ist. Ein bereits teilweise
+     *                              geschriebener Anhang wird nach Möglichkeit wieder abgeschnitten.
+     */
+    void appendAll(Collection<T> records, boolean durable) {
+        EdtIoGuard.check("append", file);
+        if (pendingCrc != null) {
+            reset(pendingCrc); // sonst landen die Datensätze in einem Journal, das replay verwirft
+        }
+        StringBuilder sb = new StringBuilder();
+        for (T r : records) {
+            sb.append(LINE_GSON.toJson(r, type)).append('\n');
+        }
+        FileIoEvent io = FileIoEvent.start(durable ? "append+fsync" : "append", file);
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            long before = ch.size();
+            ByteBuffer buf = ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8));
+            try {
+                while (buf.hasRemaining()) {
+                    ch.write(buf);
+                }
+                if (durable) {
+                    ch.force(false);
+                }
+            } catch (IOException e) {
+                try {
+                    ch.truncate(before); // keine halben Anhänge, die beim Neustart doch noch auftauchen
+                } catch (IOException ignored) {
+                    // Eine unvollständige letzte Zeile verwirft replay ohnehin
+                }
+                throw e;
+            }
+            size += records.size();
+            if (io != null) io.finish(buf.capacity(), records.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(file + " konnte nicht geschrieben werden", e);
+        }
+    }
+
+    /**
+     * Leert das Journal und verknüpft es mit einem neu geschriebenen Snapshot.
+     *
+     * @param snapshotCrc Prüfsumme des neuen Snapshots.
+     * @throws UncheckedIOException wenn nicht geschrieben werden konnte. Die alte Datei bleibt dann
+     *                              unverändert und der nächste Anhang versucht es erneut.
+     */
+    void reset(long snapshotCrc) {
+        EdtIoGuard.check("reset", file);
+        byte[] header = (LINE_GSON.toJson(new Header(snapshotCrc)) + "\n").getBytes(StandardCharsets.UTF_8);
+        try {
+            AtomicFiles.write(file, out -> out.write(header));
+            size = 0;
+            pendingCrc = null;
+        } catch (IOException e) {
+            pendingCrc = snapshotCrc;
+            throw new UncheckedIOException(file + " konnte nicht geleert werden", e);
+        }
+    }
+
+    // Beim Einlesen genügt eine Warnung: Lesen funktioniert weiter, erst das Anhängen scheitert
+    private void rebind(long snapshotCrc) {
+        try {
+            reset(snapshotCrc);
+        } catch (UncheckedIOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Gibt die Anzahl der Datensätze seit der letzten Kompaktierung zurück.
+     *
+     * @return Anzahl der Journal-Einträge.
+     */
+    int size() {
+        return size;
+    }
+
+    private static Header parseHeader(String line) {
+        try {
+            return line.isEmpty() ? null : LINE_GSON.fromJson(line, Header.class);
+        } catch (JsonParseException e) {
+            return null;
+        }
+    }
+
+    private void truncate(long length) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ch.truncate(length);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.quizapp.data;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.quizapp.metrics.FileIoEvent;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Kleine Hilfsklasse für das Lesen und Schreiben der JSON-Dateien.
+ * <p>
+ * Bündelt die gemeinsame Gson-Konfiguration, damit alle Repositories
+ * dasselbe Dateiformat (Pretty-Printing, UTF-8) verwenden.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+final class JsonFiles {
+
+    static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private JsonFiles() {
+        // Utility-Klasse
+    }
+
+    /**
+     * Liest eine JSON-Datei vollständig ein.
+     *
+     * @param file Die zu lesende Datei.
+     * @param type Der Zieltyp (z.B. eine {@code TypeToken}-Liste).
+     * @param <T>  Der Rückgabetyp.
+     * @return Das gelesene Objekt oder {@code null}, wenn die Datei fehlt oder leer ist.
+     */
+    static <T> T read(Path file, Type type) {
+        return read(file, type, new CRC32());
+    }
+
+    /**
+     * Liest eine JSON-Datei vollständig ein und berechnet dabei die CRC32-Prüfsumme
+     * des Dateiinhalts (z.B. um ein zugehöriges Journal dem Snapshot zuzuordnen).
+     *
+     * @param file     Die zu lesende Datei.
+     * @param type     Der Zieltyp.
+     * @param checksum Prüfsumme, die mit allen gelesenen Bytes aktualisiert wird.
+     * @param <T>      Der Rückgabetyp.
+     * @return Das gelesene Objekt oder {@code null}, wenn die Datei fehlt oder leer ist.
+     */
+    static <T> T read(Path file, Type type, CRC32 checksum) {
+        EdtIoGuard.check("read", file);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        FileIoEvent io = FileIoEvent.start("read", file);
+        try (InputStream in = new CheckedInputStream(new BufferedInputStream(Files.newInputStream(file)), checksum);
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            T value = GSON.fromJson(reader, type);
+            in.transferTo(OutputStream.nullOutputStream()); // Rest (Whitespace) für die Prüfsumme lesen
+            if (io != null) io.finish(Files.size(file), entriesOf(value));
+            return value;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Schreibt ein Objekt als JSON in die angegebene Datei.
+     * <p>
+     * Die Datei wird über {@link AtomicFiles} ersetzt, d.h. bei einem Fehler oder Absturz
+     * bleibt der bisherige Inhalt vollständig erhalten.
+     * </p>
+     *
+     * @param file  Die Zieldatei.
+     * @param value Das zu serialisierende Objekt.
+     * @return Die CRC32-Prüfsumme der geschriebenen Bytes.
+     * @throws UncheckedIOException wenn die Datei nicht geschrieben werden konnte. Der Aufrufer
+     *                              darf sich dann nicht auf den neuen Inhalt verlassen (z.B. das
+     *                              Journal leeren); die Datei hat noch ihren bisherigen Inhalt.
+     */
+    static long write(Path file, Object value) {
+        EdtIoGuard.check("write", file);
+        CRC32 checksum = new CRC32();
+        FileIoEvent io = FileIoEvent.start("write", file);
+        try {
+            AtomicFiles.write(file, out -> {
+                Writer writer = new OutputStreamWriter(new CheckedOutputStream(out, checksum), StandardCharsets.UTF_8);
+                GSON.toJson(value, writer);
+                writer.flush();
+            });
+            if (io != null) io.finish(Files.size(file), entriesOf(value));
+        } catch (IOException e) {
+            throw new UncheckedIOException(file + " konnte nicht geschrieben werden", e);
+        }
+        return checksum.getValue();
+    }
+
+    private static int entriesOf(Object value) {
+        return value instanceof Collection<?> c ? c.size() : value == null ? 0 : 1;
+    }
+}
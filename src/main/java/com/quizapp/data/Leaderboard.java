@@ -0,0 +1,278 @@
+package com.quizapp.data;
+
+import com.quizapp.model.HighscoreEntry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Unveränderliche, nach Punktzahl sortierte Rangliste (Order-Statistic-Tree).
+ * <p>
+ * Intern ein gewichtsbalancierter Binärbaum, dessen Knoten die Größe ihres Teilbaums
+ * kennen. Dadurch sind Einfügen, "Welcher Rang ist diese Punktzahl?" und der Zugriff auf
+ * Platz {@code i} in O(log n) möglich, die Top-k lassen sich in O(log n + k) lesen.
+ * </p>
+ * <p>
+ * Die Rangliste ist persistent: {@link #insert(HighscoreEntry)} verändert die bestehende
+ * Instanz nicht, sondern liefert eine neue, die sich alle unveränderten Teilbäume mit der
+ * alten teilt (Path-Copying). Leser können eine Instanz daher ohne Sperren verwenden,
+ * auch während gleichzeitig neue Ergebnisse gespeichert werden.
+ * </p>
+ * <p>
+ * Sortierung: höchste Punktzahl zuerst; bei gleicher Punktzahl behält der früher
+ * gespeicherte Eintrag den besseren Rang (wie bei einer stabilen Sortierung).
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class Leaderboard implements Iterable<HighscoreEntry> {
+
+    /** Gewichtsbalance-Parameter nach Adams (delta = 3, ratio = 2). */
+    private static final int DELTA = 3;
+    private static final int RATIO = 2;
+
+    private static final Leaderboard EMPTY = new Leaderboard(null, 0);
+
+    private static final class Node {
+        final HighscoreEntry entry;
+        final long seq;
+        final Node left;
+        final Node right;
+        final int size;
+
+        Node(HighscoreEntry entry, long seq, Node left, Node right) {
+            this.entry = entry;
+            this.seq = seq;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    private final Node root;
+    private final long nextSeq;
+
+    private Leaderboard(Node root, long nextSeq) {
+        this.root = root;
+        this.nextSeq = nextSeq;
+    }
+
+    /**
+     * Gibt eine leere Rangliste zurück.
+     *
+     * @return Die leere Rangliste.
+     */
+    public static Leaderboard empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Baut eine Rangliste in O(n) aus bereits absteigend sortierten Einträgen auf.
+     *
+     * @param sorted Einträge, absteigend nach Punktzahl (bei Gleichstand in Einfügereihenfolge).
+     * @return Die neue Rangliste.
+     */
+    public static Leaderboard ofSorted(List<HighscoreEntry> sorted) {
+        HighscoreEntry[] arr = sorted.toArray(new HighscoreEntry[0]);
+        return new Leaderboard(build(arr, 0, arr.length), arr.length);
+    }
+
+    private static Node build(HighscoreEntry[] arr, int from, int to) {
+        if (from >= to) return null;
+        int mid = (from + to) >>> 1;
+        return new Node(arr[mid], mid, build(arr, from, mid), build(arr, mid + 1, to));
+    }
+
+    /**
+     * Fügt einen Eintrag ein. Die aktuelle Instanz bleibt unverändert.
+     *
+     * @param entry Der neue Eintrag.
+     * @return Eine neue Rangliste, die den Eintrag enthält.
+     */
+    public Leaderboard insert(HighscoreEntry entry) {
+        return new Leaderboard(insert(root, entry, nextSeq), nextSeq + 1);
+    }
+
+    private static Node insert(Node n, HighscoreEntry e, long seq) {
+        if (n == null) return new Node(e, seq, null, null);
+        if (before(e.getScore(), seq, n)) {
+            return balance(n.entry, n.seq, insert(n.left, e, seq), n.right);
+        }
+        return balance(n.entry, n.seq, n.left, insert(n.right, e, seq));
+    }
+
+    /** Steht ein Eintrag (score, seq) in der Rangliste vor dem Knoten n? */
+    private static boolean before(int score, long seq, Node n) {
+        int s = n.entry.getScore();
+        return score > s || (score == s && seq < n.seq);
+    }
+
+    /**
+     * Gibt die Anzahl der Einträge zurück.
+     *
+     * @return Anzahl der Einträge.
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Gibt den Eintrag auf dem angegebenen Platz zurück (0 = bester Eintrag).
+     *
+     * @param index Position in der Rangliste.
+     * @return Der Eintrag an dieser Position.
+     * @throws IndexOutOfBoundsException bei ungültigem Index.
+     */
+    public HighscoreEntry get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + ", Größe " + size());
+        }
+        Node n = root;
+        while (true) {
+            int ls = size(n.left);
+            if (index < ls) {
+                n = n.left;
+            } else if (index == ls) {
+                return n.entry;
+            } else {
+                index -= ls + 1;
+                n = n.right;
+            }
+        }
+    }
+
+    /**
+     * Berechnet den Rang, den eine Punktzahl in der Rangliste erreichen würde.
+     * <p>
+     * Der Rang ist 1 + Anzahl der Einträge mit <em>echt</em> höherer Punktzahl,
+     * d.h. punktgleiche Spieler teilen sich denselben Rang.
+     * </p>
+     *
+     * @param score Die Punktzahl.
+     * @return Der Rang (beginnend bei 1).
+     */
+    public int rankOf(int score) {
+        int better = 0;
+        Node n = root;
+        while (n != null) {
+            if (n.entry.getScore() > score) {
+                better += size(n.left) + 1;
+                n = n.right;
+            } else {
+                n = n.left;
+            }
+        }
+        return better + 1;
+    }
+
+    /**
+     * Gibt die besten {@code k} Einträge zurück.
+     *
+     * @param k Anzahl der gewünschten Einträge.
+     * @return Eine neue Liste mit höchstens {@code k} Einträgen.
+     */
+    public List<HighscoreEntry> top(int k) {
+        return range(0, k);
+    }
+
+    /**
+     * Gibt einen Ausschnitt der Rangliste zurück (z.B. eine Tabellenseite).
+     *
+     * @param from  Startposition (0 = bester Eintrag).
+     * @param count Maximale Anzahl an Einträgen.
+     * @return Eine neue Liste mit den Einträgen {@code from .. from + count - 1}.
+     */
+    public List<HighscoreEntry> range(int from, int count) {
+        int to = Math.min(size(), from + Math.max(0, count));
+        List<HighscoreEntry> out = new ArrayList<>(Math.max(0, to - from));
+        if (from < to) {
+            Iterator<HighscoreEntry> it = iteratorFrom(from);
+            while (out.size() < to - from) out.add(it.next());
+        }
+        return out;
+    }
+
+    /**
+     * Gibt alle Einträge in Ranglisten-Reihenfolge als neue Liste zurück.
+     *
+     * @return Eine veränderbare Kopie aller Einträge.
+     */
+    public List<HighscoreEntry> toList() {
+        return range(0, size());
+    }
+
+    @Override
+    public Iterator<HighscoreEntry> iterator() {
+        return iteratorFrom(0);
+    }
+
+    /**
+     * In-Order-Iterator, der in O(log n) zur Startposition springt.
+     */
+    private Iterator<HighscoreEntry> iteratorFrom(int from) {
+        Deque<Node> stack = new ArrayDeque<>();
+        Node n = root;
+        int index = Math.max(0, from);
+        while (n != null) {
+            int ls = size(n.left);
+            if (index <= ls) {
+                stack.push(n);
+                n = n.left;
+            } else {
+                index -= ls + 1;
+                n = n.right;
+            }
+        }
+        // Knoten links vom Start liegen nicht auf dem Stack; vom Stack aus geht es in-order weiter.
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !stack.isEmpty();
+            }
+
+            @Override
+            public HighscoreEntry next() {
+                if (stack.isEmpty()) throw new NoSuchElementException();
+                Node cur = stack.pop();
+                for (Node c = cur.right; c != null; c = c.left) stack.push(c);
+                return cur.entry;
+            }
+        };
+    }
+
+    // ---------- Gewichtsbalancierung ----------
+
+    private static int size(Node n) {
+        return n == null ? 0 : n.size;
+    }
+
+    private static Node balance(HighscoreEntry e, long seq, Node l, Node r) {
+        int sl = size(l), sr = size(r);
+        if (sl + sr <= 1) return new Node(e, seq, l, r);
+        if (sr > DELTA * sl) return rotateLeft(e, seq, l, r);
+        if (sl > DELTA * sr) return rotateRight(e, seq, l, r);
+        return new Node(e, seq, l, r);
+    }
+
+    private static Node rotateLeft(HighscoreEntry e, long seq, Node l, Node r) {
+        if (size(r.left) < RATIO * size(r.right)) {
+            return new Node(r.entry, r.seq, new Node(e, seq, l, r.left), r.right);
+        }
+        Node rl = r.left;
+        return new Node(rl.entry, rl.seq, new Node(e, seq, l, rl.left), new Node(r.entry, r.seq, rl.right, r.right));
+    }
+
+    private static Node rotateRight(HighscoreEntry e, long seq, Node l, Node r) {
+        if (size(l.right) < RATIO * size(l.left)) {
+            return new Node(l.entry, l.seq, l.left, new Node(e, seq, l.right, r));
+        }
+        Node lr = l.right;
+        return new Node(lr.entry, lr.seq, new Node(l.entry, l.seq, l.left, lr.left), new Node(e, seq, lr.right, r));
+    }
+}
@@ -0,0 +1,159 @@
+package com.quizapp.data;
+
+import com.quizapp.model.Question;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Schreibgeschützte Fragenliste direkt über einem memory-mapped {@link BinarySnapshot}.
+ * <p>
+ * Auf dem Heap liegen nur ein paar Positionszeiger; Index, Datensätze und UTF-8-Texte
+ * bleiben in der abgebildeten Datei. {@link #get(int)} liefert eine Frage, deren Text und
+ * Antworten erst beim ersten Zugriff auf {@link Question#getText()} bzw.
+ * {@link Question#getOptions()} dekodiert werden – in der Praxis also erst, wenn
+ * {@code Quiz.loadQuestion} oder {@code TimeMode.loadQuestion} sie anzeigt. Da die Liste
+ * {@link RandomAccess} ist, zieht der {@code QuestionSampler} eine Runde, ohne die
+ * übrigen Fragen anzufassen.
+ * </p>
+ * <p>
+ * Die Liste spiegelt genau den Stand der Datei beim Öffnen wider und kann nicht
+ * verändert werden.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class MappedQuestionStore extends AbstractList<Question> implements RandomAccess {
+
+    private final ByteBuffer buf;
+    private final int offsetsPos;   // int[n+1] Offsets der Strings
+    private final int stringsPos;   // Beginn der String-Daten
+    private final int refsPos;      // int[] Antwort-Refs
+    private final int recordsPos;   // Datensätze à 20 Byte
+    private final int count;
+
+    private MappedQuestionStore(ByteBuffer buf) {
+        this.buf = buf;
+        int stringCount = buf.getInt(BinarySnapshot.HEADER);
+        offsetsPos = BinarySnapshot.HEADER + 4;
+        stringsPos = offsetsPos + 4 * (stringCount + 1);
+        int afterStrings = stringsPos + buf.getInt(offsetsPos + 4 * stringCount);
+        count = buf.getInt(afterStrings);
+        int refCount = buf.getInt(afterStrings + 4);
+        refsPos = afterStrings + 8;
+        recordsPos = refsPos + 4 * refCount;
+        if (recordsPos + (long) count * BinarySnapshot.QUESTION_RECORD > buf.limit()) {
+            throw new IndexOutOfBoundsException("Datensätze reichen über das Dateiende hinaus");
+        }
+    }
+
+    /**
+     * Öffnet einen Fragen-Snapshot unabhängig davon, aus welcher JSON-Datei er stammt.
+     *
+     * @param bin Der Binär-Snapshot (z.B. {@code questions.bin}).
+     * @return Die Fragenliste oder {@code null}, wenn die Datei fehlt oder beschädigt ist.
+     */
+    public static MappedQuestionStore open(Path bin) {
+        return open(bin, BinarySnapshot.ANY_SOURCE);
+    }
+
+    /**
+     * Öffnet einen Fragen-Snapshot, sofern er zur angegebenen JSON-Quelle gehört.
+     *
+     * @param bin       Der Binär-Snapshot.
+     * @param sourceCrc Erwartete Prüfsumme der JSON-Quelle oder {@link BinarySnapshot#ANY_SOURCE}.
+     * @return Die Fragenliste oder {@code null}, wenn die Datei fehlt, veraltet oder beschädigt ist.
+     */
+    static MappedQuestionStore open(Path bin, long sourceCrc) {
+        ByteBuffer buf = BinarySnapshot.map(bin, BinarySnapshot.KIND_QUESTIONS, sourceCrc);
+        if (buf == null) return null;
+        try {
+            return new MappedQuestionStore(buf);
+        } catch (IndexOutOfBoundsException e) {
+            System.err.println("Binär-Snapshot " + bin + " ist beschädigt und wird ignoriert.");
+            return null;
+        }
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Liefert die Frage an Position {@code index}, ohne Text und Antworten zu dekodieren.
+     *
+     * @param index Position im Snapshot.
+     * @return Eine unveränderliche, lazy dekodierte Frage.
+     */
+    @Override
+    public Question get(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index " + index + ", Größe " + count);
+        }
+        return new LazyQuestion(this, recordsPos + index * BinarySnapshot.QUESTION_RECORD);
+    }
+
+    private String string(int ref) {
+        if (ref == BinarySnapshot.NULL_REF) return null;
+        int from = buf.getInt(offsetsPos + 4 * ref);
+        int to = buf.getInt(offsetsPos + 4 * (ref + 1));
+        byte[] bytes = new byte[to - from];
+        buf.get(stringsPos + from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Frage, die nur auf ihren Datensatz im Snapshot zeigt und Texte erst bei Bedarf dekodiert.
+     */
+    private static final class LazyQuestion extends Question {
+        private final MappedQuestionStore store;
+        private final int record;
+        private String text;
+        private String[] options;
+
+        LazyQuestion(MappedQuestionStore store, int record) {
+            super(null, null, 0);
+            this.store = store;
+            this.record = record;
+        }
+
+        @Override
+        public long getId() {
+            return store.buf.getLong(record);
+        }
+
+        @Override
+        public String getText() {
+            if (text == null) {
+                text = store.string(store.buf.getInt(record + 8));
+            }
+            return text;
+        }
+
+        @Override
+        public String[] getOptions() {
+            if (options == null) {
+                int first = store.buf.getInt(record + 12);
+                short count = store.buf.getShort(record + 16);
+                if (count < 0) return null; // Frage ohne Antwortliste
+                String[] o = new String[count];
+                for (int i = 0; i < o.length; i++) {
+                    o[i] = store.string(store.buf.getInt(store.refsPos + 4 * (first + i)));
+                }
+                options = o;
+            }
+            return options;
+        }
+
+        @Override
+        public int getCorrectIndex() {
+            return store.buf.getShort(record + 18);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.quizapp.data;
+
+import com.quizapp.model.HighscoreEntry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index von Spielername auf dessen Highscore-Einträge.
+ * <p>
+ * Schlüssel ist der Name in einer Faltung, die genau der Semantik von
+ * {@link String#equalsIgnoreCase(String)} entspricht. Zwei Namen landen also genau dann
+ * im selben Eintrag, wenn der bisherige lineare Vergleich sie als gleich angesehen hätte.
+ * Pro Spieler werden die Einträge in Ranglisten-Reihenfolge sowie der höchste Score
+ * gehalten, sodass Abfragen nur noch O(1) bzw. O(Einträge des Spielers) kosten.
+ * </p>
+ * <p>
+ * Die Werte sind unveränderlich und werden beim Speichern eines neuen Ergebnisses
+ * ersetzt; Leser benötigen daher keine Sperre. Einträge ohne Spielername (z.B. aus einer
+ * von Hand bearbeiteten {@code highscores.json}) stehen zwar in der Rangliste, werden aber
+ * nicht indiziert – über einen Namen waren sie auch bisher nicht zu finden.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+final class PlayerIndex {
+
+    /** Unveränderliche Sicht auf die Einträge eines Spielers. */
+    static final class PlayerScores {
+        final int maxScore;
+        final List<HighscoreEntry> entries;
+
+        PlayerScores(List<HighscoreEntry> entries) {
+            this.entries = Collections.unmodifiableList(entries);
+            this.maxScore = entries.get(0).getScore();
+        }
+    }
+
+    private final Map<String, PlayerScores> byPlayer;
+
+    private PlayerIndex(Map<String, PlayerScores> byPlayer) {
+        this.byPlayer = byPlayer;
+    }
+
+    /**
+     * Baut den Index in einem Durchlauf über die (sortierte) Rangliste auf.
+     *
+     * @param board Die Rangliste.
+     * @return Der neue Index.
+     */
+    static PlayerIndex build(Leaderboard board) {
+        Map<String, List<HighscoreEntry>> lists = new HashMap<>();
+        for (HighscoreEntry e : board) {
+            if (e.getPlayerName() == null) continue;
+            lists.computeIfAbsent(fold(e.getPlayerName()), k -> new ArrayList<>()).add(e);
+        }
+        Map<String, PlayerScores> map = new ConcurrentHashMap<>(Math.max(16, lists.size() * 2));
+        lists.forEach((k, v) -> map.put(k, new PlayerScores(v)));
+        return new PlayerIndex(map);
+    }
+
+    /**
+     * Gibt die Einträge eines Spielers zurück.
+     *
+     * @param username Der Spielername (Groß-/Kleinschreibung egal).
+     * @return Die Einträge oder {@code null}, wenn der Spieler unbekannt ist.
+     */
+    PlayerScores get(String username) {
+        return username == null ? null : byPlayer.get(fold(username));
+    }
+
+    /**
+     * Nimmt einen neu gespeicherten Eintrag auf.
+     * <p>
+     * Der Eintrag wird hinter allen Einträgen des Spielers mit gleicher oder höherer
+     * Punktzahl eingeordnet – genau wie im {@link Leaderboard}. Darf nur von einem
+     * Schreiber gleichzeitig aufgerufen werden.
+     * </p>
+     *
+     * @param entry Der neue Eintrag.
+     */
+    void add(HighscoreEntry entry) {
+        if (entry.getPlayerName() == null) return;
+        String key = fold(entry.getPlayerName());
+        PlayerScores old = byPlayer.get(key);
+        List<HighscoreEntry> list = old == null ? new ArrayList<>(1) : new ArrayList<>(old.entries);
+        int pos = 0;
+        while (pos < list.size() && list.get(pos).getScore() >= entry.getScore()) pos++;
+        list.add(pos, entry);
+        byPlayer.put(key, new PlayerScores(list));
+    }
+
+    /**
+     * Faltet einen Namen so, dass {@code fold(a).equals(fold(b)) == a.equalsIgnoreCase(b)}.
+     * <p>
+     * {@code equalsIgnoreCase} vergleicht zeichenweise erst die Groß- und dann die
+     * Kleinbuchstaben-Varianten; dieselbe Abbildung pro Codepoint ergibt einen eindeutigen Schlüssel.
+     * </p>
+     *
+     * @param name Der Spielername.
+     * @return Der gefaltete Schlüssel.
+     */
+    static String fold(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        name.codePoints().forEach(cp -> sb.appendCodePoint(Character.toLowerCase(Character.toUpperCase(cp))));
+        return sb.toString();
+    }
+}
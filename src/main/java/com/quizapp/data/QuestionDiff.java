@@ -0,0 +1,31 @@
+package com.quizapp.data;
+
+/**
+ * Ergebnis eines Neuladens der Fragendatei: Unterschiede zum bisherigen Stand, über die
+ * Fragen-ID zugeordnet.
+ *
+ * @param added     Neu hinzugekommene Fragen.
+ * @param changed   Fragen mit gleicher ID, aber geändertem Text, Antworten oder Lösung.
+ * @param removed   Nicht mehr vorhandene Fragen.
+ * @param total     Anzahl der Fragen nach dem Neuladen.
+ * @param conflicts Lokale, noch nicht kompaktierte Änderungen, die eine in der neuen Datei
+ *                  anders lautende Frage überschrieben haben (die lokale Änderung bleibt erhalten).
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public record QuestionDiff(int added, int changed, int removed, int total, int conflicts) {
+
+    /**
+     * @return {@code true}, wenn sich inhaltlich nichts geändert hat (z.B. nur Formatierung).
+     */
+    public boolean isEmpty() {
+        return added == 0 && changed == 0 && removed == 0;
+    }
+
+    @Override
+    public String toString() {
+        String text = "+" + added + " ~" + changed + " -" + removed + " (" + total + " Fragen)";
+        return conflicts == 0 ? text : text + ", " + conflicts + " Konflikte mit lokalen Änderungen";
+    }
+}
@@ -0,0 +1,113 @@
+package com.quizapp.data;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Beobachtet die Fragendatei und lädt sie neu, wenn sie von außen ersetzt wird.
+ * <p>
+ * Ein Daemon-Thread ({@code quizapp-question-watcher}) wartet über einen NIO-{@link WatchService}
+ * auf Änderungen im Verzeichnis der Datei. Nach dem letzten Ereignis wird
+ * {@value #SETTLE_MILLIS} ms gewartet, damit ein Kopiervorgang abgeschlossen ist, und dann
+ * {@link QuestionRepository#reloadIfChanged()} aufgerufen. Das Repository entscheidet anhand
+ * von Änderungszeit, Größe und Prüfsumme, ob wirklich neu geladen werden muss; die eigenen
+ * Schreibvorgänge der Anwendung lösen deshalb kein Neuladen aus.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class QuestionFileWatcher implements AutoCloseable {
+
+    /** Ruhezeit nach dem letzten Dateiereignis, bevor neu geladen wird. */
+    static final long SETTLE_MILLIS = 200;
+
+    private final QuestionRepository repository;
+    private final Path fileName;
+    private final WatchService watcher;
+    private final Consumer<QuestionDiff> onReload;
+    private final Thread thread;
+
+    private QuestionFileWatcher(QuestionRepository repository, Path file, Consumer<QuestionDiff> onReload)
+            throws IOException {
+        this.repository = repository;
+        this.fileName = file.getFileName();
+        this.onReload = onReload;
+        this.watcher = FileSystems.getDefault().newWatchService();
+        Path dir = file.toAbsolutePath().getParent();
+        dir.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        this.thread = new Thread(this::run, "quizapp-question-watcher");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Startet die Beobachtung.
+     *
+     * @param repository Das Repository, das die Datei verwaltet.
+     * @param file       Die Fragendatei (z.B. {@code questions.json}).
+     * @param onReload   Wird nach jedem tatsächlichen Neuladen auf dem Watcher-Thread aufgerufen.
+     * @return Der laufende Watcher.
+     * @throws IOException wenn das Verzeichnis nicht beobachtet werden kann.
+     */
+    public static QuestionFileWatcher start(QuestionRepository repository, Path file,
+                                            Consumer<QuestionDiff> onReload) throws IOException {
+        QuestionFileWatcher w = new QuestionFileWatcher(repository, file, onReload);
+        w.thread.start();
+        return w;
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                if (!concernsFile(watcher.take())) continue;
+                // Weitere Ereignisse abwarten, bis die Datei zur Ruhe gekommen ist
+                WatchKey more;
+                while ((more = watcher.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    concernsFile(more);
+                }
+                try {
+                    QuestionDiff diff = repository.reloadIfChanged();
+                    if (diff != null) onReload.accept(diff);
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // beendet
+        }
+    }
+
+    // Verbraucht die Ereignisse des Schlüssels und meldet, ob die Fragendatei betroffen ist
+    private boolean concernsFile(WatchKey key) {
+        boolean hit = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context())) {
+                hit = true;
+            }
+        }
+        key.reset();
+        return hit;
+    }
+
+    /**
+     * Beendet die Beobachtung.
+     */
+    @Override
+    public void close() {
+        try {
+            watcher.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        thread.interrupt();
+    }
+}
@@ -0,0 +1,261 @@
+package com.quizapp.data;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.quizapp.model.Question;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+/**
+ * Liest viele Fragen auf einmal aus einer NDJSON- oder CSV-Datei und prüft sie.
+ * <p>
+ * Jede nicht leere Zeile ist eine Frage:
+ * </p>
+ * <ul>
+ * <li><b>NDJSON</b> ({@code .ndjson}, {@code .jsonl}):
+ *     {@code {"text":"...","options":["A","B","C","D"],"correctIndex":0}}</li>
+ * <li><b>CSV</b> ({@code .csv}): {@code text,antwortA,antwortB,antwortC,antwortD,correctIndex};
+ *     Felder mit Komma oder Anführungszeichen werden wie üblich in {@code "..."} gesetzt.
+ *     Eine Kopfzeile, deren erstes Feld {@code text} lautet, wird übersprungen.</li>
+ * </ul>
+ * <p>
+ * Die Zeilen werden parallel auf allen Kernen geparst und geprüft (genau 4 nicht leere
+ * Antworten, {@code correctIndex} zwischen 0 und 3, nicht leerer Fragetext). Die Reihenfolge
+ * der Fragen bleibt erhalten; Fehler werden mit ihrer Zeilennummer gemeldet. Gespeichert
+ * wird hier nichts – das übernimmt {@link DataManager#importQuestions(Path)} in einem
+ * einzigen Schreibvorgang.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class QuestionImporter {
+
+    /** Anzahl der Antworten, die jede Frage haben muss. */
+    public static final int OPTIONS = 4;
+
+    /**
+     * Unterstützte Dateiformate.
+     */
+    public enum Format {
+        NDJSON, CSV;
+
+        /**
+         * Bestimmt das Format anhand der Dateiendung ({@code .csv}, sonst NDJSON).
+         *
+         * @param file Die Importdatei.
+         * @return Das Format.
+         */
+        public static Format of(Path file) {
+            return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv") ? CSV : NDJSON;
+        }
+    }
+
+    /**
+     * Fehler in einer Zeile der Importdatei.
+     *
+     * @param line    Zeilennummer (ab 1; 0 = die Datei als Ganzes).
+     * @param message Beschreibung des Fehlers.
+     */
+    public record LineError(int line, String message) {
+        @Override
+        public String toString() {
+            return line > 0 ? "Zeile " + line + ": " + message : message;
+        }
+    }
+
+    /**
+     * Ergebnis eines Imports.
+     *
+     * @param questions Die gültigen Fragen in der Reihenfolge der Datei.
+     * @param errors    Alle fehlerhaften Zeilen, aufsteigend nach Zeilennummer.
+     */
+    public record Result(List<Question> questions, List<LineError> errors) {
+        /**
+         * @return {@code true}, wenn keine Zeile fehlerhaft war.
+         */
+        public boolean isValid() {
+            return errors.isEmpty();
+        }
+    }
+
+    private QuestionImporter() {
+        // Utility-Klasse
+    }
+
+    /**
+     * Liest und prüft eine Importdatei; das Format ergibt sich aus der Dateiendung.
+     *
+     * @param file Die Importdatei (UTF-8).
+     * @return Gültige Fragen und Fehler pro Zeile.
+     * @throws IOException wenn die Datei nicht gelesen werden kann.
+     */
+    public static Result parse(Path file) throws IOException {
+        return parse(Files.readAllLines(file, StandardCharsets.UTF_8), Format.of(file));
+    }
+
+    /**
+     * Parst und prüft bereits gelesene Zeilen.
+     *
+     * @param lines  Die Zeilen der Datei.
+     * @param format Das Format der Zeilen.
+     * @return Gültige Fragen und Fehler pro Zeile.
+     */
+    public static Result parse(List<String> lines, Format format) {
+        int n = lines.size();
+        Question[] parsed = new Question[n];
+        String[] failures = new String[n];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            String line = lines.get(i);
+            if (i == 0 && line.startsWith("\uFEFF")) line = line.substring(1); // BOM, z.B. aus Excel
+            if (line.isBlank() || format == Format.CSV && i == 0 && isHeader(line)) return;
+            try {
+                parsed[i] = format == Format.CSV ? fromCsv(line) : fromJson(line);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                failures[i] = e.getMessage();
+            }
+        });
+
+        List<Question> questions = new ArrayList<>(n);
+        List<LineError> errors = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (parsed[i] != null) questions.add(parsed[i]);
+            else if (failures[i] != null) errors.add(new LineError(i + 1, failures[i]));
+        }
+        return new Result(questions, errors);
+    }
+
+    private static boolean isHeader(String line) {
+        return line.stripLeading().regionMatches(true, 0, "text,", 0, 5);
+    }
+
+    private static Question fromJson(String line) {
+        JsonObject o;
+        try {
+            JsonElement e = JsonParser.parseString(line);
+            if (!e.isJsonObject()) throw new IllegalArgumentException("JSON-Objekt erwartet");
+            o = e.getAsJsonObject();
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("Ungültiges JSON: " + rootMessage(e));
+        }
+        String text = stringOf(o.get("text"), "text");
+        JsonElement opts = o.get("options");
+        if (opts == null || !opts.isJsonArray()) {
+            throw new IllegalArgumentException("\"options\" fehlt oder ist keine Liste");
+        }
+        JsonArray array = opts.getAsJsonArray();
+        String[] options = new String[array.size()];
+        for (int i = 0; i < options.length; i++) {
+            options[i] = stringOf(array.get(i), "options[" + i + "]");
+        }
+        JsonElement index = o.get("correctIndex");
+        if (index == null || !index.isJsonPrimitive() || !index.getAsJsonPrimitive().isNumber()) {
+            throw new IllegalArgumentException("\"correctIndex\" fehlt oder ist keine Zahl");
+        }
+        double d = index.getAsDouble();
+        if (d != Math.rint(d)) {
+            throw new IllegalArgumentException("\"correctIndex\" muss eine ganze Zahl sein: " + index);
+        }
+        return validated(text, options, d < Integer.MIN_VALUE || d > Integer.MAX_VALUE ? -1 : (int) d);
+    }
+
+    private static String stringOf(JsonElement e, String field) {
+        if (e == null || e.isJsonNull()) return null;
+        if (!e.isJsonPrimitive() || !e.getAsJsonPrimitive().isString()) {
+            throw new IllegalArgumentException("\"" + field + "\" muss ein Text sein");
+        }
+        return e.getAsString();
+    }
+
+    private static Question fromCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() != OPTIONS + 2) {
+            throw new IllegalArgumentException("Erwartet " + (OPTIONS + 2) + " Felder (text, "
+                    + OPTIONS + " Antworten, correctIndex), gefunden: " + fields.size());
+        }
+        String[] options = fields.subList(1, OPTIONS + 1).toArray(new String[0]);
+        String index = fields.get(OPTIONS + 1).strip();
+        int correct;
+        try {
+            correct = Integer.parseInt(index);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("correctIndex ist keine Zahl: \"" + index + "\"");
+        }
+        return validated(fields.get(0), options, correct);
+    }
+
+    // RFC 4180 innerhalb einer Zeile: "" steht für ein Anführungszeichen im Feld
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(OPTIONS + 2);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.toString().isBlank()) {
+                field.setLength(0);
+                quoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Anführungszeichen nicht geschlossen");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Prüft eine Frage nach denselben Regeln wie die Verwaltung und entfernt Leerraum am Rand.
+     *
+     * @throws IllegalArgumentException mit der Fehlerbeschreibung, wenn die Frage ungültig ist.
+     */
+    private static Question validated(String text, String[] options, int correctIndex) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Fragetext fehlt");
+        }
+        if (options.length != OPTIONS) {
+            throw new IllegalArgumentException("Genau " + OPTIONS + " Antworten erwartet, gefunden: " + options.length);
+        }
+        String[] stripped = new String[OPTIONS];
+        for (int i = 0; i < OPTIONS; i++) {
+            if (options[i] == null || options[i].isBlank()) {
+                throw new IllegalArgumentException("Antwort " + (char) ('A' + i) + " ist leer");
+            }
+            stripped[i] = options[i].strip();
+        }
+        if (correctIndex < 0 || correctIndex >= OPTIONS) {
+            throw new IllegalArgumentException("correctIndex muss zwischen 0 und " + (OPTIONS - 1)
+                    + " liegen: " + correctIndex);
+        }
+        return new Question(text.strip(), stripped, correctIndex);
+    }
+
+    private static String rootMessage(Throwable e) {
+        while (e.getCause() != null) e = e.getCause();
+        return e.getMessage();
+    }
+}
@@ -0,0 +1,172 @@
+package com.quizapp.data;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.quizapp.model.Question;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Checksum;
+
+/**
+ * Liest eine Fragendatei Element für Element, ohne die komplette Liste aufzubauen.
+ * <p>
+ * Grundlage ist Gsons {@link JsonReader} über einem gepufferten NIO-{@link FileChannel}.
+ * Es befindet sich immer nur die aktuell gelesene {@link Question} im Speicher – auch bei
+ * Fragenkatalogen mit mehreren hunderttausend Einträgen. Der Reader muss nach Gebrauch
+ * geschlossen werden (am einfachsten über {@link #stream(Path)} in einem try-with-resources).
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class QuestionReader implements Iterator<Question>, Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final TypeAdapter<Question> ADAPTER = JsonFiles.GSON.getAdapter(Question.class);
+
+    private final JsonReader reader;
+    private final InputStream checked; // nur gesetzt, wenn eine Prüfsumme mitberechnet wird
+
+    private QuestionReader(JsonReader reader, InputStream checked) {
+        this.reader = reader;
+        this.checked = checked;
+    }
+
+    /**
+     * Öffnet die Fragendatei zum sequentiellen Lesen.
+     *
+     * @param file Die JSON-Datei (ein Array von Fragen).
+     * @return Ein Reader, der direkt hinter der öffnenden Klammer des Arrays steht.
+     * @throws IOException wenn die Datei nicht gelesen werden kann oder kein JSON-Array enthält.
+     */
+    public static QuestionReader open(Path file) throws IOException {
+        EdtIoGuard.check("read", file);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        JsonReader json = new JsonReader(new BufferedReader(
+                Channels.newReader(channel, StandardCharsets.UTF_8.newDecoder(), -1), BUFFER_SIZE));
+        return start(json, null);
+    }
+
+    /**
+     * Öffnet die Fragendatei und berechnet beim Lesen die Prüfsumme des Dateiinhalts.
+     * <p>
+     * Die Prüfsumme ist vollständig, sobald der Reader geschlossen wurde; dabei werden
+     * noch nicht gelesene Bytes (z.B. abschließender Whitespace) mit eingerechnet.
+     * </p>
+     *
+     * @param file     Die JSON-Datei (ein Array von Fragen).
+     * @param checksum Prüfsumme, die mit allen Bytes der Datei aktualisiert wird.
+     * @return Ein Reader, der direkt hinter der öffnenden Klammer des Arrays steht.
+     * @throws IOException wenn die Datei nicht gelesen werden kann oder kein JSON-Array enthält.
+     */
+    public static QuestionReader open(Path file, Checksum checksum) throws IOException {
+        EdtIoGuard.check("read", file);
+        InputStream in = new CheckedInputStream(
+                Channels.newInputStream(FileChannel.open(file, StandardOpenOption.READ)), checksum);
+        JsonReader json = new JsonReader(new BufferedReader(
+                new InputStreamReader(in, StandardCharsets.UTF_8.newDecoder()), BUFFER_SIZE));
+        return start(json, in);
+    }
+
+    private static QuestionReader start(JsonReader json, InputStream checked) throws IOException {
+        try {
+            if (json.peek() == JsonToken.END_DOCUMENT) {
+                return new QuestionReader(json, checked); // leere Datei = keine Fragen
+            }
+            json.beginArray();
+            return new QuestionReader(json, checked);
+        } catch (IOException | RuntimeException e) {
+            json.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Liefert die Fragen der Datei als lazy {@link Stream}.
+     * <p>
+     * Existiert die Datei nicht, ist der Stream leer. Der Stream sollte geschlossen
+     * werden, damit die Datei freigegeben wird.
+     * </p>
+     *
+     * @param file Die JSON-Datei.
+     * @return Ein sequentieller Stream über alle Fragen.
+     * @throws UncheckedIOException wenn die Datei nicht geöffnet werden kann.
+     */
+    public static Stream<Question> stream(Path file) {
+        if (!Files.exists(file)) {
+            return Stream.empty();
+        }
+        try {
+            QuestionReader r = open(file);
+            return StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(r, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(r::closeQuietly);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return reader.peek() == JsonToken.BEGIN_OBJECT;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Question next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return ADAPTER.read(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (IllegalStateException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (checked != null) {
+                checked.transferTo(OutputStream.nullOutputStream()); // Rest für die Prüfsumme lesen
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException ignored) {
+            // Schließen beim Stream-Ende; Fehler sind hier nicht mehr relevant.
+        }
+    }
+}
@@ -0,0 +1,645 @@
+package com.quizapp.data;
+
+import com.quizapp.metrics.FileIoEvent;
+import com.quizapp.model.Question;
+import com.quizapp.model.QuestionSampler;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * In-Memory-Repository für die Quizfragen.
+ * <p>
+ * Die Fragendatei wird beim ersten Zugriff genau einmal geparst. Alle weiteren
+ * Lesezugriffe werden aus dem Speicher bedient. Jede Frage hat eine stabile ID
+ * ({@link Question#getId()}); Änderungen und Löschungen werden über eine ID-Tabelle
+ * in O(1) gefunden. Gelöschte Fragen hinterlassen zunächst nur eine Lücke, die beim
+ * nächsten Lesezugriff auf die ganze Liste in einem Durchgang entfernt wird.
+ * </p>
+ * <p>
+ * Persistiert wird wie bei den Highscores in zwei Teilen: Der Snapshot
+ * ({@code questions.json}) enthält den Stand der letzten Kompaktierung, jede Änderung
+ * wird nur als eine Zeile an das {@link Journal} ({@code questions.journal}) angehängt.
+ * Ab {@value #COMPACT_THRESHOLD} Journal-Einträgen (und bei {@link #flush()}) wird beides
+ * wieder zu einem neuen Snapshot zusammengefasst. Fragen aus älteren Dateien ohne ID
+ * erhalten beim Laden eine neue ID; der Snapshot wird dann einmalig neu geschrieben.
+ * Kann das Journal nicht geschrieben werden, werfen die ändernden Methoden eine
+ * {@link UncheckedIOException}, und der Stand im Speicher bleibt unverändert.
+ * </p>
+ * <p>
+ * Optional wird neben dem JSON-Snapshot ein {@link BinarySnapshot} ({@code questions.bin})
+ * gepflegt, aus dem beim Start gelesen wird, solange er zum JSON-Snapshot passt.
+ * Solange noch nichts geändert wurde, bedienen {@link #size()} und {@link #sample} das
+ * Spiel sogar direkt aus dem {@link MappedQuestionStore}, ohne die Fragen auf den Heap
+ * zu laden. Erst ein schreibender oder vollständiger Zugriff (z.B. die Admin-Ansicht)
+ * lädt alle Fragen.
+ * </p>
+ * <p>
+ * Lesende Zugriffe ({@link #findAll()}, {@link #sample}, {@link #size()}) nehmen keine
+ * Sperre: Sie lesen einen unveränderlichen Stand. Eine Änderung markiert ihn nur als
+ * veraltet (O(1)); erst der nächste Lesezugriff baut ihn einmal neu auf, sodass mehrere
+ * Änderungen hintereinander nur eine Kopie kosten. Wird {@code questions.json} von außen ersetzt, übernimmt
+ * {@link #reloadIfChanged()} die neue Datei (siehe {@link QuestionFileWatcher}).
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public class QuestionRepository {
+
+    /** Anzahl der Journal-Einträge, ab der ein neuer Snapshot geschrieben wird. */
+    static final int COMPACT_THRESHOLD = 1000;
+
+    private final Path file;
+    private final Path binaryFile;      // null = kein Binär-Snapshot
+    private final Journal<Change> journal;
+
+    private List<Question> slots;          // Speicherreihenfolge, null = gelöscht
+    private Map<Long, Integer> slotById;   // ID -> Position in slots
+    private int deleted;
+    private long nextId = 1;
+    private MappedQuestionStore mapped;    // nur bis zum ersten vollständigen Laden
+    private boolean mappedTried;
+
+    private volatile List<Question> published;   // unveränderlicher Lesestand, null = veraltet
+    private long snapshotCrc;                    // Prüfsumme des zuletzt gelesenen/geschriebenen JSON-Snapshots
+    private volatile FileStamp snapshotStamp;    // Änderungszeit und Größe dazu
+    private long snapshotNextId = 1;             // IDs ab hier stammen nicht aus dem Snapshot (lokal angelegt)
+
+    /** Änderungszeit und Größe einer Datei, um unveränderte Dateien ohne Lesen zu erkennen. */
+    private record FileStamp(long modified, long size) {
+        static FileStamp of(Path file) {
+            try {
+                BasicFileAttributes a = Files.readAttributes(file, BasicFileAttributes.class);
+                return new FileStamp(a.lastModifiedTime().toMillis(), a.size());
+            } catch (IOException e) {
+                return new FileStamp(-1, -1); // Datei fehlt
+            }
+        }
+    }
+
+    /** Eine Zeile im Journal: Frage anlegen/ersetzen ({@code PUT}) oder löschen ({@code DELETE}). */
+    static final class Change {
+        static final String PUT = "PUT";
+        static final String DELETE = "DELETE";
+
+        String op;
+        long id;
+        Question question;
+
+        Change(String op, long id, Question question) {
+            this.op = op;
+            this.id = id;
+            this.question = question;
+        }
+    }
+
+    /**
+     * Erstellt ein Repository für die angegebene JSON-Datei.
+     *
+     * @param file Pfad zur Fragendatei (z.B. {@code questions.json}).
+     */
+    public QuestionRepository(Path file) {
+        this(file, BinarySnapshot.ENABLED);
+    }
+
+    /**
+     * Erstellt ein Repository und legt fest, ob der Binär-Snapshot verwendet wird.
+     *
+     * @param file           Pfad zur Fragendatei (z.B. {@code questions.json}).
+     * @param binarySnapshot {@code true}, um zusätzlich {@code questions.bin} zu lesen und zu pflegen.
+     */
+    public QuestionRepository(Path file, boolean binarySnapshot) {
+        this.file = file;
+        this.binaryFile = binarySnapshot ? BinarySnapshot.siblingOf(file) : null;
+        this.journal = new Journal<>(Journal.siblingOf(file), Change.class);
+    }
+
+    /**
+     * Gibt eine Kopie aller Fragen in Speicherreihenfolge zurück.
+     * <p>
+     * Die Kopie darf vom Aufrufer verändert (z.B. gemischt) werden.
+     * </p>
+     *
+     * @return Eine neue, veränderbare Liste aller Fragen.
+     */
+    public List<Question> findAll() {
+        return new ArrayList<>(view());
+    }
+
+    /**
+     * Sucht eine Frage über ihre ID in O(1).
+     *
+     * @param id Die ID der Frage.
+     * @return Die Frage oder {@code null}, wenn es keine Frage mit dieser ID gibt.
+     */
+    public synchronized Question findById(long id) {
+        loaded();
+        Integer slot = slotById.get(id);
+        return slot == null ? null : slots.get(slot);
+    }
+
+    /**
+     * Zieht zufällig {@code k} Fragen direkt aus dem Cache, ohne den Pool zu kopieren.
+     *
+     * @param sampler Der zu verwendende Sampler.
+     * @param k       Gewünschte Anzahl an Fragen.
+     * @return Eine neue Liste mit bis zu {@code k} Fragen.
+     */
+    public List<Question> sample(QuestionSampler sampler, int k) {
+        return sampler.sample(view(), k);
+    }
+
+    /**
+     * Liest die Fragen direkt aus der Datei als lazy Stream, ohne sie im Cache abzulegen.
+     * <p>
+     * Ausstehende Journal-Einträge werden vorher in den Snapshot übernommen, damit der
+     * Stream den aktuellen Stand liefert. Der Stream muss vom Aufrufer geschlossen werden.
+     * </p>
+     *
+     * @return Ein Stream über alle Fragen der Datei.
+     */
+    public Stream<Question> stream() {
+        flush();
+        return QuestionReader.stream(file);
+    }
+
+    /**
+     * Gibt die Anzahl der gespeicherten Fragen zurück.
+     *
+     * @return Anzahl der Fragen.
+     */
+    public int size() {
+        return view().size();
+    }
+
+    /**
+     * Fügt eine neue Frage hinzu und hängt sie an das Journal an.
+     *
+     * @param q Die neue Frage (eine eventuell gesetzte ID wird ignoriert).
+     * @return Die gespeicherte Frage mit ihrer neu vergebenen ID.
+     */
+    public synchronized Question add(Question q) {
+        loaded();
+        Question stored = q.withId(nextId++);
+        journal.append(new Change(Change.PUT, stored.getId(), stored)); // erst gespeichert, dann sichtbar
+        put(stored);
+        compactIfNeeded();
+        invalidate();
+        return stored;
+    }
+
+    /**
+     * Fügt mehrere Fragen hinzu und speichert sie mit einem einzigen Schreibvorgang.
+     * <p>
+     * Kleine Mengen werden an das Journal angehängt. Würde das Journal dadurch die
+     * Kompaktierungsschwelle erreichen (z.B. beim Massenimport), wird stattdessen direkt
+     * ein neuer Snapshot geschrieben, statt alles erst ins Journal und dann noch einmal
+     * in den Snapshot zu schreiben.
+     * </p>
+     *
+     * @param qs Die neuen Fragen.
+     * @return Die gespeicherten Fragen mit ihren neu vergebenen IDs.
+     */
+    public synchronized List<Question> addAll(Collection<Question> qs) {
+        loaded();
+        List<Question> stored = new ArrayList<>(qs.size());
+        for (Question q : qs) {
+            Question s = q.withId(nextId++);
+            put(s);
+            stored.add(s);
+        }
+        boolean snapshotWritten = journal.size() + stored.size() >= COMPACT_THRESHOLD && compact();
+        if (!snapshotWritten) {
+            List<Change> changes = new ArrayList<>(stored.size());
+            for (Question s : stored) changes.add(new Change(Change.PUT, s.getId(), s));
+            try {
+                journal.appendAll(changes);
+            } catch (UncheckedIOException e) {
+                for (Question s : stored) remove(s.getId()); // nichts übernehmen, was nicht gespeichert ist
+                throw e;
+            }
+        }
+        invalidate();
+        return stored;
+    }
+
+    /**
+     * Ersetzt die Frage mit der angegebenen ID.
+     *
+     * @param id       Die ID der zu ersetzenden Frage.
+     * @param updatedQ Die neue Version der Frage.
+     * @return {@code true}, wenn es eine Frage mit dieser ID gab.
+     */
+    public synchronized boolean update(long id, Question updatedQ) {
+        loaded();
+        if (!slotById.containsKey(id)) {
+            return false;
+        }
+        Question stored = updatedQ.withId(id);
+        journal.append(new Change(Change.PUT, id, stored));
+        put(stored);
+        compactIfNeeded();
+        invalidate();
+        return true;
+    }
+
+    /**
+     * Löscht die Frage mit der angegebenen ID.
+     *
+     * @param id Die ID der Frage.
+     * @return {@code true}, wenn es eine Frage mit dieser ID gab.
+     */
+    public synchronized boolean delete(long id) {
+        loaded();
+        if (!slotById.containsKey(id)) {
+            return false;
+        }
+        journal.append(new Change(Change.DELETE, id, null));
+        remove(id);
+        compactIfNeeded();
+        invalidate();
+        return true;
+    }
+
+    /**
+     * Übernimmt alle Journal-Einträge in einen neuen Snapshot und leert das Journal.
+     * <p>
+     * Jede Änderung ist bereits mit dem Anhängen an das Journal gespeichert; dieser
+     * Aufruf hält nur das Journal klein (z.B. beim Beenden der Anwendung).
+     * </p>
+     */
+    public synchronized void flush() {
+        if (slots != null && journal.size() > 0) {
+            compact();
+        }
+    }
+
+    /**
+     * Übernimmt die Fragendatei neu, falls sie seit dem letzten Lesen oder Schreiben
+     * von außen geändert wurde.
+     * <p>
+     * Ist Änderungszeit und Größe gleich, wird die Datei nicht einmal gelesen; bei gleicher
+     * Prüfsumme (z.B. nur "berührt") wird sie nicht geparst. Das Parsen läuft ohne Sperre,
+     * Leser sehen bis zum Austausch den alten und danach den neuen Stand.
+     * </p>
+     * <p>
+     * Noch nicht kompaktierte lokale Änderungen (Journal) gehen dabei nicht verloren: Sie
+     * werden auf die neue Datei angewendet und an deren Snapshot gebunden. Lokal angelegte
+     * Fragen erhalten eine neue ID, falls die Datei dieselbe ID inzwischen für eine andere
+     * Frage verwendet. Überschreibt eine lokale Änderung eine Frage, die in der Datei anders
+     * lautet, zählt sie als Konflikt ({@link QuestionDiff#conflicts()}).
+     * </p>
+     *
+     * @return Die Unterschiede zum bisherigen Stand, oder {@code null}, wenn die Datei
+     *         unverändert ist oder noch nie geladen wurde.
+     */
+    public QuestionDiff reloadIfChanged() {
+        FileStamp known = snapshotStamp;
+        FileStamp stamp = FileStamp.of(file);
+        if (known == null || stamp.equals(known) || stamp.size() < 0) {
+            return null;
+        }
+        long knownCrc;
+        synchronized (this) {
+            knownCrc = snapshotCrc;
+        }
+        try {
+            if (BinarySnapshot.crcOf(file) == knownCrc) {
+                snapshotStamp = stamp; // nur berührt oder von uns selbst geschrieben
+                return null;
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+
+        CRC32 checksum = new CRC32();
+        List<Question> fresh = new ArrayList<>();
+        try {
+            parseSnapshot(checksum, fresh); // ohne Sperre
+        } catch (IOException | RuntimeException e) {
+            // z.B. noch nicht fertig kopiert: alten Stand behalten, das nächste Ereignis versucht es erneut
+            System.err.println(file + " konnte nicht gelesen werden, alter Stand bleibt: " + e.getMessage());
+            return null;
+        }
+
+        synchronized (this) {
+            // Vergleichsbasis und ausstehende Änderungen unter derselben Sperre wie der Austausch
+            Map<Long, Question> before = new HashMap<>();
+            for (Question q : view()) before.put(q.getId(), q);
+            List<Change> pending = slots == null ? List.of() : journal.replay(snapshotCrc);
+            long localFrom = snapshotNextId;
+
+            slots = new ArrayList<>(fresh.size());
+            slotById = new HashMap<>();
+            deleted = 0;
+            mapped = null;
+            mappedTried = true;
+            boolean migrated = install(fresh);
+            List<Question> fileOrder = new ArrayList<>(slots);
+            Map<Long, Question> fromFile = new HashMap<>(fileOrder.size() * 2);
+            for (Question q : fileOrder) fromFile.put(q.getId(), q);
+
+            List<Change> kept = rebase(pending, localFrom, fromFile);
+            int conflicts = 0;
+            for (long id : touchedIds(kept)) {
+                Question theirs = fromFile.get(id);
+                Integer slot = slotById.get(id);
+                Question ours = slot == null ? null : slots.get(slot);
+                if (theirs != null && (ours == null || !sameContent(theirs, ours))) conflicts++;
+            }
+
+            long crc = checksum.getValue();
+            snapshotCrc = crc;
+            snapshotStamp = stamp;
+            if (!migrated || !compact()) {
+                try {
+                    journal.reset(crc);
+                    if (!kept.isEmpty()) journal.appendAll(kept);
+                } catch (UncheckedIOException e) {
+                    e.printStackTrace();
+                    if (!kept.isEmpty()) compact(); // lokale Änderungen dann im Snapshot sichern
+                }
+                if (binaryFile != null) writeBinary(fileOrder, crc);
+            }
+            List<Question> after = List.copyOf(live());
+            published = after;
+
+            int added = 0, changed = 0;
+            for (Question q : after) {
+                Question old = before.remove(q.getId());
+                if (old == null) added++;
+                else if (!sameContent(old, q)) changed++;
+            }
+            return new QuestionDiff(added, changed, before.size(), after.size(), conflicts);
+        }
+    }
+
+    /**
+     * Wendet ausstehende Journal-Einträge auf einen neu geladenen Snapshot an.
+     * Lokal angelegte Fragen ({@code id >= localFrom}), deren ID die Datei inzwischen
+     * selbst vergeben hat, erhalten eine neue ID.
+     *
+     * @return Die angewendeten Einträge mit den endgültigen IDs (für das neue Journal).
+     */
+    private List<Change> rebase(List<Change> pending, long localFrom, Map<Long, Question> fromFile) {
+        Map<Long, Long> renamed = new HashMap<>();
+        List<Change> kept = new ArrayList<>(pending.size());
+        for (Change c : pending) {
+            long id = c.id;
+            if (renamed.containsKey(id)) {
+                id = renamed.get(id);
+            } else if (id >= localFrom && fromFile.containsKey(id)) {
+                long newId = nextId++;
+                renamed.put(id, newId);
+                id = newId;
+            }
+            Change moved = new Change(c.op, id, c.question == null ? null : c.question.withId(id));
+            apply(moved);
+            kept.add(moved);
+        }
+        return kept;
+    }
+
+    private static Set<Long> touchedIds(List<Change> changes) {
+        Set<Long> ids = new HashSet<>();
+        for (Change c : changes) ids.add(c.id);
+        return ids;
+    }
+
+    private static boolean sameContent(Question a, Question b) {
+        return Objects.equals(a.getText(), b.getText())
+                && Arrays.equals(a.getOptions(), b.getOptions())
+                && a.getCorrectIndex() == b.getCorrectIndex();
+    }
+
+    // Lesestand ohne Sperre; nur nach einer Änderung baut der erste Leser ihn neu auf (unter Sperre)
+    private List<Question> view() {
+        List<Question> v = published;
+        return v != null ? v : rebuildView();
+    }
+
+    private synchronized List<Question> rebuildView() {
+        if (published == null) {
+            List<Question> v = readOnlyView();
+            published = v == mapped ? v : List.copyOf(v);
+        }
+        return published;
+    }
+
+    private void invalidate() {
+        published = null;
+    }
+
+    // Für reine Lesezugriffe: der Mapped Store, solange er dem aktuellen Stand entspricht
+    private List<Question> readOnlyView() {
+        if (slots == null && binaryFile != null && !mappedTried) {
+            mappedTried = true;
+            mapped = openMapped();
+        }
+        return slots == null && mapped != null ? mapped : live();
+    }
+
+    private MappedQuestionStore openMapped() {
+        try {
+            FileStamp stamp = FileStamp.of(file);
+            long crc = BinarySnapshot.crcOf(file);
+            if (!journal.replay(crc).isEmpty()) {
+                return null; // Änderungen seit dem Snapshot -> vollständig laden
+            }
+            MappedQuestionStore store = MappedQuestionStore.open(binaryFile, crc);
+            if (store != null) {
+                snapshotCrc = crc;
+                snapshotStamp = stamp;
+            }
+            return store;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private List<Question> loaded() {
+        if (slots == null) {
+            mapped = null;
+            slots = new ArrayList<>();
+            slotById = new HashMap<>();
+            FileStamp stamp = FileStamp.of(file);
+            long crc = 0;
+            List<Question> snapshot = null;
+            if (binaryFile != null) {
+                try {
+                    crc = BinarySnapshot.crcOf(file);
+                    snapshot = BinarySnapshot.readQuestions(binaryFile, crc);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+            boolean parsed = snapshot == null;
+            if (parsed) {
+                CRC32 checksum = new CRC32();
+                snapshot = readSnapshot(checksum);
+                crc = checksum.getValue();
+            }
+            snapshotCrc = crc;
+            snapshotStamp = stamp;
+            boolean migrated = install(snapshot);
+            if (parsed && !migrated && binaryFile != null) {
+                writeBinary(snapshot, crc); // Binär-Snapshot fehlte oder war veraltet
+            }
+            for (Change c : journal.replay(crc)) {
+                apply(c);
+            }
+            if (migrated) {
+                compact();
+            } else {
+                compactIfNeeded();
+            }
+        }
+        return slots;
+    }
+
+    // Übernimmt einen gelesenen Snapshot in die leeren Slots; vergibt fehlende oder doppelte IDs neu
+    private boolean install(List<Question> snapshot) {
+        long top = 0;
+        for (Question q : snapshot) {
+            nextId = Math.max(nextId, q.getId() + 1);
+        }
+        boolean migrated = false;
+        for (Question q : snapshot) {
+            if (q.getId() <= 0 || slotById.containsKey(q.getId())) {
+                q = q.withId(nextId++); // ältere Datei ohne (eindeutige) ID
+                migrated = true;
+            }
+            put(q);
+            top = Math.max(top, q.getId());
+        }
+        snapshotNextId = top + 1;
+        return migrated;
+    }
+
+    private void apply(Change c) {
+        if (Change.PUT.equals(c.op) && c.question != null) {
+            put(c.question.withId(c.id));
+        } else if (Change.DELETE.equals(c.op)) {
+            remove(c.id);
+        }
+    }
+
+    private List<Question> readSnapshot(CRC32 crc) {
+        List<Question> list = new ArrayList<>();
+        try {
+            parseSnapshot(crc, list);
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+        }
+        return list;
+    }
+
+    // Wie readSnapshot, bricht aber bei einer unvollständigen oder fehlerhaften Datei ab
+    private void parseSnapshot(CRC32 crc, List<Question> into) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        FileIoEvent io = FileIoEvent.start("read", file);
+        try (QuestionReader reader = QuestionReader.open(file, crc)) {
+            while (reader.hasNext()) {
+                into.add(reader.next());
+            }
+            if (io != null) io.finish(Files.size(file), into.size());
+        }
+    }
+
+    private void put(Question q) {
+        Integer slot = slotById.get(q.getId());
+        if (slot != null) {
+            slots.set(slot, q);
+        } else {
+            slotById.put(q.getId(), slots.size());
+            slots.add(q);
+        }
+        nextId = Math.max(nextId, q.getId() + 1);
+    }
+
+    private boolean remove(long id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) {
+            return false;
+        }
+        slots.set(slot, null);
+        deleted++;
+        return true;
+    }
+
+    // Liefert die Fragen ohne Lücken; entfernt gelöschte Einträge bei Bedarf in einem Durchgang
+    private List<Question> live() {
+        loaded();
+        if (deleted > 0) {
+            List<Question> packed = new ArrayList<>(slots.size() - deleted);
+            slotById.clear();
+            for (Question q : slots) {
+                if (q != null) {
+                    slotById.put(q.getId(), packed.size());
+                    packed.add(q);
+                }
+            }
+            slots = packed;
+            deleted = 0;
+        }
+        return slots;
+    }
+
+    // Das Journal wird erst geleert, wenn der neue Snapshot sicher geschrieben ist
+    private boolean compact() {
+        List<Question> all = new ArrayList<>(live());
+        long crc;
+        try {
+            crc = JsonFiles.write(file, all);
+        } catch (UncheckedIOException e) {
+            e.printStackTrace(); // Journal und alter Snapshot bleiben gültig, nächster Versuch später
+            return false;
+        }
+        snapshotCrc = crc;
+        snapshotStamp = FileStamp.of(file);
+        snapshotNextId = nextId;
+        try {
+            journal.reset(crc);
+        } catch (UncheckedIOException e) {
+            e.printStackTrace(); // Snapshot enthält alles, das Journal wird beim nächsten Anhängen gebunden
+        }
+        if (binaryFile != null) {
+            writeBinary(all, crc);
+        }
+        return true;
+    }
+
+    private void writeBinary(List<Question> snapshot, long crc) {
+        try {
+            BinarySnapshot.writeQuestions(binaryFile, snapshot, crc);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (journal.size() >= COMPACT_THRESHOLD) {
+            compact();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.quizapp.data;
+
+import com.google.gson.reflect.TypeToken;
+import com.quizapp.model.HighscoreEntry;
+import com.quizapp.model.Question;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Kommandozeilen-Werkzeug zum Umwandeln zwischen JSON- und {@link BinarySnapshot}-Dateien.
+ * <p>
+ * Aufruf:
+ * </p>
+ * <pre>
+ * java -cp ... com.quizapp.data.SnapshotConverter to-bin  questions|highscores &lt;datei.json&gt; [&lt;datei.bin&gt;]
+ * java -cp ... com.quizapp.data.SnapshotConverter to-json questions|highscores &lt;datei.bin&gt; &lt;datei.json&gt;
+ * </pre>
+ * <p>
+ * Ein mit {@code to-bin} erzeugter Snapshot trägt die Prüfsumme der JSON-Datei und wird
+ * daher von der Anwendung direkt verwendet, solange die JSON-Datei unverändert bleibt.
+ * Ohne Zielangabe wird die Datei neben der JSON-Datei abgelegt ({@code questions.bin}).
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class SnapshotConverter {
+
+    private static final Type QUESTIONS = new TypeToken<ArrayList<Question>>(){}.getType();
+    private static final Type HIGHSCORES = new TypeToken<ArrayList<HighscoreEntry>>(){}.getType();
+
+    private SnapshotConverter() {
+        // Utility-Klasse
+    }
+
+    /**
+     * Einstiegspunkt des Konverters.
+     *
+     * @param args Richtung, Datenart, Quelle und optional Ziel (siehe Klassenbeschreibung).
+     * @throws IOException wenn eine Datei nicht gelesen oder geschrieben werden kann.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3 || args[0].equals("to-json") && args.length < 4) {
+            System.err.println("Aufruf: SnapshotConverter to-bin|to-json questions|highscores <quelle> [<ziel>]");
+            System.exit(2);
+        }
+        boolean questions = switch (args[1]) {
+            case "questions" -> true;
+            case "highscores" -> false;
+            default -> throw new IllegalArgumentException("Unbekannte Datenart: " + args[1]);
+        };
+        Path source = Path.of(args[2]);
+
+        switch (args[0]) {
+            case "to-bin" -> {
+                Path target = args.length > 3 ? Path.of(args[3]) : BinarySnapshot.siblingOf(source);
+                int count = toBinary(source, target, questions);
+                System.out.println(count + " Einträge nach " + target + " geschrieben.");
+            }
+            case "to-json" -> {
+                int count = toJson(source, Path.of(args[3]), questions);
+                System.out.println(count + " Einträge nach " + args[3] + " geschrieben.");
+            }
+            default -> throw new IllegalArgumentException("Unbekannte Richtung: " + args[0]);
+        }
+    }
+
+    /**
+     * Wandelt eine JSON-Datei in einen Binär-Snapshot um.
+     *
+     * @param json      Die JSON-Quelle.
+     * @param bin       Der zu schreibende Binär-Snapshot.
+     * @param questions {@code true} für Fragen, {@code false} für Highscores.
+     * @return Anzahl der umgewandelten Einträge.
+     * @throws IOException wenn eine Datei nicht gelesen oder geschrieben werden kann.
+     */
+    static int toBinary(Path json, Path bin, boolean questions) throws IOException {
+        CRC32 crc = new CRC32();
+        if (questions) {
+            List<Question> list = JsonFiles.read(json, QUESTIONS, crc);
+            if (list == null) throw new IOException("Keine Fragen gelesen: " + json);
+            BinarySnapshot.writeQuestions(bin, list, crc.getValue());
+            return list.size();
+        }
+        List<HighscoreEntry> list = JsonFiles.read(json, HIGHSCORES, crc);
+        if (list == null) throw new IOException("Keine Highscores gelesen: " + json);
+        BinarySnapshot.writeHighscores(bin, list, crc.getValue());
+        return list.size();
+    }
+
+    /**
+     * Wandelt einen Binär-Snapshot zurück in eine JSON-Datei.
+     *
+     * @param bin       Der Binär-Snapshot.
+     * @param json      Die zu schreibende JSON-Datei.
+     * @param questions {@code true} für Fragen, {@code false} für Highscores.
+     * @return Anzahl der umgewandelten Einträge.
+     * @throws IOException wenn der Snapshot fehlt oder beschädigt ist.
+     */
+    static int toJson(Path bin, Path json, boolean questions) throws IOException {
+        List<?> list = questions
+                ? BinarySnapshot.readQuestions(bin, BinarySnapshot.ANY_SOURCE)
+                : BinarySnapshot.readHighscores(bin, BinarySnapshot.ANY_SOURCE);
+        if (list == null) throw new IOException("Kein gültiger Binär-Snapshot: " + bin);
+        JsonFiles.write(json, list);
+        return list.size();
+    }
+}
@@ -0,0 +1,72 @@
+package com.quizapp.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR-Event für eine Frage: beginnt, wenn die Frage erscheint, und endet mit der Antwort,
+ * dem Ablauf der Zeit oder dem Überspringen.
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+@Name("quizapp.Answer")
+@Label("Antwort")
+@Category({"QuizApp", "Spiel"})
+@Description("Bedenkzeit und Ergebnis einer Frage")
+@StackTrace(false)
+public final class AnswerEvent extends Event {
+
+    @Label("Modus")
+    String mode;
+
+    @Label("Frage")
+    @Description("Position der Frage in der Runde (ab 0)")
+    int question;
+
+    @Label("Ergebnis")
+    @Description("correct, wrong, timeout oder skipped")
+    String result;
+
+    @Label("Punkte")
+    int points;
+
+    private AnswerEvent() {
+    }
+
+    /**
+     * Beginnt die Messung, sobald eine Frage angezeigt wird.
+     *
+     * @param mode     Spielmodus.
+     * @param question Position der Frage in der Runde.
+     * @return Das laufende Event oder {@code null}, wenn JFR-Events ausgeschaltet sind.
+     */
+    public static AnswerEvent start(String mode, int question) {
+        if (!FlightEvents.ENABLED) return null;
+        AnswerEvent event = new AnswerEvent();
+        event.mode = mode;
+        event.question = question;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Beendet die Messung und schreibt das Event, falls eine Aufzeichnung läuft.
+     *
+     * @param result Ergebnis ({@code correct}, {@code wrong}, {@code timeout} oder {@code skipped}).
+     * @param points Erhaltene Punkte.
+     */
+    public void finish(String result, int points) {
+        end();
+        if (shouldCommit()) {
+            this.result = result;
+            this.points = points;
+            commit();
+        }
+    }
+}
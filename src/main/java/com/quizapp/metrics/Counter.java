@@ -0,0 +1,46 @@
+package com.quizapp.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monoton steigender Zähler (z.B. Anzahl beantworteter Fragen).
+ * <p>
+ * Basiert auf einem {@link LongAdder}: Threads zählen in getrennte Zellen und behindern
+ * sich dadurch auch unter hoher Last kaum. Erzeugt wird ein Zähler über
+ * {@link Metrics#counter}.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class Counter {
+
+    private final LongAdder value = new LongAdder();
+
+    Counter() {
+    }
+
+    /**
+     * Erhöht den Zähler um eins.
+     */
+    public void inc() {
+        value.increment();
+    }
+
+    /**
+     * Erhöht den Zähler.
+     *
+     * @param amount Betrag (nicht negativ).
+     */
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    /**
+     * @return Der aktuelle Stand.
+     */
+    public long get() {
+        return value.sum();
+    }
+}
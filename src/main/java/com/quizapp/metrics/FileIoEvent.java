@@ -0,0 +1,76 @@
+package com.quizapp.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.nio.file.Path;
+
+/**
+ * JFR-Event für das Lesen oder Schreiben einer Datendatei (JSON, Journal, Binär-Snapshot).
+ * <p>
+ * Die Dauer umfasst neben dem reinen I/O auch das (De-)Serialisieren.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+@Name("quizapp.FileIo")
+@Label("Datei-I/O")
+@Category({"QuizApp", "Daten"})
+@Description("Laden oder Speichern einer Datendatei")
+@StackTrace(false)
+public final class FileIoEvent extends Event {
+
+    @Label("Vorgang")
+    String operation;
+
+    @Label("Datei")
+    String path;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Einträge")
+    int entries;
+
+    private FileIoEvent() {
+    }
+
+    /**
+     * Beginnt die Messung eines Dateizugriffs.
+     *
+     * @param operation Art des Zugriffs (z.B. {@code read}, {@code write}, {@code append}).
+     * @param file      Die Datei.
+     * @return Das laufende Event oder {@code null}, wenn JFR-Events ausgeschaltet sind.
+     */
+    public static FileIoEvent start(String operation, Path file) {
+        if (!FlightEvents.ENABLED) return null;
+        FileIoEvent event = new FileIoEvent();
+        event.operation = operation;
+        event.path = file.toString();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Beendet die Messung und schreibt das Event, falls eine Aufzeichnung läuft.
+     *
+     * @param bytes   Gelesene bzw. geschriebene Bytes.
+     * @param entries Anzahl der Datensätze.
+     */
+    public void finish(long bytes, int entries) {
+        end();
+        if (shouldCommit()) {
+            this.bytes = bytes;
+            this.entries = entries;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.quizapp.metrics;
+
+/**
+ * Schalter für die eigenen Java-Flight-Recorder-Events der Anwendung.
+ * <p>
+ * Mit {@code -Dquizapp.jfr=true} erzeugen Datenzugriffe, Seitenwechsel, Spielstarts und
+ * Antworten eigene Events ({@link FileIoEvent}, {@link PageSwitchEvent},
+ * {@link GamePrepareEvent}, {@link AnswerEvent}). Aufgezeichnet werden sie nur, solange
+ * eine JFR-Aufzeichnung läuft, z.B.:
+ * </p>
+ * <pre>
+ * jcmd &lt;pid&gt; JFR.start name=quiz settings=profile
+ * jcmd &lt;pid&gt; JFR.dump name=quiz filename=quiz.jfr
+ * jfr print --categories QuizApp quiz.jfr
+ * </pre>
+ * <p>
+ * In JDK Mission Control erscheinen sie unter "QuizApp" auf derselben Zeitachse wie
+ * GC-Pausen, Datei-I/O und Thread-Zustände. Ohne den Schalter wird kein Event-Objekt
+ * angelegt.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class FlightEvents {
+
+    /** {@code true}, wenn die Anwendung mit {@code -Dquizapp.jfr=true} gestartet wurde. */
+    public static final boolean ENABLED = Boolean.getBoolean("quizapp.jfr");
+
+    private FlightEvents() {
+        // Utility-Klasse
+    }
+}
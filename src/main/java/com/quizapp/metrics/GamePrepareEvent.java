@@ -0,0 +1,60 @@
+package com.quizapp.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR-Event für die Vorbereitung einer Spielrunde: vom Klick auf "Start" bis die erste
+ * Frage angezeigt wird (Fragen ziehen auf dem I/O-Thread, Anzeige auf dem EDT).
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+@Name("quizapp.GamePrepare")
+@Label("Spielstart")
+@Category({"QuizApp", "Spiel"})
+@Description("Vorbereitung einer Runde bis zur ersten angezeigten Frage")
+@StackTrace(false)
+public final class GamePrepareEvent extends Event {
+
+    @Label("Modus")
+    String mode;
+
+    @Label("Fragen")
+    int questions;
+
+    private GamePrepareEvent() {
+    }
+
+    /**
+     * Beginnt die Messung eines Spielstarts.
+     *
+     * @param mode Spielmodus (z.B. {@code classic}).
+     * @return Das laufende Event oder {@code null}, wenn JFR-Events ausgeschaltet sind.
+     */
+    public static GamePrepareEvent start(String mode) {
+        if (!FlightEvents.ENABLED) return null;
+        GamePrepareEvent event = new GamePrepareEvent();
+        event.mode = mode;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Beendet die Messung und schreibt das Event, falls eine Aufzeichnung läuft.
+     *
+     * @param questions Anzahl der gezogenen Fragen (0, wenn keine gefunden wurden).
+     */
+    public void finish(int questions) {
+        end();
+        if (shouldCommit()) {
+            this.questions = questions;
+            commit();
+        }
+    }
+}
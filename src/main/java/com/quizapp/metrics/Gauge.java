@@ -0,0 +1,31 @@
+package com.quizapp.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Momentanwert, der erst beim Auslesen abgefragt wird (z.B. Länge einer Warteschlange).
+ * <p>
+ * Auf dem Hot Path entstehen dadurch keine Kosten. Die Funktion wird vom Thread des
+ * Exports aufgerufen und muss daher threadsicher und schnell sein. Erzeugt wird ein
+ * Gauge über {@link Metrics#gauge}.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class Gauge {
+
+    private final DoubleSupplier value;
+
+    Gauge(DoubleSupplier value) {
+        this.value = value;
+    }
+
+    /**
+     * @return Der aktuelle Wert.
+     */
+    public double get() {
+        return value.getAsDouble();
+    }
+}
@@ -0,0 +1,128 @@
+package com.quizapp.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-freies Histogramm für Dauern in Nanosekunden mit logarithmisch-linearen Buckets
+ * (nach dem Vorbild von HdrHistogram).
+ * <p>
+ * Jede Zweierpotenz ist in {@value #SUB_BUCKETS} gleich breite Buckets unterteilt; ein
+ * gemeldetes Perzentil liegt dadurch höchstens 12,5 % über dem tatsächlichen Wert,
+ * und zwar von 1 ns bis zu mehreren Jahren mit festen 488 Zählern. {@link #record(long)}
+ * legt keine Objekte an und nimmt keine Sperre: der Bucket wird atomar erhöht, Anzahl
+ * und Summe laufen über {@link LongAdder}.
+ * </p>
+ * <p>
+ * Ausgelesen wird ohne Anhalten der Schreiber; ein Schnappschuss während laufender
+ * Messungen kann daher um die gerade eintreffenden Werte abweichen.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class LatencyHistogram {
+
+    /** Buckets pro Zweierpotenz. */
+    static final int SUB_BUCKETS = 8;
+    private static final int SUB_BITS = 3;
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS; // bis Long.MAX_VALUE
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    LatencyHistogram() {
+    }
+
+    /**
+     * Erfasst eine Dauer.
+     *
+     * @param nanos Dauer in Nanosekunden; negative Werte zählen als 0.
+     */
+    public void record(long nanos) {
+        long v = Math.max(0, nanos);
+        buckets.incrementAndGet(indexOf(v));
+        count.increment();
+        sum.add(v);
+        long m = max.get();
+        while (v > m && !max.compareAndSet(m, v)) {
+            m = max.get();
+        }
+    }
+
+    /**
+     * Erfasst die Dauer seit einem früheren {@link System#nanoTime()}.
+     *
+     * @param startNanos Startzeitpunkt aus {@link System#nanoTime()}.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @return Anzahl der erfassten Werte.
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * @return Summe aller erfassten Werte in Nanosekunden.
+     */
+    public long sumNanos() {
+        return sum.sum();
+    }
+
+    /**
+     * @return Größter erfasster Wert in Nanosekunden.
+     */
+    public long maxNanos() {
+        return max.get();
+    }
+
+    /**
+     * Schätzt ein Perzentil.
+     *
+     * @param quantile Anteil zwischen 0 und 1 (z.B. 0,99).
+     * @return Obergrenze des Buckets, in dem das Perzentil liegt (höchstens das Maximum),
+     *         oder 0, wenn noch nichts erfasst wurde.
+     */
+    public long percentileNanos(double quantile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    static int indexOf(long v) {
+        if (v < SUB_BUCKETS) return (int) v;
+        int exponent = 63 - Long.numberOfLeadingZeros(v);
+        int sub = (int) (v >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int exponent = index / SUB_BUCKETS + SUB_BITS - 1;
+        int sub = index % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BITS);
+        long lower = (long) (SUB_BUCKETS + sub) << (exponent - SUB_BITS);
+        return lower + width - 1;
+    }
+}
@@ -0,0 +1,157 @@
+package com.quizapp.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Zentrale Registry für Zähler, Gauges und Latenz-Histogramme der Anwendung.
+ * <p>
+ * Messpunkte holen sich ihre Metrik einmal (typischerweise in einem {@code static final}
+ * Feld) und erfassen danach ohne Sperren und ohne Allokation. Eine Metrik wird über
+ * Namen und optionale Label-Paare identifiziert; ein zweiter Aufruf mit denselben Angaben
+ * liefert dieselbe Instanz. Namen folgen den Prometheus-Konventionen (z.B.
+ * {@code quizapp_data_seconds}, Zähler enden auf {@code _total}).
+ * </p>
+ * <p>
+ * Die Registry ist immer aktiv; ob und wohin die Werte exportiert werden, steuert der
+ * {@link MetricsExporter}.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class Metrics {
+
+    /** Exportierte Perzentile der Histogramme. */
+    static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private static final ConcurrentMap<String, Family> FAMILIES = new ConcurrentSkipListMap<>();
+
+    private Metrics() {
+        // Utility-Klasse
+    }
+
+    /**
+     * Liefert einen Zähler und legt ihn beim ersten Aufruf an.
+     *
+     * @param name   Name der Metrik (sollte auf {@code _total} enden).
+     * @param help   Beschreibung für den Export.
+     * @param labels Label-Paare: Name, Wert, Name, Wert, ...
+     * @return Der Zähler.
+     */
+    public static Counter counter(String name, String help, String... labels) {
+        return register(name, help, "counter", labels, Counter.class, Counter::new);
+    }
+
+    /**
+     * Registriert einen Gauge. Ist unter Namen und Labels schon einer registriert, bleibt
+     * dessen Funktion bestehen.
+     *
+     * @param name   Name der Metrik.
+     * @param help   Beschreibung für den Export.
+     * @param value  Liefert den aktuellen Wert beim Export.
+     * @param labels Label-Paare: Name, Wert, Name, Wert, ...
+     * @return Der Gauge.
+     */
+    public static Gauge gauge(String name, String help, DoubleSupplier value, String... labels) {
+        return register(name, help, "gauge", labels, Gauge.class, () -> new Gauge(value));
+    }
+
+    /**
+     * Liefert ein Latenz-Histogramm und legt es beim ersten Aufruf an. Exportiert wird es
+     * in Sekunden als Prometheus-{@code summary} mit den Perzentilen 50, 90, 99 und 99,9.
+     *
+     * @param name   Name der Metrik (sollte auf {@code _seconds} enden).
+     * @param help   Beschreibung für den Export.
+     * @param labels Label-Paare: Name, Wert, Name, Wert, ...
+     * @return Das Histogramm.
+     */
+    public static LatencyHistogram histogram(String name, String help, String... labels) {
+        return register(name, help, "summary", labels, LatencyHistogram.class, LatencyHistogram::new);
+    }
+
+    private static <T> T register(String name, String help, String type, String[] labels,
+                                  Class<T> kind, Supplier<T> factory) {
+        Family family = FAMILIES.computeIfAbsent(name, n -> new Family(help, type));
+        if (!family.type.equals(type)) {
+            throw new IllegalArgumentException("Metrik " + name + " ist bereits als " + family.type + " registriert");
+        }
+        return kind.cast(family.series.computeIfAbsent(labelsOf(labels), k -> factory.get()));
+    }
+
+    /**
+     * Schreibt alle Metriken im Prometheus-Textformat (Version 0.0.4).
+     *
+     * @return Der aktuelle Stand aller Metriken, nach Namen sortiert.
+     */
+    public static String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        for (Map.Entry<String, Family> e : FAMILIES.entrySet()) {
+            String name = e.getKey();
+            Family family = e.getValue();
+            out.append("# HELP ").append(name).append(' ').append(family.help.replace("\n", " ")).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(family.type).append('\n');
+            for (Map.Entry<String, Object> s : family.series.entrySet()) {
+                String labels = s.getKey();
+                Object metric = s.getValue();
+                if (metric instanceof Counter c) {
+                    sample(out, name, labels, c.get());
+                } else if (metric instanceof Gauge g) {
+                    sample(out, name, labels, g.get());
+                } else if (metric instanceof LatencyHistogram h) {
+                    for (double q : QUANTILES) {
+                        String withQuantile = (labels.isEmpty() ? "" : labels + ",") + "quantile=\"" + q + "\"";
+                        sample(out, name, withQuantile, h.percentileNanos(q) / 1e9);
+                    }
+                    sample(out, name + "_sum", labels, h.sumNanos() / 1e9);
+                    sample(out, name + "_count", labels, h.count());
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name);
+        if (!labels.isEmpty()) out.append('{').append(labels).append('}');
+        out.append(' ');
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            out.append((long) value);
+        } else {
+            out.append(String.format(Locale.ROOT, "%.9g", value));
+        }
+        out.append('\n');
+    }
+
+    private static String labelsOf(String[] labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels müssen als Paare aus Name und Wert angegeben werden");
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) sb.append(',');
+            sb.append(labels[i]).append("=\"").append(labels[i + 1]
+                    .replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n")).append('"');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Alle Zeitreihen einer Metrik (gleicher Name, verschiedene Labels).
+     */
+    private static final class Family {
+        final String help;
+        final String type;
+        final ConcurrentMap<String, Object> series = new ConcurrentSkipListMap<>();
+
+        Family(String help, String type) {
+            this.help = help;
+            this.type = type;
+        }
+    }
+}
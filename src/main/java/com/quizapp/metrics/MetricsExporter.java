@@ -0,0 +1,136 @@
+package com.quizapp.metrics;
+
+import com.quizapp.data.AtomicFiles;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exportiert die {@link Metrics} in eine lokale Datei und/oder über HTTP.
+ * <p>
+ * Beide Wege liefern das Prometheus-Textformat:
+ * </p>
+ * <ul>
+ * <li><b>Datei:</b> {@code -Dquizapp.metrics=metrics.prom} schreibt den Stand alle
+ *     {@value #DUMP_SECONDS} Sekunden und beim Beenden atomar in die Datei (Leser sehen
+ *     nie einen halben Stand).</li>
+ * <li><b>HTTP:</b> {@code -Dquizapp.metricsPort=9464} startet einen Endpunkt auf
+ *     {@code localhost}: {@code /metrics} für Prometheus und {@code /} als einfache,
+ *     sich selbst aktualisierende Übersicht im Browser.</li>
+ * </ul>
+ * <p>
+ * Export und HTTP laufen auf eigenen Daemon-Threads; die Messpunkte selbst merken davon nichts.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class MetricsExporter {
+
+    /** Abstand der Datei-Schnappschüsse in Sekunden. */
+    public static final int DUMP_SECONDS = 10;
+
+    private MetricsExporter() {
+        // Utility-Klasse
+    }
+
+    /**
+     * Startet den Export gemäß {@code -Dquizapp.metrics} und {@code -Dquizapp.metricsPort}.
+     *
+     * @return {@code true}, wenn mindestens ein Export aktiv ist.
+     */
+    public static boolean startFromSystemProperties() {
+        boolean active = false;
+        String file = System.getProperty("quizapp.metrics");
+        if (file != null && !file.isBlank()) {
+            dumpEvery(Path.of(file), DUMP_SECONDS);
+            active = true;
+        }
+        Integer port = Integer.getInteger("quizapp.metricsPort");
+        if (port != null) {
+            try {
+                serve(port);
+                active = true;
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Schreibt die Metriken regelmäßig und beim Beenden der JVM in eine Datei.
+     *
+     * @param file          Zieldatei.
+     * @param periodSeconds Abstand in Sekunden.
+     */
+    public static void dumpEvery(Path file, long periodSeconds) {
+        ScheduledExecutorService dumper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "quizapp-metrics");
+            t.setDaemon(true);
+            return t;
+        });
+        dumper.scheduleAtFixedRate(() -> dump(file), periodSeconds, periodSeconds, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> dump(file), "quizapp-metrics-final"));
+    }
+
+    /**
+     * Schreibt den aktuellen Stand einmal in eine Datei.
+     *
+     * @param file Zieldatei.
+     */
+    public static void dump(Path file) {
+        try {
+            byte[] text = Metrics.scrape().getBytes(StandardCharsets.UTF_8);
+            AtomicFiles.write(file, out -> out.write(text));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Startet den HTTP-Endpunkt auf {@code localhost}.
+     *
+     * @param port TCP-Port (0 = beliebiger freier Port).
+     * @return Der laufende Server (z.B. für {@link HttpServer#getAddress()} oder {@link HttpServer#stop(int)}).
+     * @throws IOException wenn der Port nicht belegt werden kann.
+     */
+    public static HttpServer serve(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", exchange ->
+                respond(exchange, "text/plain; version=0.0.4; charset=utf-8", Metrics.scrape()));
+        server.createContext("/", exchange -> respond(exchange, "text/html; charset=utf-8",
+                "<!DOCTYPE html><html><head><meta charset=\"utf-8\"><meta http-equiv=\"refresh\" content=\"2\">"
+                        + "<title>QuizApp Metriken</title></head><body><pre>"
+                        + Metrics.scrape().replace("&", "&amp;").replace("<", "&lt;")
+                        + "</pre></body></html>"));
+        server.setExecutor(Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "quizapp-metrics-http");
+            t.setDaemon(true);
+            return t;
+        }));
+        server.start();
+        return server;
+    }
+
+    private static void respond(HttpExchange exchange, String contentType, String body) throws IOException {
+        try (exchange) {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.quizapp.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR-Event für einen Seitenwechsel im Hauptfenster (CardLayout).
+ * <p>
+ * Die Dauer umfasst das Erzeugen der Seite beim ersten Aufruf, nicht aber das
+ * anschließende Zeichnen.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+@Name("quizapp.PageSwitch")
+@Label("Seitenwechsel")
+@Category({"QuizApp", "Oberfläche"})
+@Description("Wechsel der angezeigten Seite im Hauptfenster")
+@StackTrace(false)
+public final class PageSwitchEvent extends Event {
+
+    @Label("Seite")
+    String page;
+
+    @Label("Neu erzeugt")
+    @Description("Die Seite wurde bei diesem Wechsel zum ersten Mal gebaut")
+    boolean created;
+
+    private PageSwitchEvent() {
+    }
+
+    /**
+     * Beginnt die Messung eines Seitenwechsels.
+     *
+     * @param page Name der Zielseite.
+     * @return Das laufende Event oder {@code null}, wenn JFR-Events ausgeschaltet sind.
+     */
+    public static PageSwitchEvent start(String page) {
+        if (!FlightEvents.ENABLED) return null;
+        PageSwitchEvent event = new PageSwitchEvent();
+        event.page = page;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Beendet die Messung und schreibt das Event, falls eine Aufzeichnung läuft.
+     *
+     * @param created {@code true}, wenn die Seite dabei erzeugt wurde.
+     */
+    public void finish(boolean created) {
+        end();
+        if (shouldCommit()) {
+            this.created = created;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.quizapp.model;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Countdown über einer {@link GameClock}.
+ * <p>
+ * Die Restzeit wird immer exakt aus der Uhr berechnet und nicht aus einer Anzeige
+ * (z.B. dem Wert einer Progress-Bar) zurückgelesen. Mit {@link #stop()} wird sie im
+ * Moment der Antwort eingefroren, damit Punkteberechnung und Anzeige dieselbe Zeit sehen.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class Countdown {
+
+    private final GameClock clock;
+    private final long durationNanos;
+    private final long start;
+    private long stoppedAt;
+    private boolean stopped;
+
+    /**
+     * Startet einen Countdown ab der aktuellen Zeit der Uhr.
+     *
+     * @param clock         Die Uhr.
+     * @param durationNanos Gesamtdauer in Nanosekunden.
+     */
+    public Countdown(GameClock clock, long durationNanos) {
+        this.clock = clock;
+        this.durationNanos = durationNanos;
+        this.start = clock.nanoTime();
+    }
+
+    /**
+     * Hält den Countdown an; danach ändert sich die Restzeit nicht mehr.
+     */
+    public void stop() {
+        if (!stopped) {
+            stoppedAt = clock.nanoTime();
+            stopped = true;
+        }
+    }
+
+    /**
+     * Gibt die Gesamtdauer zurück.
+     *
+     * @return Dauer in Nanosekunden.
+     */
+    public long durationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * Gibt die exakte Restzeit zurück.
+     *
+     * @return Restzeit in Nanosekunden, nie negativ.
+     */
+    public long remainingNanos() {
+        long elapsed = (stopped ? stoppedAt : clock.nanoTime()) - start;
+        return Math.max(0, durationNanos - elapsed);
+    }
+
+    /**
+     * Gibt die vollen verbleibenden Sekunden zurück (abgerundet, für die Punkteberechnung).
+     *
+     * @return Volle Sekunden.
+     */
+    public int remainingSeconds() {
+        return (int) TimeUnit.NANOSECONDS.toSeconds(remainingNanos());
+    }
+
+    /**
+     * Gibt die angezeigten Sekunden zurück (aufgerundet, "1s" bis zum Ablauf).
+     *
+     * @return Sekunden für die Anzeige.
+     */
+    public int displaySeconds() {
+        return (int) TimeUnit.NANOSECONDS.toSeconds(remainingNanos() + TimeUnit.SECONDS.toNanos(1) - 1);
+    }
+
+    /**
+     * Prüft, ob die Zeit abgelaufen ist.
+     *
+     * @return {@code true}, wenn keine Restzeit mehr bleibt.
+     */
+    public boolean isExpired() {
+        return remainingNanos() == 0;
+    }
+}
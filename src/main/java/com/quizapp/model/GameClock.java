@@ -0,0 +1,52 @@
+package com.quizapp.model;
+
+/**
+ * Monotone Uhr für Countdowns und Verzögerungen im Spiel.
+ * <p>
+ * Alle Zeiten sind Nanosekunden auf Basis von {@link System#nanoTime()} (bzw. einer
+ * virtuellen Zeit in Tests) und damit unabhängig von Änderungen der Systemuhr.
+ * Aufgaben werden immer auf dem Thread der Uhr ausgeführt – bei der Swing-Uhr also auf
+ * dem Event Dispatch Thread.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public interface GameClock {
+
+    /**
+     * Gibt die aktuelle Zeit der Uhr zurück.
+     *
+     * @return Zeit in Nanosekunden; nur Differenzen sind aussagekräftig.
+     */
+    long nanoTime();
+
+    /**
+     * Führt eine Aufgabe einmalig nach der angegebenen Verzögerung aus.
+     *
+     * @param delayNanos Verzögerung in Nanosekunden.
+     * @param action     Die Aufgabe.
+     * @return Handle zum Abbrechen.
+     */
+    Task schedule(long delayNanos, Runnable action);
+
+    /**
+     * Führt eine Aufgabe wiederholt im festen Abstand aus (erstmals nach einer Periode).
+     *
+     * @param periodNanos Abstand in Nanosekunden.
+     * @param action      Die Aufgabe.
+     * @return Handle zum Abbrechen.
+     */
+    Task repeat(long periodNanos, Runnable action);
+
+    /**
+     * Handle einer eingeplanten Aufgabe.
+     */
+    interface Task {
+        /**
+         * Bricht die Aufgabe ab; sie wird danach nicht mehr ausgeführt.
+         */
+        void cancel();
+    }
+}
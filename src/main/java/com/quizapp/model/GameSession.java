@@ -0,0 +1,292 @@
+package com.quizapp.model;
+
+import com.quizapp.metrics.AnswerEvent;
+import com.quizapp.metrics.Counter;
+import com.quizapp.metrics.LatencyHistogram;
+import com.quizapp.metrics.Metrics;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Spielablauf einer Runde als Zustandsautomat, unabhängig von Swing.
+ * <p>
+ * Die Session verwaltet Fragenposition, Punktestand, Joker und die Frage, ob gerade
+ * Antworten angenommen werden. {@code Quiz} und {@code TimeMode} steuern sie nur noch an
+ * und zeigen ihren Zustand an; Simulationen und Tests können sie ohne Bildschirm
+ * durchspielen. Pro Spielzug werden keine Objekte angelegt.
+ * </p>
+ * <p>
+ * Jede Antwort wird in den {@link Metrics} erfasst: die Bedenkzeit ab dem Erscheinen der
+ * Frage in {@code quizapp_answer_seconds} (je Modus) und das Ergebnis in
+ * {@code quizapp_answers_total}. Mit {@code -Dquizapp.jfr=true} entsteht zusätzlich pro
+ * Frage ein {@link AnswerEvent} (das einzige Objekt pro Spielzug, nur mit diesem Schalter).
+ * </p>
+ * <pre>
+ *   ANSWERING --answer()/timeOut()--&gt; REVEALED --next()--&gt; ANSWERING | FINISHED
+ *   ANSWERING --skip()--------------------------------&gt; ANSWERING | FINISHED
+ * </pre>
+ * <p>
+ * Die Klasse ist nicht threadsicher; eine Session gehört einem Thread (in der
+ * Oberfläche dem Event Dispatch Thread).
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class GameSession {
+
+    /**
+     * Spielmodus, bestimmt die Punktevergabe.
+     */
+    public enum Mode {
+        /** Klassisches Quiz: 10 Punkte pro richtiger Antwort. */
+        CLASSIC,
+        /** Zeitmodus: 10 Punkte plus die vollen verbleibenden Sekunden. */
+        TIMED
+    }
+
+    /**
+     * Zustand der Session.
+     */
+    public enum State {
+        /** Die aktuelle Frage wartet auf eine Antwort. */
+        ANSWERING,
+        /** Die Lösung der aktuellen Frage wird angezeigt. */
+        REVEALED,
+        /** Die Runde ist vorbei. */
+        FINISHED
+    }
+
+    /** Basispunkte für eine richtige Antwort. */
+    public static final int BASE_POINTS = 10;
+
+    private static final Counter CORRECT = answers("correct");
+    private static final Counter WRONG = answers("wrong");
+    private static final Counter TIMED_OUT = answers("timeout");
+    private static final Counter SKIPPED = answers("skipped");
+    private static final Counter ROUNDS = Metrics.counter("quizapp_rounds_finished_total",
+            "Zu Ende gespielte Runden");
+
+    private final Mode mode;
+    private final String modeLabel;
+    private final LatencyHistogram answerLatency;
+    private long askedAt;
+    private AnswerEvent answerEvent;
+    private List<Question> questions = List.of();
+    private State state = State.FINISHED;
+    private int index;
+    private int score;
+    private boolean used5050;
+    private int hiddenMask;
+
+    /**
+     * Erstellt eine Session für den angegebenen Modus.
+     *
+     * @param mode Der Spielmodus.
+     */
+    public GameSession(Mode mode) {
+        this.mode = mode;
+        this.modeLabel = mode.name().toLowerCase(Locale.ROOT);
+        this.answerLatency = Metrics.histogram("quizapp_answer_seconds",
+                "Bedenkzeit vom Anzeigen einer Frage bis zur Antwort", "mode", modeLabel);
+    }
+
+    private static Counter answers(String result) {
+        return Metrics.counter("quizapp_answers_total", "Abgeschlossene Fragen nach Ergebnis", "result", result);
+    }
+
+    /**
+     * Beginnt eine neue Runde und setzt Punkte und Joker zurück.
+     *
+     * @param round Die Fragen der Runde (wird nicht kopiert).
+     */
+    public void start(List<Question> round) {
+        this.questions = round;
+        this.index = 0;
+        this.score = 0;
+        this.used5050 = false;
+        this.hiddenMask = 0;
+        this.state = round.isEmpty() ? State.FINISHED : State.ANSWERING;
+        asked();
+    }
+
+    private void asked() {
+        askedAt = System.nanoTime();
+        answerEvent = state == State.ANSWERING ? AnswerEvent.start(modeLabel, index) : null;
+    }
+
+    private void closed(String result, int points) {
+        if (answerEvent != null) {
+            answerEvent.finish(result, points);
+            answerEvent = null;
+        }
+    }
+
+    /**
+     * Wertet eine Antwort aus und deckt die Lösung auf.
+     *
+     * @param choice      Index der gewählten Antwort.
+     * @param secondsLeft Volle verbleibende Sekunden (nur im Zeitmodus relevant).
+     * @return Die erhaltenen Punkte, oder {@code -1}, wenn gerade keine Antwort angenommen wird.
+     */
+    public int answer(int choice, int secondsLeft) {
+        if (state != State.ANSWERING) return -1;
+        state = State.REVEALED;
+        answerLatency.recordSince(askedAt);
+        boolean correct = choice == current().getCorrectIndex();
+        (correct ? CORRECT : WRONG).inc();
+        int points = points(correct, secondsLeft);
+        score += points;
+        closed(correct ? "correct" : "wrong", points);
+        return points;
+    }
+
+    /**
+     * Beendet die aktuelle Frage ohne Punkte, weil die Zeit abgelaufen ist.
+     *
+     * @return {@code true}, wenn die Frage noch offen war.
+     */
+    public boolean timeOut() {
+        if (state != State.ANSWERING) return false;
+        state = State.REVEALED;
+        TIMED_OUT.inc();
+        closed("timeout", 0);
+        return true;
+    }
+
+    /**
+     * Setzt den 50:50-Joker ein (einmal pro Runde). Ausgeblendet werden die ersten zwei
+     * falschen Antworten.
+     *
+     * @return Bitmaske der ausgeblendeten Antworten (Bit {@code i} für Antwort {@code i}),
+     *         oder {@code 0}, wenn der Joker nicht eingesetzt werden kann.
+     */
+    public int use5050() {
+        if (used5050 || state != State.ANSWERING) return 0;
+        used5050 = true;
+        int correct = current().getCorrectIndex();
+        int options = current().getOptions().length;
+        int mask = 0;
+        for (int i = 0, hidden = 0; i < options && hidden < 2; i++) {
+            if (i != correct) {
+                mask |= 1 << i;
+                hidden++;
+            }
+        }
+        hiddenMask = mask;
+        return mask;
+    }
+
+    /**
+     * Überspringt die aktuelle Frage ohne Punkte.
+     *
+     * @return {@code true}, wenn danach eine weitere Frage folgt.
+     */
+    public boolean skip() {
+        if (state != State.ANSWERING) return false;
+        SKIPPED.inc();
+        closed("skipped", 0);
+        return advance();
+    }
+
+    /**
+     * Wechselt nach dem Aufdecken zur nächsten Frage.
+     *
+     * @return {@code true}, wenn eine weitere Frage folgt; {@code false}, wenn die Runde vorbei ist.
+     */
+    public boolean next() {
+        return state == State.REVEALED && advance();
+    }
+
+    private boolean advance() {
+        hiddenMask = 0;
+        if (index + 1 >= questions.size()) {
+            state = State.FINISHED;
+            ROUNDS.inc();
+            return false;
+        }
+        index++;
+        state = State.ANSWERING;
+        asked();
+        return true;
+    }
+
+    /**
+     * Berechnet die Punkte einer Antwort für diesen Modus.
+     *
+     * @param correct     {@code true}, wenn die Antwort richtig war.
+     * @param secondsLeft Volle verbleibende Sekunden.
+     * @return 0 bei falscher Antwort, sonst 10 (klassisch) bzw. 10 plus Restsekunden (Zeitmodus).
+     */
+    public int points(boolean correct, int secondsLeft) {
+        if (!correct) return 0;
+        return mode == Mode.TIMED ? BASE_POINTS + Math.max(0, secondsLeft) : BASE_POINTS;
+    }
+
+    /**
+     * Gibt die aktuelle Frage zurück.
+     *
+     * @return Die Frage an der aktuellen Position.
+     */
+    public Question current() {
+        return questions.get(index);
+    }
+
+    /**
+     * @return Der Spielmodus.
+     */
+    public Mode mode() {
+        return mode;
+    }
+
+    /**
+     * @return Position der aktuellen Frage (ab 0).
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * @return Anzahl der Fragen dieser Runde.
+     */
+    public int size() {
+        return questions.size();
+    }
+
+    /**
+     * @return Bisheriger Punktestand.
+     */
+    public int score() {
+        return score;
+    }
+
+    /**
+     * @return Der aktuelle Zustand.
+     */
+    public State state() {
+        return state;
+    }
+
+    /**
+     * @return {@code true}, solange eine Antwort auf die aktuelle Frage angenommen wird.
+     */
+    public boolean isAcceptingAnswers() {
+        return state == State.ANSWERING;
+    }
+
+    /**
+     * @return {@code true}, wenn der 50:50-Joker in dieser Runde bereits verwendet wurde.
+     */
+    public boolean isUsed5050() {
+        return used5050;
+    }
+
+    /**
+     * @return Bitmaske der per 50:50 ausgeblendeten Antworten der aktuellen Frage.
+     */
+    public int hiddenMask() {
+        return hiddenMask;
+    }
+}
@@ -13,6 +13,7 @@ package com.quizapp.model;
  * @version 1.0
  */
 public class Question {
+    private long id;          // stabile ID, 0 = noch nicht vergeben
     private String text;
     private String[] options; // Array aus 4 Antwortmöglichkeiten
     private int correctIndex; // 0, 1, 2 oder 3
@@ -34,6 +35,33 @@ public class Question {
         this.correctIndex = correctIndex;
     }
 
+    /**
+     * Gibt eine Kopie dieser Frage mit der angegebenen ID zurück.
+     * <p>
+     * IDs werden ausschließlich vom Repository vergeben; Fragen aus älteren Dateien
+     * ohne ID haben zunächst die ID {@code 0}.
+     * </p>
+     *
+     * @param id Die neue, stabile ID.
+     * @return Eine neue Frage mit gleichem Inhalt und der übergebenen ID.
+     */
+    public Question withId(long id) {
+        Question copy = new Question(getText(), getOptions(), getCorrectIndex());
+        copy.id = id;
+        return copy;
+    }
+
+    /**
+     * Gibt die stabile ID der Frage zurück.
+     * <p>
+     * Anders als die Position in der Liste ändert sich die ID nicht, wenn andere
+     * Fragen hinzugefügt oder gelöscht werden.
+     * </p>
+     *
+     * @return Die ID oder {@code 0}, wenn die Frage noch nicht gespeichert wurde.
+     */
+    public long getId() { return id; }
+
     /**
      * Gibt den Text der Frage zurück.
      *
@@ -0,0 +1,135 @@
+package com.quizapp.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Wählt zufällig und gleichverteilt {@code k} Fragen aus einem Fragenpool aus.
+ * <p>
+ * Bisher wurde der komplette Pool kopiert, gemischt und danach nur {@code subList(0, 10)}
+ * verwendet. Der Sampler arbeitet stattdessen proportional zu {@code k}:
+ * </p>
+ * <ul>
+ * <li>Für Listen mit wahlfreiem Zugriff wird Floyds Algorithmus verwendet:
+ *     Es werden nur {@code k} Indizes gezogen, der Pool selbst wird weder kopiert noch verändert.</li>
+ * <li>Für sequentielle Quellen (z.B. {@link com.quizapp.data.DataManager#streamQuestions()})
+ *     wird Reservoir-Sampling verwendet, sodass nie mehr als {@code k} Fragen im Speicher liegen.</li>
+ * </ul>
+ * <p>
+ * Das Ergebnis ist eine neue, unabhängige Liste in zufälliger Reihenfolge. Über einen festen
+ * Seed lassen sich Ziehungen reproduzieren (z.B. in Tests).
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public class QuestionSampler {
+
+    private final Random random;
+
+    /**
+     * Erstellt einen Sampler mit zufälligem Seed.
+     */
+    public QuestionSampler() {
+        this(new Random());
+    }
+
+    /**
+     * Erstellt einen reproduzierbaren Sampler.
+     *
+     * @param seed Startwert des Zufallsgenerators.
+     */
+    public QuestionSampler(long seed) {
+        this(new Random(seed));
+    }
+
+    /**
+     * Erstellt einen Sampler mit dem angegebenen Zufallsgenerator.
+     *
+     * @param random Der zu verwendende Zufallsgenerator.
+     */
+    public QuestionSampler(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Zieht {@code k} verschiedene Fragen aus einer Liste.
+     *
+     * @param pool Der Fragenpool (wird nicht verändert).
+     * @param k    Gewünschte Anzahl; ist der Pool kleiner, werden alle Fragen gemischt zurückgegeben.
+     * @return Eine neue Liste mit {@code min(k, pool.size())} Fragen in zufälliger Reihenfolge.
+     */
+    public List<Question> sample(List<Question> pool, int k) {
+        if (!(pool instanceof RandomAccess)) {
+            return sample(pool.iterator(), k);
+        }
+        int n = pool.size();
+        int count = Math.max(0, Math.min(k, n));
+        List<Question> result = new ArrayList<>(count);
+        if (count == n) {
+            result.addAll(pool);
+        } else {
+            // Floyd: für j = n-k .. n-1 einen Index aus [0, j] ziehen, bei Kollision j nehmen
+            Set<Integer> chosen = new HashSet<>(count * 2);
+            for (int j = n - count; j < n; j++) {
+                int t = random.nextInt(j + 1);
+                int pick = chosen.add(t) ? t : j;
+                if (pick == j) chosen.add(j);
+                result.add(pool.get(pick));
+            }
+        }
+        Collections.shuffle(result, random);
+        return result;
+    }
+
+    /**
+     * Zieht {@code k} Fragen aus einer sequentiellen Quelle (Reservoir-Sampling, Algorithmus L).
+     * <p>
+     * Die Quelle wird genau einmal durchlaufen; es werden höchstens {@code k} Fragen gehalten.
+     * Statt für jedes Element eine Zufallszahl zu ziehen, wird direkt berechnet, wie viele
+     * Elemente bis zum nächsten Austausch übersprungen werden können. Dadurch sind nur
+     * O(k · log(n/k)) Zufallszahlen nötig.
+     * </p>
+     *
+     * @param source Die Fragenquelle.
+     * @param k      Gewünschte Anzahl.
+     * @return Eine neue Liste mit bis zu {@code k} Fragen in zufälliger Reihenfolge.
+     */
+    public List<Question> sample(Iterator<Question> source, int k) {
+        List<Question> reservoir = new ArrayList<>(Math.max(0, k));
+        if (k <= 0) {
+            return reservoir;
+        }
+        while (reservoir.size() < k && source.hasNext()) {
+            reservoir.add(source.next());
+        }
+        double w = Math.exp(Math.log(nextOpenDouble()) / k);
+        while (source.hasNext()) {
+            long skip = (long) Math.floor(Math.log(nextOpenDouble()) / Math.log1p(-w));
+            for (long i = 0; i < skip && source.hasNext(); i++) {
+                source.next();
+            }
+            if (!source.hasNext()) break;
+            reservoir.set(random.nextInt(k), source.next());
+            w *= Math.exp(Math.log(nextOpenDouble()) / k);
+        }
+        Collections.shuffle(reservoir, random);
+        return reservoir;
+    }
+
+    /** Zufallszahl aus (0, 1), damit {@code Math.log} nie {@code -Infinity} liefert. */
+    private double nextOpenDouble() {
+        double d;
+        do {
+            d = random.nextDouble();
+        } while (d == 0.0);
+        return d;
+    }
+}
@@ -0,0 +1,103 @@
+package com.quizapp.model;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Gemeinsame Basis der {@link GameClock}-Implementierungen: eine nach Fälligkeit sortierte
+ * Warteschlange, die von der konkreten Uhr über {@link #runDue(long)} abgearbeitet wird.
+ * <p>
+ * Die Klasse ist nicht threadsicher; Einplanen und Ausführen müssen auf demselben Thread
+ * erfolgen.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public abstract class ScheduledGameClock implements GameClock {
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(
+            Comparator.comparingLong((Entry e) -> e.due).thenComparingLong(e -> e.seq));
+    private long seq;
+
+    @Override
+    public Task schedule(long delayNanos, Runnable action) {
+        return enqueue(delayNanos, 0, action);
+    }
+
+    @Override
+    public Task repeat(long periodNanos, Runnable action) {
+        if (periodNanos <= 0) {
+            throw new IllegalArgumentException("Periode muss positiv sein: " + periodNanos);
+        }
+        return enqueue(periodNanos, periodNanos, action);
+    }
+
+    private Task enqueue(long delayNanos, long periodNanos, Runnable action) {
+        Entry entry = new Entry(nanoTime() + Math.max(0, delayNanos), periodNanos, action, seq++);
+        queue.add(entry);
+        scheduled();
+        return entry;
+    }
+
+    /**
+     * Führt alle Aufgaben aus, die bis {@code now} fällig sind, in der Reihenfolge ihrer Fälligkeit.
+     * Wiederholte Aufgaben werden neu eingeplant; verpasste Perioden werden übersprungen.
+     *
+     * @param now Aktuelle Zeit der Uhr.
+     */
+    protected final void runDue(long now) {
+        Entry head;
+        while ((head = queue.peek()) != null && head.due - now <= 0) {
+            queue.poll();
+            if (head.cancelled) continue;
+            head.action.run();
+            if (head.period > 0 && !head.cancelled) {
+                do {
+                    head.due += head.period;
+                } while (head.due - now <= 0);
+                queue.add(head);
+            }
+        }
+    }
+
+    /**
+     * Gibt die Fälligkeit der nächsten Aufgabe zurück.
+     *
+     * @return Zeitpunkt in Nanosekunden oder {@link Long#MAX_VALUE}, wenn nichts eingeplant ist.
+     */
+    protected final long nextDue() {
+        Entry head;
+        while ((head = queue.peek()) != null && head.cancelled) {
+            queue.poll();
+        }
+        return head == null ? Long.MAX_VALUE : head.due;
+    }
+
+    /**
+     * Wird nach jedem Einplanen aufgerufen, z.B. um einen Timer neu zu stellen.
+     */
+    protected void scheduled() {
+    }
+
+    private static final class Entry implements Task {
+        private long due;
+        private final long period;
+        private final Runnable action;
+        private final long seq;
+        private boolean cancelled;
+
+        Entry(long due, long period, Runnable action, long seq) {
+            this.due = due;
+            this.period = period;
+            this.action = action;
+            this.seq = seq;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
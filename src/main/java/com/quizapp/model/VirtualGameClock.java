@@ -0,0 +1,38 @@
+package com.quizapp.model;
+
+/**
+ * {@link GameClock} mit virtueller Zeit für Tests und Simulationen.
+ * <p>
+ * Die Zeit steht still, bis sie mit {@link #advance(long)} vorgestellt wird. Dabei werden
+ * alle fälligen Aufgaben genau zu ihrem Zeitpunkt ausgeführt, sodass ein 20-Sekunden-Countdown
+ * ohne Warten und ohne Swing durchgespielt werden kann.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public class VirtualGameClock extends ScheduledGameClock {
+
+    private long now;
+
+    @Override
+    public long nanoTime() {
+        return now;
+    }
+
+    /**
+     * Stellt die Uhr vor und führt dabei alle fälligen Aufgaben aus.
+     *
+     * @param nanos Zeitspanne in Nanosekunden.
+     */
+    public void advance(long nanos) {
+        long target = now + nanos;
+        long due;
+        while ((due = nextDue()) != Long.MAX_VALUE && due - target <= 0) {
+            now = Math.max(now, due);
+            runDue(now);
+        }
+        now = target;
+    }
+}
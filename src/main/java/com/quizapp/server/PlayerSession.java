@@ -0,0 +1,36 @@
+package com.quizapp.server;
+
+import com.quizapp.model.GameSession;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Eine laufende Runde eines Spielers auf dem Server.
+ * <p>
+ * Die {@link GameSession} selbst ist nicht threadsicher; gleichzeitige Anfragen desselben
+ * Spielers werden über {@link #lock} serialisiert. Ein {@link ReentrantLock} statt
+ * {@code synchronized}, damit wartende virtuelle Threads ihren Träger-Thread freigeben.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+final class PlayerSession {
+
+    final long id;
+    final String player;
+    final GameSession game;
+    final ReentrantLock lock = new ReentrantLock();
+
+    /** Zeitpunkt ({@link System#nanoTime()}), zu dem die aktuelle Frage gestellt wurde. */
+    long askedAt;
+    /** Letzter Zugriff, für das Aufräumen verwaister Sessions. */
+    volatile long lastSeen;
+
+    PlayerSession(long id, String player, GameSession.Mode mode) {
+        this.id = id;
+        this.player = player;
+        this.game = new GameSession(mode);
+    }
+}
@@ -0,0 +1,325 @@
+package com.quizapp.server;
+
+import com.google.gson.Gson;
+import com.quizapp.data.AsyncDataManager;
+import com.quizapp.data.DataManager;
+import com.quizapp.data.Leaderboard;
+import com.quizapp.model.GameSession;
+import com.quizapp.model.Question;
+import com.quizapp.model.QuestionSampler;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Server-Modus: viele gleichzeitige Spielrunden in einer JVM über HTTP.
+ * <p>
+ * Jede Anfrage läuft auf einem eigenen virtuellen Thread. Alle Runden ziehen ihre Fragen
+ * aus einem gemeinsamen, unveränderlichen Fragen-Snapshot (ohne Sperren und ohne Kopie
+ * pro Runde); der Spielablauf ist die {@link GameSession} der Oberfläche. Ergebnisse
+ * gehen an einen einzigen Schreiber – standardmäßig die
+ * {@link com.quizapp.data.HighscoreIngest} des {@link DataManager} –, sodass parallel
+ * beendete Runden keine Punkte verlieren.
+ * </p>
+ * <p>
+ * Schnittstelle (Antworten als JSON):
+ * </p>
+ * <ul>
+ * <li>{@code POST /sessions?player=Name&mode=classic|timed} – neue Runde.</li>
+ * <li>{@code GET  /sessions/{id}} – aktueller Stand.</li>
+ * <li>{@code POST /sessions/{id}/answer?choice=0..3} – Antwort; danach folgt direkt die nächste Frage.</li>
+ * <li>{@code POST /sessions/{id}/joker} – 50:50, liefert die ausgeblendeten Antworten als Bitmaske.</li>
+ * <li>{@code POST /sessions/{id}/skip} – Frage überspringen.</li>
+ * <li>{@code GET  /highscores?top=10} – Rangliste.</li>
+ * <li>{@code GET  /stats} – Anzahl laufender Runden und Fragen.</li>
+ * </ul>
+ * <p>
+ * Start: {@code java -jar quiz.jar --server [port]}.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class QuizServer {
+
+    /** Anzahl der Fragen pro Runde (wie in der Oberfläche). */
+    public static final int QUESTIONS_PER_ROUND = 10;
+    private static final long SECONDS_PER_QUESTION = 20;
+    private static final long IDLE_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final List<Question> questions;
+    private final ObjIntConsumer<String> results;
+    private final Supplier<Leaderboard> leaderboard;
+    private final Map<Long, PlayerSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final Gson gson = new Gson();
+
+    private HttpServer http;
+    private ExecutorService workers;
+    private ScheduledExecutorService sweeper;
+
+    /**
+     * Erstellt einen Server.
+     *
+     * @param questions   Die Fragen; es wird ein unveränderlicher Snapshot angelegt.
+     * @param results     Nimmt die Endergebnisse entgegen (Spielername, Punkte).
+     * @param leaderboard Liefert die aktuelle Rangliste.
+     */
+    public QuizServer(List<Question> questions, ObjIntConsumer<String> results, Supplier<Leaderboard> leaderboard) {
+        this.questions = List.copyOf(questions);
+        this.results = results;
+        this.leaderboard = leaderboard;
+    }
+
+    /**
+     * Startet den Server mit den Daten des {@link DataManager}.
+     *
+     * @param args optional der Port (Standard: 8080).
+     * @throws IOException wenn der Port nicht belegt werden kann.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        AsyncDataManager.run(() -> {
+            DataManager.ensureQuestionsExist();
+            DataManager.ensureHighscoresExist();
+        }).join();
+        QuizServer server = new QuizServer(AsyncDataManager.loadQuestions().join(),
+                DataManager::submitHighscore,
+                () -> AsyncDataManager.loadLeaderboard().join());
+        server.start(port);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "quizapp-server-stop"));
+        System.out.println("QuizApp-Server läuft auf http://localhost:" + server.port()
+                + " (" + server.questions.size() + " Fragen)");
+    }
+
+    /**
+     * Startet den HTTP-Server.
+     *
+     * @param port Port oder {@code 0} für einen freien Port.
+     * @throws IOException wenn der Port nicht belegt werden kann.
+     */
+    public void start(int port) throws IOException {
+        // Header und Body gehen als getrennte Pakete raus; ohne TCP_NODELAY wartet Nagle
+        // auf das verzögerte ACK des Clients (~40 ms pro Anfrage)
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        http = HttpServer.create(new InetSocketAddress(port), 1024);
+        workers = Executors.newVirtualThreadPerTaskExecutor();
+        http.setExecutor(workers);
+        http.createContext("/", this::handle);
+        http.start();
+
+        sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "quizapp-session-sweeper");
+            t.setDaemon(true);
+            return t;
+        });
+        sweeper.scheduleWithFixedDelay(this::dropIdleSessions, 1, 1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Beendet den Server; laufende Anfragen werden noch abgeschlossen.
+     */
+    public void stop() {
+        if (http == null) return;
+        http.stop(1);
+        sweeper.shutdownNow();
+        workers.close();
+        http = null;
+    }
+
+    /**
+     * @return Der tatsächlich belegte Port.
+     */
+    public int port() {
+        return http.getAddress().getPort();
+    }
+
+    /**
+     * @return Anzahl der gerade laufenden Runden.
+     */
+    public int activeSessions() {
+        return sessions.size();
+    }
+
+    // ==========================================
+    //              ROUTING
+    // ==========================================
+
+    private void handle(HttpExchange ex) throws IOException {
+        try (ex) {
+            int status = 200;
+            Object body;
+            try {
+                body = route(ex);
+                if (body == null) {
+                    status = 404;
+                    body = Map.of("error", "Unbekannte Anfrage");
+                }
+            } catch (IllegalArgumentException e) {
+                status = 400;
+                body = Map.of("error", String.valueOf(e.getMessage()));
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+                status = 500;
+                body = Map.of("error", "Interner Fehler");
+            }
+            send(ex, status, body);
+        }
+    }
+
+    private Object route(HttpExchange ex) {
+        String[] path = ex.getRequestURI().getPath().split("/");
+        Map<String, String> query = query(ex.getRequestURI().getRawQuery());
+        boolean post = ex.getRequestMethod().equals("POST");
+        if (path.length == 2 && path[1].equals("sessions") && post) {
+            return create(query.getOrDefault("player", "Gast"), query.getOrDefault("mode", "classic"));
+        }
+        if (path.length >= 3 && path.length <= 4 && path[1].equals("sessions")) {
+            PlayerSession s = sessions.get(Long.parseLong(path[2]));
+            return s == null ? null : play(s, path.length == 4 ? path[3] : "", query);
+        }
+        if (path.length == 2 && path[1].equals("highscores")) {
+            return leaderboard.get().top(Integer.parseInt(query.getOrDefault("top", "10")));
+        }
+        if (path.length == 2 && path[1].equals("stats")) {
+            return Map.of("activeSessions", sessions.size(), "questions", questions.size());
+        }
+        return null;
+    }
+
+    private Object create(String player, String mode) {
+        PlayerSession s = new PlayerSession(nextId.getAndIncrement(), player, modeOf(mode));
+        s.game.start(new QuestionSampler(ThreadLocalRandom.current()).sample(questions, QUESTIONS_PER_ROUND));
+        s.askedAt = s.lastSeen = System.nanoTime();
+        if (s.game.state() == GameSession.State.FINISHED) {
+            throw new IllegalArgumentException("Keine Fragen vorhanden");
+        }
+        sessions.put(s.id, s);
+        return view(s, -1, -1);
+    }
+
+    // Locale.ROOT: unter türkischer Locale würde aus "timed" sonst "TİMED"
+    private static GameSession.Mode modeOf(String mode) {
+        try {
+            return GameSession.Mode.valueOf(mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unbekannter Modus: " + mode);
+        }
+    }
+
+    private Object play(PlayerSession s, String action, Map<String, String> query) {
+        s.lock.lock();
+        try {
+            long now = System.nanoTime();
+            s.lastSeen = now;
+            GameSession game = s.game;
+            switch (action) {
+                case "" -> {
+                    return view(s, -1, -1);
+                }
+                case "joker" -> {
+                    return Map.of("hidden", game.use5050());
+                }
+                case "skip" -> {
+                    if (game.isAcceptingAnswers() && !game.skip()) finish(s);
+                    s.askedAt = now;
+                    return view(s, -1, -1);
+                }
+                case "answer" -> {
+                    if (!game.isAcceptingAnswers()) {
+                        throw new IllegalArgumentException("Runde ist beendet");
+                    }
+                    int correct = game.current().getCorrectIndex();
+                    long left = TimeUnit.SECONDS.toNanos(SECONDS_PER_QUESTION) - (now - s.askedAt);
+                    int points;
+                    if (game.mode() == GameSession.Mode.TIMED && left <= 0) {
+                        game.timeOut(); // Zeitmodus: zu spät geantwortet
+                        points = 0;
+                    } else {
+                        int choice = Integer.parseInt(query.getOrDefault("choice", "-1"));
+                        points = game.answer(choice, (int) TimeUnit.NANOSECONDS.toSeconds(Math.max(0, left)));
+                    }
+                    if (!game.next()) finish(s);
+                    s.askedAt = now;
+                    return view(s, points, correct);
+                }
+                default -> {
+                    return null;
+                }
+            }
+        } finally {
+            s.lock.unlock();
+        }
+    }
+
+    private void finish(PlayerSession s) {
+        if (sessions.remove(s.id) != null) {
+            results.accept(s.player, s.game.score());
+        }
+    }
+
+    private void dropIdleSessions() {
+        long now = System.nanoTime();
+        sessions.values().removeIf(s -> now - s.lastSeen > IDLE_TIMEOUT_NANOS);
+    }
+
+    // ==========================================
+    //              ANTWORTEN
+    // ==========================================
+
+    /** Stand einer Runde; die richtige Antwort wird erst nach dem Antworten verraten. */
+    record SessionView(long session, int index, int size, int score, boolean finished,
+                       String question, String[] options, Integer points, Integer correctIndex) {
+    }
+
+    private static SessionView view(PlayerSession s, int points, int correct) {
+        GameSession g = s.game;
+        boolean finished = g.state() == GameSession.State.FINISHED;
+        Question q = finished ? null : g.current();
+        return new SessionView(s.id, g.index(), g.size(), g.score(), finished,
+                q == null ? null : q.getText(), q == null ? null : q.getOptions(),
+                points < 0 ? null : points, correct < 0 ? null : correct);
+    }
+
+    private void send(HttpExchange ex, int status, Object body) throws IOException {
+        byte[] bytes = gson.toJson(body).getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        ex.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> query(String raw) {
+        Map<String, String> map = new HashMap<>();
+        if (raw == null || raw.isEmpty()) return map;
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            map.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return map;
+    }
+}
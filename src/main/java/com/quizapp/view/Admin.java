@@ -1,15 +1,23 @@
 package com.quizapp.view;
 
+import com.quizapp.data.AsyncDataManager;
 import com.quizapp.data.DataManager;
+import com.quizapp.metrics.LatencyHistogram;
+import com.quizapp.metrics.Metrics;
 import com.quizapp.model.Question;
 import com.quizapp.view.components.PrimaryButton;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import javax.swing.text.JTextComponent;
 import java.awt.*;
+import java.awt.event.ActionEvent;
 import java.awt.event.FocusAdapter;
 import java.awt.event.FocusEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -23,9 +31,11 @@ import java.util.List;
  * <li>Alle vorhandenen Fragen in einer Liste einsehen (Read)</li>
  * <li>Bestehende Fragen bearbeiten (Update)</li>
  * <li>Fragen löschen (Delete)</li>
+ * <li>Viele Fragen auf einmal aus einer NDJSON- oder CSV-Datei importieren</li>
  * </ul>
  * <p>
- * Die Klasse kommuniziert direkt mit dem {@link DataManager}, um Änderungen persistent zu speichern.
+ * Die Klasse kommuniziert über den {@link AsyncDataManager} mit dem {@link DataManager}, um Änderungen
+ * persistent zu speichern, ohne den Event Dispatch Thread zu blockieren.
  * </p>
  *
  * @author Istiqlal Momand
@@ -37,14 +47,23 @@ public class Admin {
     private final JPanel mainPanel;
     private final Runnable onBack;
 
+    private static final LatencyHistogram REFRESH = Metrics.histogram("quizapp_view_refresh_seconds",
+            "Dauer vom Anstoßen bis zur fertigen Anzeige auf dem EDT", "view", "admin");
+
+    private static final int MAX_IMPORT_ERRORS = 20; // mehr Zeilen passen nicht sinnvoll in den Dialog
+
     private static final Color BG_COLOR = new Color(250, 251, 252);
     private static final Color TEXT_DARK = new Color(33, 37, 41);
 
     private JTextArea questionArea;
     private JTextField ansA, ansB, ansC, ansD;
     private JButton saveButton;
-    private JPanel listBody;
-    private int editingIndex = -1;
+    private final DefaultListModel<Question> listModel = new DefaultListModel<>();
+    private final QuestionCellRenderer cellRenderer = new QuestionCellRenderer();
+    private JList<Question> questionList;
+    private JLabel listStatus;
+    private long editingId = 0;   // ID der bearbeiteten Frage, 0 = neue Frage
+    private int editingRow = -1;  // Zeile in der Liste (nur als Hinweis, siehe rowOf)
 
     /**
      * Erstellt die Administrator-Oberfläche und initialisiert das Layout.
@@ -164,18 +183,70 @@ public class Admin {
         listCard.setAlignmentX(Component.CENTER_ALIGNMENT);
         listCard.setMaximumSize(new Dimension(1100, 500));
 
+        JPanel listHeader = new JPanel(new BorderLayout());
+        listHeader.setOpaque(false);
+        listHeader.setBorder(new EmptyBorder(0, 0, 15, 0));
+
         JLabel listTitle = new JLabel("Vorhandene Fragen");
         listTitle.setFont(new Font("Serif", Font.BOLD, 26));
         listTitle.setForeground(TEXT_DARK);
-        listCard.add(listTitle, BorderLayout.NORTH);
-
-        listBody = new JPanel();
-        listBody.setLayout(new BoxLayout(listBody, BoxLayout.Y_AXIS));
-        listBody.setOpaque(false);
-        listBody.setBorder(new EmptyBorder(15, 0, 0, 0));
+        listHeader.add(listTitle, BorderLayout.WEST);
+
+        listStatus = new JLabel();
+        listStatus.setFont(new Font("SansSerif", Font.PLAIN, 14));
+        listStatus.setForeground(Color.GRAY);
+        JButton importBtn = new JButton("Importieren...");
+        importBtn.setToolTipText("Fragen aus einer NDJSON- oder CSV-Datei übernehmen");
+        importBtn.addActionListener(e -> importQuestions());
+
+        JPanel listActions = new JPanel(new FlowLayout(FlowLayout.RIGHT, 15, 0));
+        listActions.setOpaque(false);
+        listActions.add(listStatus);
+        listActions.add(importBtn);
+        listHeader.add(listActions, BorderLayout.EAST);
+        listCard.add(listHeader, BorderLayout.NORTH);
+
+        // Virtualisierte Liste: ein gemeinsamer Renderer zeichnet nur die sichtbaren Zeilen
+        questionList = new JList<>(listModel);
+        questionList.setCellRenderer(cellRenderer);
+        questionList.setFixedCellHeight(QuestionCellRenderer.ROW_HEIGHT);
+        questionList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        questionList.setOpaque(false);
+        ToolTipManager.sharedInstance().registerComponent(questionList); // Tooltips der Zeilen-Buttons
+        questionList.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int index = questionList.locationToIndex(e.getPoint());
+                if (index < 0) return;
+                Rectangle cell = questionList.getCellBounds(index, index);
+                switch (cellRenderer.hitTest(cell, e.getPoint())) {
+                    case QuestionCellRenderer.EDIT -> editQuestion(index, listModel.get(index));
+                    case QuestionCellRenderer.DELETE -> deleteQuestion(index);
+                    default -> { }
+                }
+            }
+        });
+        questionList.getInputMap().put(KeyStroke.getKeyStroke(KeyEvent.VK_ENTER, 0), "editQuestion");
+        questionList.getActionMap().put("editQuestion", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                int index = questionList.getSelectedIndex();
+                if (index >= 0) editQuestion(index, listModel.get(index));
+            }
+        });
+        questionList.getInputMap().put(KeyStroke.getKeyStroke(KeyEvent.VK_DELETE, 0), "deleteQuestion");
+        questionList.getActionMap().put("deleteQuestion", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                int index = questionList.getSelectedIndex();
+                if (index >= 0) deleteQuestion(index);
+            }
+        });
 
-        JScrollPane innerScroll = new JScrollPane(listBody);
+        JScrollPane innerScroll = new JScrollPane(questionList);
         innerScroll.setBorder(null);
+        innerScroll.setOpaque(false);
+        innerScroll.getViewport().setOpaque(false);
         innerScroll.getVerticalScrollBar().setUnitIncrement(16);
 
         listCard.add(innerScroll, BorderLayout.CENTER);
@@ -203,19 +274,29 @@ public class Admin {
         String[] options = { ansA.getText().trim(), ansB.getText().trim(), ansC.getText().trim(), ansD.getText().trim() };
         Question newQ = new Question(qText, options, 0);
 
-        if (editingIndex == -1) {
-            DataManager.saveQuestion(newQ);
+        // Nach dem Speichern wird nur die betroffene Zeile im Listenmodell geändert
+        if (editingId == 0) {
+            AsyncDataManager.saveQuestion(newQ).thenAcceptAsync(saved -> {
+                listModel.addElement(saved);
+                updateListStatus();
+            }, SwingUtilities::invokeLater);
         } else {
-            DataManager.updateQuestion(editingIndex, newQ);
-            JOptionPane.showMessageDialog(mainPanel, "Frage aktualisiert!");
+            long id = editingId;
+            int hint = editingRow;
+            AsyncDataManager.updateQuestion(id, newQ).thenAcceptAsync(updated -> {
+                int row = rowOf(id, hint);
+                if (updated && row >= 0) listModel.set(row, newQ.withId(id));
+                JOptionPane.showMessageDialog(mainPanel,
+                        updated ? "Frage aktualisiert!" : "Die Frage wurde inzwischen gelöscht.");
+            }, SwingUtilities::invokeLater);
         }
 
         resetForm();
-        refreshQuestionList();
     }
 
-    private void editQuestion(int index, Question q) {
-        this.editingIndex = index;
+    private void editQuestion(int row, Question q) {
+        this.editingId = q.getId();
+        this.editingRow = row;
         saveButton.setText("Aktualisieren");
         saveButton.setBackground(new Color(13, 110, 253));
 
@@ -239,19 +320,60 @@ public class Admin {
         ((JScrollPane) mainPanel.getComponent(0)).getVerticalScrollBar().setValue(0);
     }
 
-    private void deleteQuestion(int index) {
+    private void importQuestions() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setFileFilter(new FileNameExtensionFilter("Fragen (NDJSON, CSV)", "ndjson", "jsonl", "csv"));
+        if (chooser.showOpenDialog(mainPanel) != JFileChooser.APPROVE_OPTION) return;
+
+        listStatus.setText("Importiere...");
+        AsyncDataManager.importQuestions(chooser.getSelectedFile().toPath()).thenAcceptAsync(result -> {
+            if (result.isValid()) {
+                JOptionPane.showMessageDialog(mainPanel, result.questions().size() + " Fragen importiert.");
+                refreshQuestionList();
+                return;
+            }
+            updateListStatus();
+            StringBuilder msg = new StringBuilder("Import abgebrochen, es wurde nichts gespeichert.\n\n");
+            result.errors().stream().limit(MAX_IMPORT_ERRORS).forEach(err -> msg.append(err).append('\n'));
+            if (result.errors().size() > MAX_IMPORT_ERRORS) {
+                msg.append("... und ").append(result.errors().size() - MAX_IMPORT_ERRORS).append(" weitere Fehler");
+            }
+            JOptionPane.showMessageDialog(mainPanel, msg.toString(), "Import fehlgeschlagen", JOptionPane.ERROR_MESSAGE);
+        }, SwingUtilities::invokeLater);
+    }
+
+    private void deleteQuestion(int row) {
         int confirm = JOptionPane.showConfirmDialog(mainPanel,
                 "Möchten Sie diese Frage wirklich löschen?", "Löschen bestätigen", JOptionPane.YES_NO_OPTION);
 
         if (confirm == JOptionPane.YES_OPTION) {
-            DataManager.deleteQuestion(index);
-            if (editingIndex == index) resetForm();
-            refreshQuestionList();
+            long id = listModel.get(row).getId();
+            if (editingId == id) resetForm();
+            AsyncDataManager.deleteQuestion(id).thenAcceptAsync(removed -> {
+                int current = rowOf(id, row);
+                if (current >= 0) listModel.remove(current);
+                updateListStatus();
+            }, SwingUtilities::invokeLater);
+        }
+    }
+
+    /**
+     * Sucht die Zeile einer Frage über ihre ID. Meist steht sie noch an der gemerkten
+     * Zeile; nur wenn sich die Liste inzwischen verschoben hat, wird gesucht.
+     */
+    private int rowOf(long id, int hint) {
+        if (hint >= 0 && hint < listModel.size() && listModel.get(hint).getId() == id) {
+            return hint;
         }
+        for (int i = 0; i < listModel.size(); i++) {
+            if (listModel.get(i).getId() == id) return i;
+        }
+        return -1;
     }
 
     private void resetForm() {
-        editingIndex = -1;
+        editingId = 0;
+        editingRow = -1;
         saveButton.setText("Speichern");
         saveButton.setBackground(new Color(25, 135, 84));
 
@@ -263,52 +385,24 @@ public class Admin {
     }
 
     private void refreshQuestionList() {
-        listBody.removeAll();
-        List<Question> all = DataManager.loadQuestions();
-
-        if (all.isEmpty()) {
-            listBody.add(new JLabel("Keine Fragen gefunden."));
-        } else {
-            for (int i = 0; i < all.size(); i++) {
-                listBody.add(createListRow(i, all.get(i)));
-                listBody.add(Box.createVerticalStrut(10));
-            }
-        }
-        listBody.revalidate();
-        listBody.repaint();
+        listStatus.setText("Lade Fragen...");
+
+        // Laden im Hintergrund, Befüllen des Modells danach auf dem EDT
+        long start = System.nanoTime();
+        AsyncDataManager.loadQuestions().thenAcceptAsync(all -> {
+            showQuestions(all);
+            REFRESH.recordSince(start);
+        }, SwingUtilities::invokeLater);
     }
 
-    private JPanel createListRow(int index, Question q) {
-        JPanel row = new JPanel(new BorderLayout());
-        row.setBackground(Color.WHITE);
-        row.setBorder(BorderFactory.createCompoundBorder(
-                BorderFactory.createLineBorder(new Color(230, 230, 230)),
-                new EmptyBorder(15, 15, 15, 15)
-        ));
-        row.setMaximumSize(new Dimension(Integer.MAX_VALUE, 80));
-
-        JLabel lbl = new JLabel("<html><b>" + (index + 1) + ".</b> " + q.getText() + "</html>");
-        lbl.setFont(new Font("SansSerif", Font.PLAIN, 16));
-        lbl.setForeground(TEXT_DARK);
-
-        JPanel actions = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
-        actions.setOpaque(false);
-
-        JButton edit = new JButton("✏️");
-        edit.setToolTipText("Bearbeiten");
-        edit.addActionListener(e -> editQuestion(index, q));
-
-        JButton delete = new JButton("🗑️");
-        delete.setToolTipText("Löschen");
-        delete.setForeground(Color.RED);
-        delete.addActionListener(e -> deleteQuestion(index));
-
-        actions.add(edit);
-        actions.add(delete);
+    private void showQuestions(List<Question> all) {
+        listModel.clear();
+        listModel.addAll(all); // ein einziges Event für alle Zeilen
+        updateListStatus();
+    }
 
-        row.add(lbl, BorderLayout.CENTER);
-        row.add(actions, BorderLayout.EAST);
-        return row;
+    private void updateListStatus() {
+        listStatus.setText(listModel.isEmpty() ? "Keine Fragen gefunden." : listModel.size() + " Fragen");
     }
 
     private JPanel createWhiteCard() {
@@ -0,0 +1,111 @@
+package com.quizapp.view;
+
+import java.awt.*;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Misst, wie viel Zeit der Event Dispatch Thread mit Arbeit verbringt.
+ * <p>
+ * Der Zähler wird als {@link EventQueue} vor die System-Warteschlange geschoben und
+ * misst die Zeit, in der der EDT in {@link #getNextEvent()} auf das nächste Ereignis
+ * wartet. Alles andere ist Arbeit ("busy"). So zählen auch Ereignisse korrekt, die
+ * innerhalb eines modalen Dialogs verarbeitet werden, während der Dialog selbst nicht
+ * als Last erscheint.
+ * </p>
+ * <p>
+ * Aktiviert wird die Messung in der Anwendung mit {@code -Dquizapp.edtBusy=true}; die
+ * Auslastung wird dann alle fünf Sekunden auf der Konsole ausgegeben.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class EdtBusyMeter extends EventQueue {
+
+    private final long start = System.nanoTime();
+    private final AtomicLong idle = new AtomicLong();
+    private final AtomicLong events = new AtomicLong();
+    private volatile long waitingSince = -1;
+
+    private EdtBusyMeter() {
+    }
+
+    /**
+     * Installiert den Zähler vor der System-Warteschlange.
+     *
+     * @return Der installierte Zähler.
+     */
+    public static EdtBusyMeter install() {
+        EdtBusyMeter meter = new EdtBusyMeter();
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(meter);
+        return meter;
+    }
+
+    @Override
+    public AWTEvent getNextEvent() throws InterruptedException {
+        long t0 = System.nanoTime();
+        waitingSince = t0;
+        try {
+            return super.getNextEvent();
+        } finally {
+            idle.addAndGet(System.nanoTime() - t0);
+            waitingSince = -1;
+        }
+    }
+
+    @Override
+    protected void dispatchEvent(AWTEvent event) {
+        events.incrementAndGet();
+        super.dispatchEvent(event);
+    }
+
+    /**
+     * Gibt die bisherige Arbeitszeit des EDT seit der Installation zurück.
+     *
+     * @return Arbeitszeit in Nanosekunden.
+     */
+    public long busyNanos() {
+        long since = waitingSince;
+        long now = System.nanoTime();
+        long busy = now - start - idle.get() - (since < 0 ? 0 : now - since);
+        return Math.max(0, busy);
+    }
+
+    /**
+     * Gibt die Anzahl der verarbeiteten Ereignisse seit der Installation zurück.
+     *
+     * @return Anzahl der Ereignisse.
+     */
+    public long events() {
+        return events.get();
+    }
+
+    /**
+     * Gibt die Auslastung regelmäßig auf der Konsole aus (Daemon-Thread).
+     *
+     * @param periodSeconds Abstand der Ausgaben in Sekunden.
+     */
+    public void reportEvery(long periodSeconds) {
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "quizapp-edt-meter");
+            t.setDaemon(true);
+            return t;
+        });
+        long[] last = {System.nanoTime(), busyNanos(), events()};
+        reporter.scheduleAtFixedRate(() -> {
+            long now = System.nanoTime();
+            long busy = busyNanos();
+            long count = events();
+            System.out.printf(Locale.GERMANY, "EDT belegt: %.1f %% (%d Events)%n",
+                    100.0 * (busy - last[1]) / (now - last[0]), count - last[2]);
+            last[0] = now;
+            last[1] = busy;
+            last[2] = count;
+        }, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+}
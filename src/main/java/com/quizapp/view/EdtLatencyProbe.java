@@ -0,0 +1,62 @@
+package com.quizapp.view;
+
+import com.quizapp.metrics.LatencyHistogram;
+import com.quizapp.metrics.Metrics;
+
+import javax.swing.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misst, wie lange eine Aufgabe in der Warteschlange des Event Dispatch Thread wartet.
+ * <p>
+ * Ein Daemon-Thread stellt in festen Abständen eine leere Aufgabe per
+ * {@link SwingUtilities#invokeLater} ein; die Zeit bis zu ihrer Ausführung ist genau die
+ * Verzögerung, die auch ein Klick oder ein Repaint in diesem Moment erlebt hätte. Ein
+ * hängender EDT (z.B. durch Datei-I/O) zeigt sich so in den hohen Perzentilen von
+ * {@code quizapp_edt_latency_seconds}. Solange die vorige Probe noch wartet, wird keine
+ * weitere eingestellt.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class EdtLatencyProbe {
+
+    private static final LatencyHistogram LATENCY = Metrics.histogram("quizapp_edt_latency_seconds",
+            "Wartezeit einer Aufgabe in der EDT-Warteschlange");
+
+    private volatile boolean pending;
+
+    private EdtLatencyProbe() {
+    }
+
+    /**
+     * Startet die Messung.
+     *
+     * @param periodMillis Abstand der Proben in Millisekunden.
+     * @return Die laufende Probe.
+     */
+    public static EdtLatencyProbe start(long periodMillis) {
+        EdtLatencyProbe probe = new EdtLatencyProbe();
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "quizapp-edt-probe");
+            t.setDaemon(true);
+            return t;
+        });
+        timer.scheduleAtFixedRate(probe::post, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        return probe;
+    }
+
+    private void post() {
+        if (pending) return; // EDT hängt noch an der vorigen Probe
+        pending = true;
+        long posted = System.nanoTime();
+        SwingUtilities.invokeLater(() -> {
+            LATENCY.recordSince(posted);
+            pending = false;
+        });
+    }
+}
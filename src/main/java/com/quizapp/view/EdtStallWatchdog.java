@@ -0,0 +1,263 @@
+package com.quizapp.view;
+
+import com.quizapp.metrics.Counter;
+import com.quizapp.metrics.LatencyHistogram;
+import com.quizapp.metrics.Metrics;
+
+import java.awt.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Wachhund, der Hänger des Event Dispatch Thread erkennt und festhält, woran er hing.
+ * <p>
+ * Ein Daemon-Thread stellt regelmäßig einen Herzschlag per {@link EventQueue#invokeLater}
+ * ein. Wird er nicht innerhalb der Schwelle abgearbeitet, liest der Wachhund den Stack des
+ * EDT aus – einmal beim Überschreiten der Schwelle und danach je Schwellen-Intervall erneut
+ * (höchstens {@value #MAX_SAMPLES} Proben). Sobald der Herzschlag durchkommt, wird der Hänger
+ * mit Dauer und Stacks als {@link Stall} gemeldet und in {@code quizapp_edt_stall_seconds}
+ * erfasst. Als Ursache gilt der oberste Frame aus {@code com.quizapp} (z.B. ein
+ * {@code DataManager}-Aufruf aus {@code Admin.refreshQuestionList}); steckt der EDT nur in
+ * Swing-Code (Layout, Zeichnen), der oberste Frame überhaupt.
+ * </p>
+ * <p>
+ * In der Anwendung aktiviert {@code -Dquizapp.edtWatchdog=250} den Wachhund mit 250 ms
+ * Schwelle. Jeder Hänger wird an {@code edt-stalls.log} angehängt, beim Beenden folgt eine
+ * Zusammenfassung mit den häufigsten Ursachen ({@link #report()}).
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class EdtStallWatchdog {
+
+    /** Höchstzahl der Stack-Proben pro Hänger. */
+    public static final int MAX_SAMPLES = 8;
+
+    /** Datei, an die {@link #startFromSystemProperties()} die Hänger anhängt. */
+    public static final Path LOG_FILE = Path.of("edt-stalls.log");
+
+    private static final int MAX_KEPT = 1000;
+
+    private static final LatencyHistogram STALL_TIME = Metrics.histogram("quizapp_edt_stall_seconds",
+            "Dauer erkannter EDT-Hänger oberhalb der Schwelle");
+    private static final Counter STALLS = Metrics.counter("quizapp_edt_stalls_total", "Erkannte EDT-Hänger");
+
+    /**
+     * Ein erkannter Hänger.
+     *
+     * @param at            Zeitpunkt, an dem der Herzschlag eingestellt wurde.
+     * @param durationNanos Zeit bis zur Abarbeitung des Herzschlags.
+     * @param samples       Stack-Proben des EDT während des Hängers (älteste zuerst, evtl. leer).
+     */
+    public record Stall(LocalDateTime at, long durationNanos, List<StackTraceElement[]> samples) {
+
+        /**
+         * @return Der vermutlich blockierende Frame (siehe Klassenbeschreibung) oder {@code "unbekannt"}.
+         */
+        public String culprit() {
+            if (samples.isEmpty() || samples.get(0).length == 0) return "unbekannt";
+            StackTraceElement[] stack = samples.get(0);
+            for (StackTraceElement frame : stack) {
+                if (frame.getClassName().startsWith("com.quizapp.")) {
+                    return frame.getClassName() + "." + frame.getMethodName();
+                }
+            }
+            return stack[0].getClassName() + "." + stack[0].getMethodName();
+        }
+
+        /**
+         * @return Mehrzeiliger Eintrag für das Log: Kopfzeile, erste Probe vollständig, von
+         *         den weiteren Proben je der oberste Frame.
+         */
+        public String format() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(at.truncatedTo(ChronoUnit.MILLIS)).append(" EDT blockiert ")
+                    .append(TimeUnit.NANOSECONDS.toMillis(durationNanos)).append(" ms, Ursache: ")
+                    .append(culprit()).append('\n');
+            for (int i = 0; i < samples.size(); i++) {
+                StackTraceElement[] stack = samples.get(i);
+                if (i == 0) {
+                    for (StackTraceElement frame : stack) sb.append("    at ").append(frame).append('\n');
+                } else if (stack.length > 0) {
+                    sb.append("  Probe ").append(i + 1).append(": ").append(stack[0]).append('\n');
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    private final long thresholdNanos;
+    private final long periodNanos;
+    private final Consumer<Stall> onStall;
+    private final Deque<Stall> stalls = new ArrayDeque<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile Thread edt;
+
+    private EdtStallWatchdog(long thresholdMillis, Consumer<Stall> onStall) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.periodNanos = Math.min(thresholdNanos, TimeUnit.MILLISECONDS.toNanos(100));
+        this.onStall = onStall;
+        this.thread = new Thread(this::watch, "quizapp-edt-watchdog");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Startet einen Wachhund.
+     *
+     * @param thresholdMillis Ab dieser Wartezeit eines Herzschlags gilt der EDT als hängend.
+     * @param onStall         Wird für jeden Hänger auf dem Wachhund-Thread aufgerufen.
+     * @return Der laufende Wachhund.
+     */
+    public static EdtStallWatchdog start(long thresholdMillis, Consumer<Stall> onStall) {
+        EdtStallWatchdog watchdog = new EdtStallWatchdog(thresholdMillis, onStall);
+        watchdog.thread.start();
+        return watchdog;
+    }
+
+    /**
+     * Startet den Wachhund gemäß {@code -Dquizapp.edtWatchdog=<ms>}, der jeden Hänger auf
+     * der Konsole meldet und an {@link #LOG_FILE} anhängt.
+     *
+     * @return Der Wachhund oder {@code null}, wenn die Eigenschaft nicht gesetzt ist.
+     */
+    public static EdtStallWatchdog startFromSystemProperties() {
+        Long threshold = Long.getLong("quizapp.edtWatchdog");
+        if (threshold == null) return null;
+        EdtStallWatchdog watchdog = start(threshold, stall -> {
+            System.err.println("EDT blockiert " + TimeUnit.NANOSECONDS.toMillis(stall.durationNanos())
+                    + " ms: " + stall.culprit());
+            append(stall.format());
+        });
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> append(watchdog.report()), "quizapp-edt-report"));
+        return watchdog;
+    }
+
+    private static void append(String text) {
+        try {
+            Files.writeString(LOG_FILE, text + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Beendet den Wachhund.
+     */
+    public void stop() {
+        running = false;
+        thread.interrupt();
+    }
+
+    /**
+     * @return Die bisher erkannten Hänger (höchstens die letzten 1000), ältester zuerst.
+     */
+    public synchronized List<Stall> stalls() {
+        return new ArrayList<>(stalls);
+    }
+
+    /**
+     * Fasst die erkannten Hänger zusammen: Anzahl, Dauer (Median, Maximum) und die
+     * häufigsten Ursachen.
+     *
+     * @return Mehrzeiliger Bericht.
+     */
+    public synchronized String report() {
+        if (stalls.isEmpty()) {
+            return "EDT-Wachhund: keine Hänger über " + TimeUnit.NANOSECONDS.toMillis(thresholdNanos) + " ms\n";
+        }
+        long[] durations = stalls.stream().mapToLong(Stall::durationNanos).sorted().toArray();
+        Map<String, long[]> byCulprit = new LinkedHashMap<>();
+        for (Stall s : stalls) {
+            long[] agg = byCulprit.computeIfAbsent(s.culprit(), k -> new long[2]);
+            agg[0]++;
+            agg[1] += s.durationNanos();
+        }
+        StringBuilder sb = new StringBuilder(String.format(Locale.GERMANY,
+                "EDT-Wachhund: %d Hänger über %d ms (Median %d ms, Maximum %d ms)%n",
+                durations.length, TimeUnit.NANOSECONDS.toMillis(thresholdNanos),
+                TimeUnit.NANOSECONDS.toMillis(durations[durations.length / 2]),
+                TimeUnit.NANOSECONDS.toMillis(durations[durations.length - 1])));
+        sb.append("Ursachen nach Gesamtdauer:\n");
+        byCulprit.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[1]).reversed())
+                .forEach(e -> sb.append(String.format(Locale.GERMANY, "  %6d ms  %3dx  %s%n",
+                        TimeUnit.NANOSECONDS.toMillis(e.getValue()[1]), e.getValue()[0], e.getKey())));
+        return sb.toString();
+    }
+
+    private void watch() {
+        try {
+            while (running) {
+                beat();
+                TimeUnit.NANOSECONDS.sleep(periodNanos);
+            }
+        } catch (InterruptedException e) {
+            // gestoppt
+        }
+    }
+
+    private void beat() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        long[] processed = new long[1];
+        LocalDateTime at = LocalDateTime.now();
+        long posted = System.nanoTime();
+        EventQueue.invokeLater(() -> {
+            edt = Thread.currentThread();
+            processed[0] = System.nanoTime();
+            done.countDown();
+        });
+
+        List<StackTraceElement[]> samples = new ArrayList<>();
+        long nextSample = posted + thresholdNanos;
+        while (!done.await(Math.max(1, nextSample - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+            if (!running) return;
+            Thread t = edt != null ? edt : findEdt();
+            if (t != null && samples.size() < MAX_SAMPLES) {
+                samples.add(t.getStackTrace());
+            }
+            nextSample += thresholdNanos;
+        }
+        long duration = processed[0] - posted;
+        if (duration >= thresholdNanos) {
+            recordStall(new Stall(at, duration, samples));
+        }
+    }
+
+    private void recordStall(Stall stall) {
+        STALL_TIME.record(stall.durationNanos());
+        STALLS.inc();
+        synchronized (this) {
+            if (stalls.size() == MAX_KEPT) stalls.removeFirst();
+            stalls.addLast(stall);
+        }
+        onStall.accept(stall);
+    }
+
+    // Vor dem ersten Herzschlag ist der EDT noch unbekannt
+    private static Thread findEdt() {
+        for (Thread t : Thread.getAllStackTraces().keySet()) {
+            if (t.getName().startsWith("AWT-EventQueue")) return t;
+        }
+        return null;
+    }
+}
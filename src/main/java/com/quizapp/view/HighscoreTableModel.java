@@ -0,0 +1,92 @@
+package com.quizapp.view;
+
+import com.quizapp.data.Leaderboard;
+import com.quizapp.model.HighscoreEntry;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Virtualisiertes Tabellenmodell für die Bestenliste.
+ * <p>
+ * Statt für jeden Eintrag eine Zeile mit {@code addRow} anzulegen (ein Event und ein
+ * {@code Object[]} pro Zeile), liest das Modell direkt aus der unveränderlichen
+ * {@link Leaderboard}. Die Zellen werden erst in {@link #getValueAt(int, int)} erzeugt,
+ * wenn die Tabelle die Zeile tatsächlich zeichnet. Einträge werden seitenweise
+ * ({@value #PAGE_SIZE} Zeilen) aus der Rangliste geholt und in einem kleinen LRU-Cache
+ * gehalten, damit beim Scrollen nicht jede Zelle einzeln im Baum gesucht werden muss.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class HighscoreTableModel extends AbstractTableModel {
+
+    static final int PAGE_SIZE = 100;
+    private static final int MAX_CACHED_PAGES = 8;
+    private static final String[] COLUMNS = {"RANG", "SPIELER", "PUNKTE", "DATUM"};
+
+    private Leaderboard board = Leaderboard.empty();
+
+    private final Map<Integer, List<HighscoreEntry>> pages = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, List<HighscoreEntry>> eldest) {
+            return size() > MAX_CACHED_PAGES;
+        }
+    };
+
+    /**
+     * Setzt eine neue Rangliste und benachrichtigt die Tabelle mit genau einem Event.
+     *
+     * @param board Die anzuzeigende Rangliste.
+     */
+    void setLeaderboard(Leaderboard board) {
+        this.board = board;
+        pages.clear();
+        fireTableDataChanged();
+    }
+
+    @Override
+    public int getRowCount() {
+        return board.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return column == 2 ? Integer.class : String.class;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        HighscoreEntry e = entryAt(row);
+        switch (column) {
+            case 0: return (row + 1) + ".";   // Rank format "1."
+            case 1: return e.getPlayerName();
+            case 2: return e.getScore();
+            default: return e.getDate();
+        }
+    }
+
+    private HighscoreEntry entryAt(int row) {
+        int page = row / PAGE_SIZE;
+        List<HighscoreEntry> entries = pages.get(page);
+        if (entries == null) {
+            entries = board.range(page * PAGE_SIZE, PAGE_SIZE);
+            pages.put(page, entries);
+        }
+        return entries.get(row - page * PAGE_SIZE);
+    }
+}
@@ -1,21 +1,23 @@
 package com.quizapp.view;
 
+import com.quizapp.data.AsyncDataManager;
 import com.quizapp.data.DataManager;
-import com.quizapp.model.HighscoreEntry;
+import com.quizapp.data.Leaderboard;
+import com.quizapp.metrics.LatencyHistogram;
+import com.quizapp.metrics.Metrics;
 import com.quizapp.view.components.PrimaryButton;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.table.*;
 import java.awt.*;
-import java.util.List;
 
 /**
  * Die Highscores-Klasse ist für die Anzeige der globalen Bestenliste zuständig.
  * <p>
  * Sie präsentiert die gespeicherten Spielergebnisse in einer stilisierten Tabelle ({@link JTable}).
- * Die Klasse kümmert sich um das Laden der Daten über den {@link DataManager},
- * die Sortierung der Einträge nach Punktzahl und das visuelle Styling der Tabellenzellen.
+ * Die Klasse kümmert sich um das Laden der bereits nach Punktzahl sortierten Rangliste
+ * über den {@link DataManager} und das visuelle Styling der Tabellenzellen.
  * </p>
  *
  * @author Istiqlal Momand
@@ -25,7 +27,11 @@ import java.util.List;
 public class Highscores {
     private final JPanel mainPanel;
     private final Runnable onBack;
-    private DefaultTableModel tableModel;
+    private final HighscoreTableModel tableModel;
+    private final JLabel statusLabel;
+
+    private static final LatencyHistogram REFRESH = Metrics.histogram("quizapp_view_refresh_seconds",
+            "Dauer vom Anstoßen bis zur fertigen Anzeige auf dem EDT", "view", "highscores");
 
     private static final Color BG_COLOR = new Color(250, 251, 252);
     private static final Color TEXT_DARK = new Color(33, 37, 41);
@@ -73,14 +79,17 @@ public class Highscores {
         title.setForeground(TEXT_DARK);
         topBar.add(title, BorderLayout.WEST);
 
+        // Platzhalter, solange die Daten im Hintergrund geladen werden
+        statusLabel = new JLabel("");
+        statusLabel.setFont(new Font("SansSerif", Font.PLAIN, 14));
+        statusLabel.setForeground(Color.GRAY);
+        topBar.add(statusLabel, BorderLayout.EAST);
+
         card.add(topBar, BorderLayout.NORTH);
 
         // ===== Table Setup =====
-        String[] cols = {"RANG", "SPIELER", "PUNKTE", "DATUM"};
-
-        tableModel = new DefaultTableModel(cols, 0) {
-            @Override public boolean isCellEditable(int row, int column) { return false; }
-        };
+        // Virtualisiertes Modell: Zellen werden erst beim Zeichnen aus der Rangliste gelesen
+        tableModel = new HighscoreTableModel();
 
         JTable table = new JTable(tableModel);
         table.setRowHeight(55); // Taller rows
@@ -172,32 +181,25 @@ public class Highscores {
     /**
      * Lädt die aktuellen Highscore-Daten neu und aktualisiert die Tabelle.
      * <p>
-     * Diese Methode:
+     * Die aktuelle {@link Leaderboard Rangliste} (bereits absteigend nach Punkten sortiert)
+     * wird über den {@link AsyncDataManager} im Hintergrund geholt und danach auf dem EDT an
+     * das {@link HighscoreTableModel} übergeben. Bis dahin zeigt die Seite einen Lade-Hinweis.
+     * Die Tabelle erhält genau ein Änderungs-Event; Zeilen werden erst beim Scrollen bzw.
+     * Zeichnen erzeugt, sodass auch sehr große Bestenlisten sofort angezeigt werden.
      * </p>
-     * <ol>
-     * <li>Leert das aktuelle Tabellenmodell.</li>
-     * <li>Lädt die Liste aller Einträge vom {@link DataManager}.</li>
-     * <li>Sortiert die Liste absteigend nach Punkten (Höchster Score zuerst).</li>
-     * <li>Fügt die sortierten Einträge zeilenweise der Tabelle hinzu.</li>
-     * </ol>
      */
     public void refresh() {
-        tableModel.setRowCount(0);
-        List<HighscoreEntry> entries = DataManager.loadHighscores();
-
-        // Sort: Highest score first
-        entries.sort((a, b) -> Integer.compare(b.getScore(), a.getScore()));
-
-        // Limit to Top 50 to keep it clean? (Optional, currently shows all)
-        for (int i = 0; i < entries.size(); i++) {
-            HighscoreEntry e = entries.get(i);
-            tableModel.addRow(new Object[]{
-                    (i + 1) + ".",   // Rank format "1."
-                    e.getPlayerName(),
-                    e.getScore(),
-                    e.getDate()
-            });
-        }
+        statusLabel.setText("Lade Bestenliste...");
+        long start = System.nanoTime();
+        AsyncDataManager.loadLeaderboard().whenCompleteAsync((board, error) -> {
+            if (error != null) {
+                statusLabel.setText("Bestenliste konnte nicht geladen werden.");
+                return;
+            }
+            tableModel.setLeaderboard(board);
+            statusLabel.setText("");
+            REFRESH.recordSince(start);
+        }, SwingUtilities::invokeLater);
     }
 
     /**
@@ -0,0 +1,103 @@
+package com.quizapp.view;
+
+import com.quizapp.metrics.PageSwitchEvent;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link CardLayout}-Container, dessen Seiten erst beim ersten Aufruf erzeugt werden.
+ * <p>
+ * Statt beim Start alle Views zu bauen, wird für jede Seite nur eine Fabrik registriert.
+ * Die View entsteht erst, wenn sie zum ersten Mal angezeigt oder über den von
+ * {@link #register} gelieferten {@link Supplier} angefordert wird, und wird dann als
+ * Karte hinzugefügt. Alle Methoden müssen auf dem Event Dispatch Thread aufgerufen werden.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public class LazyCards {
+
+    private final CardLayout layout = new CardLayout();
+    private final JPanel panel = new JPanel(layout);
+    private final Map<String, Supplier<?>> cards = new HashMap<>();
+
+    /**
+     * Fügt eine bereits erzeugte Seite hinzu (z.B. die Startseite).
+     *
+     * @param name      Name der Karte.
+     * @param component Die Seite.
+     */
+    public void add(String name, JComponent component) {
+        panel.add(component, name);
+        cards.put(name, () -> component);
+    }
+
+    /**
+     * Registriert eine Seite, die erst bei Bedarf erzeugt wird.
+     *
+     * @param name    Name der Karte.
+     * @param factory Erzeugt die View.
+     * @param panelOf Liefert das Panel der View, das als Karte eingefügt wird.
+     * @param <T>     Typ der View.
+     * @return Supplier, der die View beim ersten Aufruf erzeugt und danach immer dieselbe Instanz liefert.
+     */
+    public <T> Supplier<T> register(String name, Supplier<T> factory, Function<T, ? extends JComponent> panelOf) {
+        Supplier<T> lazy = new Supplier<>() {
+            private T view;
+
+            @Override
+            public T get() {
+                if (view == null) {
+                    view = factory.get();
+                    panel.add(panelOf.apply(view), name);
+                }
+                return view;
+            }
+        };
+        cards.put(name, lazy);
+        return lazy;
+    }
+
+    /**
+     * Zeigt die Karte an und erzeugt sie vorher, falls nötig. Mit {@code -Dquizapp.jfr=true}
+     * wird jeder Wechsel als {@link PageSwitchEvent} aufgezeichnet.
+     *
+     * @param name Name der Karte.
+     */
+    public void show(String name) {
+        Supplier<?> card = cards.get(name);
+        if (card == null) {
+            throw new IllegalArgumentException("Unbekannte Seite: " + name);
+        }
+        PageSwitchEvent event = PageSwitchEvent.start(name);
+        int before = panel.getComponentCount();
+        card.get();
+        layout.show(panel, name);
+        if (event != null) event.finish(panel.getComponentCount() > before);
+    }
+
+    /**
+     * Gibt den Container zurück, der in das Fenster eingefügt wird.
+     *
+     * @return Das Panel mit dem CardLayout.
+     */
+    public JPanel getPanel() {
+        return panel;
+    }
+
+    /**
+     * Gibt die Anzahl der bereits erzeugten Seiten zurück.
+     *
+     * @return Anzahl der Karten im Container.
+     */
+    public int createdCount() {
+        return panel.getComponentCount();
+    }
+}
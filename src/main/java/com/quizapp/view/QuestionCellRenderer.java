@@ -0,0 +1,119 @@
+package com.quizapp.view;
+
+import com.quizapp.model.Question;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.awt.event.MouseEvent;
+
+/**
+ * Gemeinsamer Zell-Renderer für die Fragenliste der Admin-Ansicht.
+ * <p>
+ * Statt für jede Frage ein eigenes Panel mit Label und zwei Buttons zu erzeugen, zeichnet
+ * die {@link JList} alle sichtbaren Zeilen mit dieser einen Komponente. Die Buttons
+ * "Bearbeiten" und "Löschen" werden nur gezeichnet; welcher davon angeklickt wurde,
+ * ermittelt {@link #hitTest(Rectangle, Point)} anhand der Position in der Zelle.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class QuestionCellRenderer extends JPanel implements ListCellRenderer<Question> {
+
+    /** Feste Zeilenhöhe inkl. Abstand, damit die Liste keine Zeile zur Größenberechnung rendern muss. */
+    static final int ROW_HEIGHT = 66;
+
+    /** Ergebnis von {@link #hitTest}: kein Button getroffen. */
+    static final int NONE = 0;
+    /** Ergebnis von {@link #hitTest}: Button "Bearbeiten" getroffen. */
+    static final int EDIT = 1;
+    /** Ergebnis von {@link #hitTest}: Button "Löschen" getroffen. */
+    static final int DELETE = 2;
+
+    private static final Color TEXT_DARK = new Color(33, 37, 41);
+    private static final Color SELECTED_BG = new Color(235, 242, 255);
+
+    private final JPanel row = new JPanel(new BorderLayout(8, 0));
+    private final JLabel numberLabel = new JLabel();
+    private final JLabel textLabel = new JLabel();
+    private final JPanel actions = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
+    private final JButton editButton = new JButton("✏️");
+    private final JButton deleteButton = new JButton("🗑️");
+
+    /**
+     * Erstellt den Renderer mit dem Zeilenlayout der Fragenliste.
+     */
+    QuestionCellRenderer() {
+        super(new BorderLayout());
+        setOpaque(false);
+        setBorder(new EmptyBorder(0, 0, 10, 0)); // Abstand zwischen den Zeilen
+
+        row.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(new Color(230, 230, 230)),
+                new EmptyBorder(10, 15, 10, 15)
+        ));
+
+        numberLabel.setFont(new Font("SansSerif", Font.BOLD, 16));
+        numberLabel.setForeground(TEXT_DARK);
+        textLabel.setFont(new Font("SansSerif", Font.PLAIN, 16));
+        textLabel.setForeground(TEXT_DARK);
+
+        deleteButton.setForeground(Color.RED);
+        actions.setOpaque(false);
+        actions.add(editButton);
+        actions.add(deleteButton);
+
+        row.add(numberLabel, BorderLayout.WEST);
+        row.add(textLabel, BorderLayout.CENTER);
+        row.add(actions, BorderLayout.EAST);
+        add(row, BorderLayout.CENTER);
+    }
+
+    @Override
+    public Component getListCellRendererComponent(JList<? extends Question> list, Question q, int index,
+                                                  boolean isSelected, boolean cellHasFocus) {
+        numberLabel.setText((index + 1) + ".");
+        textLabel.setText(q.getText());
+        row.setBackground(isSelected ? SELECTED_BG : Color.WHITE);
+        return this;
+    }
+
+    /**
+     * Ermittelt, welcher Button an einer Position innerhalb einer Zelle liegt.
+     *
+     * @param cell  Grenzen der Zelle in Listenkoordinaten.
+     * @param point Mausposition in Listenkoordinaten.
+     * @return {@link #EDIT}, {@link #DELETE} oder {@link #NONE}.
+     */
+    int hitTest(Rectangle cell, Point point) {
+        if (!cell.contains(point)) return NONE;
+
+        layoutFor(cell.width, cell.height);
+        Component c = SwingUtilities.getDeepestComponentAt(this, point.x - cell.x, point.y - cell.y);
+        if (c == editButton) return EDIT;
+        if (c == deleteButton) return DELETE;
+        return NONE;
+    }
+
+    /**
+     * Liefert den Tooltip des Buttons unter der Maus (wird von der {@link JList} weitergereicht).
+     */
+    @Override
+    public String getToolTipText(MouseEvent e) {
+        switch (hitTest(new Rectangle(0, 0, getWidth(), getHeight()), e.getPoint())) {
+            case EDIT: return "Bearbeiten";
+            case DELETE: return "Löschen";
+            default: return null;
+        }
+    }
+
+    // Ordnet die Kinder für die gegebene Zellgröße an, auch wenn der Renderer nicht angezeigt wird
+    private void layoutFor(int width, int height) {
+        setBounds(0, 0, width, height);
+        doLayout();
+        row.doLayout();
+        actions.doLayout();
+    }
+}
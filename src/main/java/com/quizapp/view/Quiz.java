@@ -1,6 +1,10 @@
 package com.quizapp.view;
 
-import com.quizapp.data.DataManager;
+import com.quizapp.data.AsyncDataManager;
+import com.quizapp.metrics.GamePrepareEvent;
+import com.quizapp.metrics.LatencyHistogram;
+import com.quizapp.metrics.Metrics;
+import com.quizapp.model.GameSession;
 import com.quizapp.model.Question;
 import com.quizapp.view.components.PrimaryButton;
 
@@ -10,6 +14,7 @@ import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Die Quiz-Klasse repräsentiert die eigentliche Spieloberfläche für den klassischen Modus.
@@ -21,7 +26,7 @@ import java.util.List;
  * <li>Darstellung der Fragen und Antwortmöglichkeiten.</li>
  * <li>Validierung der Benutzereingaben mit visuellem Feedback (Grün/Rot).</li>
  * <li>Verwaltung der Joker (50:50, Überspringen).</li>
- * <li>Speicherung des Endergebnisses via {@link DataManager}.</li>
+ * <li>Speicherung des Endergebnisses via {@link AsyncDataManager} (außerhalb des EDT).</li>
  * </ul>
  *
  * @author Istiqlal Momand
@@ -35,6 +40,9 @@ public class Quiz {
 
     private String currentUsername = "Gast";
 
+    private static final LatencyHistogram REFRESH = Metrics.histogram("quizapp_view_refresh_seconds",
+            "Dauer vom Anstoßen bis zur fertigen Anzeige auf dem EDT", "view", "quiz");
+
     private static final Color HEADER_BG = new Color(13, 44, 94);
     private static final Color BG_COLOR = new Color(250, 251, 252);
     private static final Color TEXT_DARK = new Color(33, 37, 41);
@@ -51,11 +59,12 @@ public class Quiz {
     private static final Color SKIP_RING_TEAL = new Color(180, 240, 230);
     private static final Color SKIP_TEXT_TEAL = new Color(0, 150, 130);
 
-    private List<Question> questions;
-    private int questionIndex = 0;
-    private int score = 0;
-    private boolean used5050 = false;
-    private boolean acceptingAnswers = true;
+    private static final int QUESTIONS_PER_ROUND = 10;
+    private static final long FEEDBACK_NANOS = TimeUnit.MILLISECONDS.toNanos(1500);
+
+    // Spielablauf (Position, Punkte, Joker) liegt in der Swing-unabhängigen Session
+    private final GameSession session = new GameSession(GameSession.Mode.CLASSIC);
+    private int gameId = 0;
 
     private JLabel scoreLabel;
     private JLabel questionCounterLabel;
@@ -70,9 +79,6 @@ public class Quiz {
     public Quiz(Runnable onBackToMenu) {
         this.onBackToMenu = onBackToMenu;
 
-        DataManager.ensureQuestionsExist();
-        this.questions = DataManager.loadQuestions();
-
         mainPanel = new JPanel(new BorderLayout());
         mainPanel.setBackground(BG_COLOR);
 
@@ -115,36 +121,40 @@ public class Quiz {
      */
     public void startGame(String username) {
         this.currentUsername = username;
-        this.score = 0;
-        this.questionIndex = 0;
-        this.used5050 = false;
-
-        List<Question> allQuestions = DataManager.loadQuestions();
-
-        if (allQuestions.isEmpty()) {
-            JOptionPane.showMessageDialog(mainPanel, "Keine Fragen gefunden!");
-            onBackToMenu.run();
-            return;
-        }
-
-        java.util.Collections.shuffle(allQuestions);
+        session.start(List.of()); // keine Antworten, solange die Fragen laden
+        int game = ++gameId;
+
+        questionTextLabel.setText("Lade Frage...");
+        scoreLabel.setText("0");
+        long start = System.nanoTime();
+        GamePrepareEvent prepare = GamePrepareEvent.start("classic");
+
+        // Fragen im Hintergrund auswählen, Anzeige danach auf dem EDT
+        AsyncDataManager.sampleQuestions(QUESTIONS_PER_ROUND).thenAcceptAsync(round -> {
+            if (game != gameId) return; // inzwischen wurde ein neues Spiel gestartet
+
+            if (round.isEmpty()) {
+                if (prepare != null) prepare.finish(0);
+                JOptionPane.showMessageDialog(mainPanel, "Keine Fragen gefunden!");
+                onBackToMenu.run();
+                return;
+            }
 
-        int limit = Math.min(allQuestions.size(), 10);
-        this.questions = allQuestions.subList(0, limit);
+            session.start(round);
 
-        loadQuestion(0);
+            showQuestion();
+            REFRESH.recordSince(start);
+            if (prepare != null) prepare.finish(round.size());
+        }, SwingUtilities::invokeLater);
     }
 
-    private void loadQuestion(int index) {
-        if (index >= questions.size()) return;
-        questionIndex = index;
-        Question q = questions.get(index);
+    private void showQuestion() {
+        Question q = session.current();
 
         questionTextLabel.setText("<html><center>" + q.getText() + "</center></html>");
-        questionCounterLabel.setText((index + 1) + " / " + questions.size());
-        scoreLabel.setText(String.valueOf(score));
+        questionCounterLabel.setText((session.index() + 1) + " / " + session.size());
+        scoreLabel.setText(String.valueOf(session.score()));
 
-        acceptingAnswers = true;
         for (int i = 0; i < 4; i++) {
             answerButtons[i].setText(q.getOptions()[i]);
             answerButtons[i].setVisible(true);
@@ -154,14 +164,12 @@ public class Quiz {
     }
 
     private void onAnswerClicked(int idx) {
-        if (!acceptingAnswers) return;
-        acceptingAnswers = false;
-
-        Question q = questions.get(questionIndex);
+        if (!session.isAcceptingAnswers()) return;
+        Question q = session.current();
+        session.answer(idx, 0);
 
         if (idx == q.getCorrectIndex()) {
-            score += 10;
-            scoreLabel.setText(String.valueOf(score));
+            scoreLabel.setText(String.valueOf(session.score()));
         } else {
             answerButtons[idx].setState(AnswerButton.State.WRONG);
         }
@@ -174,34 +182,48 @@ public class Quiz {
             }
         }
 
-        Timer t = new Timer(1500, e -> {
-            ((Timer)e.getSource()).stop();
-            nextQuestion();
+        int game = gameId;
+        SwingGameClock.shared().schedule(FEEDBACK_NANOS, () -> {
+            if (game == gameId) nextQuestion(); // Runde wurde inzwischen neu gestartet
         });
-        t.setRepeats(false);
-        t.start();
     }
 
     private void nextQuestion() {
-        if (questionIndex + 1 >= questions.size()) {
-            DataManager.saveHighscore(currentUsername, score);
-            JOptionPane.showMessageDialog(mainPanel,
-                    "Quiz beendet!\nPunkte: " + score + "\nGespeichert für: " + currentUsername);
-            onBackToMenu.run();
-            return;
-        }
-        loadQuestion(questionIndex + 1);
+        if (session.next()) showQuestion();
+        else finishGame();
+    }
+
+    private void skipQuestion() {
+        if (!session.isAcceptingAnswers()) return;
+        if (session.skip()) showQuestion();
+        else finishGame();
     }
 
-    private void apply5050() {
-        Question q = questions.get(questionIndex);
-        int hidden = 0;
-        for (int i = 0; i < 4 && hidden < 2; i++) {
-            if (i != q.getCorrectIndex()) {
-                answerButtons[i].setVisible(false);
-                hidden++;
+    private void finishGame() {
+        int score = session.score();
+        int game = gameId;
+        // Meldung erst, wenn der Eintrag wirklich gespeichert (oder das Speichern gescheitert) ist
+        AsyncDataManager.saveHighscore(currentUsername, score).whenCompleteAsync((v, error) -> {
+            if (game != gameId) return; // inzwischen wurde ein neues Spiel gestartet
+            if (error == null) {
+                JOptionPane.showMessageDialog(mainPanel,
+                        "Quiz beendet!\nPunkte: " + score + "\nGespeichert für: " + currentUsername);
+            } else {
+                JOptionPane.showMessageDialog(mainPanel,
+                        "Quiz beendet!\nPunkte: " + score + "\nDas Ergebnis konnte nicht gespeichert werden:\n"
+                                + AsyncDataManager.describeFailure(error),
+                        "Fehler", JOptionPane.ERROR_MESSAGE);
             }
+            onBackToMenu.run();
+        }, SwingUtilities::invokeLater);
+    }
+
+    private boolean apply5050() {
+        int hidden = session.use5050();
+        for (int i = 0; i < 4; i++) {
+            if ((hidden & (1 << i)) != 0) answerButtons[i].setVisible(false);
         }
+        return hidden != 0;
     }
 
     private JPanel buildStatsBar() {
@@ -299,9 +321,7 @@ public class Quiz {
         fifty.addMouseListener(new MouseAdapter() {
             @Override
             public void mouseClicked(MouseEvent e) {
-                if (!used5050 && acceptingAnswers) {
-                    used5050 = true;
-                    apply5050();
+                if (apply5050()) {
                     fifty.setEnabledLook(false);
                 }
             }
@@ -311,7 +331,7 @@ public class Quiz {
         skip.addMouseListener(new MouseAdapter() {
             @Override
             public void mouseClicked(MouseEvent e) {
-                if (acceptingAnswers) nextQuestion();
+                skipQuestion();
             }
         });
 
@@ -0,0 +1,65 @@
+package com.quizapp.view;
+
+import com.quizapp.model.ScheduledGameClock;
+
+import javax.swing.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link com.quizapp.model.GameClock} für die Oberfläche: ein einziger, gemeinsam genutzter
+ * {@link Timer} führt alle Countdowns und Verzögerungen auf dem Event Dispatch Thread aus.
+ * <p>
+ * Der Timer läuft nicht in einem festen Takt, sondern wird jeweils auf die nächste fällige
+ * Aufgabe gestellt und steht still, wenn nichts eingeplant ist. Die Zeitbasis ist
+ * {@link System#nanoTime()}. Alle Methoden müssen auf dem EDT aufgerufen werden.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+public final class SwingGameClock extends ScheduledGameClock {
+
+    private static final SwingGameClock SHARED = new SwingGameClock();
+
+    private final Timer timer = new Timer(0, e -> tick());
+
+    private SwingGameClock() {
+        timer.setRepeats(false);
+    }
+
+    /**
+     * Gibt die gemeinsame Uhr der Anwendung zurück.
+     *
+     * @return Die Swing-Uhr.
+     */
+    public static SwingGameClock shared() {
+        return SHARED;
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    protected void scheduled() {
+        arm();
+    }
+
+    private void tick() {
+        runDue(nanoTime());
+        arm();
+    }
+
+    private void arm() {
+        long next = nextDue();
+        if (next == Long.MAX_VALUE) {
+            timer.stop();
+            return;
+        }
+        long delayMs = TimeUnit.NANOSECONDS.toMillis(Math.max(0, next - nanoTime()) + 999_999);
+        timer.setInitialDelay((int) Math.min(Integer.MAX_VALUE, delayMs));
+        timer.restart();
+    }
+}
@@ -1,7 +1,14 @@
 package com.quizapp.view;
 
-import com.quizapp.data.DataManager;
+import com.quizapp.data.AsyncDataManager;
+import com.quizapp.metrics.GamePrepareEvent;
+import com.quizapp.metrics.LatencyHistogram;
+import com.quizapp.metrics.Metrics;
+import com.quizapp.model.Countdown;
+import com.quizapp.model.GameClock;
+import com.quizapp.model.GameSession;
 import com.quizapp.model.Question;
+import com.quizapp.view.components.CountdownBar;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -9,6 +16,7 @@ import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Die TimeMode-Klasse implementiert den zeitbasierten Spielmodus der Anwendung.
@@ -17,7 +25,7 @@ import java.util.List;
  * Diese Klasse verwaltet:
  * </p>
  * <ul>
- * <li>Den Countdown-Timer (20 Sekunden pro Frage) mit visueller Progress-Bar.</li>
+ * <li>Den Countdown (20 Sekunden pro Frage) mit visueller Progress-Bar, getaktet über eine {@link GameClock}.</li>
  * <li>Die dynamische Punktevergabe (Basis-Punkte + Bonus für verbleibende Sekunden).</li>
  * <li>Die spezifischen Joker für diesen Modus (50:50 und Frage überspringen).</li>
  * <li>Das automatische Beenden der Runde bei Zeitablauf.</li>
@@ -30,9 +38,13 @@ import java.util.List;
 public class TimeMode {
     private final JPanel mainPanel;
     private final Runnable onBack;
+    private final GameClock clock;
 
     private String currentUsername = "Gast"; // Standardwert
 
+    private static final LatencyHistogram REFRESH = Metrics.histogram("quizapp_view_refresh_seconds",
+            "Dauer vom Anstoßen bis zur fertigen Anzeige auf dem EDT", "view", "time_mode");
+
     // --- FARB-DEFINITIONEN ---
     private static final Color ERROR_BG = new Color(255, 230, 230); // Hellrot
     private static final Color ERROR_BORDER = new Color(255, 100, 100); // Rot
@@ -58,34 +70,44 @@ public class TimeMode {
     private static final Color SKIP_TEXT_TEAL = new Color(0, 150, 130);
 
     // --- SPIELZUSTAND ---
-    private List<Question> questions;
-    private int questionIndex = 0;
-    private int score = 0;
     private static final int SECONDS_PER_QUESTION = 20;
-    private boolean used5050 = false;
-    private boolean acceptingAnswers = true;
+    private static final int QUESTIONS_PER_ROUND = 10;
+    private static final long FEEDBACK_NANOS = TimeUnit.MILLISECONDS.toNanos(1500);
+    private final GameSession session = new GameSession(GameSession.Mode.TIMED);
+    private int gameId = 0;
 
     // --- UI Referenzen ---
     private JLabel pointsValue;
     private JLabel questionCounterValue;
-    private JProgressBar timerBar;
+    private CountdownBar timerBar;
     private JLabel timerSecondsLabel;
+    private int shownSeconds = -1;
     private JLabel questionLabel;
     private JPanel alertPanel;
     private final AnswerOption[] answerOptions = new AnswerOption[4];
-    private javax.swing.Timer tickTimer;
-    private long questionStartMs;
+    private Countdown countdown;
+    private GameClock.Task tickTask;
+    private GameClock.Task expiryTask;
+    private GameClock.Task transitionTask;
 
     /**
-     * Erstellt die TimeMode-Ansicht und initialisiert die UI-Komponenten.
+     * Erstellt die TimeMode-Ansicht mit der gemeinsamen {@link SwingGameClock}.
      *
      * @param onBack Callback-Funktion für die Rückkehr zum Hauptmenü.
      */
     public TimeMode(Runnable onBack) {
+        this(onBack, SwingGameClock.shared());
+    }
+
+    /**
+     * Erstellt die TimeMode-Ansicht und initialisiert die UI-Komponenten.
+     *
+     * @param onBack Callback-Funktion für die Rückkehr zum Hauptmenü.
+     * @param clock  Uhr für Countdown und Verzögerungen (in Tests z.B. eine virtuelle Uhr).
+     */
+    public TimeMode(Runnable onBack, GameClock clock) {
         this.onBack = onBack;
-        // Daten laden, aber Spiel noch NICHT starten
-        DataManager.ensureQuestionsExist();
-        this.questions = DataManager.loadQuestions();
+        this.clock = clock;
 
         mainPanel = new JPanel(new BorderLayout());
         mainPanel.setBackground(BG_COLOR);
@@ -134,27 +156,33 @@ public class TimeMode {
      */
     public void startGame(String username) {
         this.currentUsername = username;
-        this.score = 0;
-        this.questionIndex = 0;
-        this.used5050 = false;
-
-        // 1. Alle Fragen laden
-        List<Question> allQuestions = DataManager.loadQuestions();
+        session.start(List.of()); // keine Antworten, solange die Fragen laden
+        int game = ++gameId;
 
-        if (allQuestions.isEmpty()) {
-            JOptionPane.showMessageDialog(mainPanel, "Keine Fragen vorhanden!");
-            onBack.run();
-            return;
-        }
-
-        // 2. Zufälliges Mischen (Shuffle)
-        java.util.Collections.shuffle(allQuestions);
+        stopTimer();
+        questionLabel.setText("Lade Fragen...");
+        alertPanel.setVisible(false);
+        pointsValue.setText("0");
+        long start = System.nanoTime();
+        GamePrepareEvent prepare = GamePrepareEvent.start("timed");
+
+        // Zufällige Auswahl von 10 Fragen im Hintergrund (ohne den gesamten Pool zu mischen)
+        AsyncDataManager.sampleQuestions(QUESTIONS_PER_ROUND).thenAcceptAsync(round -> {
+            if (game != gameId) return; // inzwischen wurde ein neues Spiel gestartet
+
+            if (round.isEmpty()) {
+                if (prepare != null) prepare.finish(0);
+                JOptionPane.showMessageDialog(mainPanel, "Keine Fragen vorhanden!");
+                onBack.run();
+                return;
+            }
 
-        // 3. Nur die ersten 10 Fragen auswählen
-        int limit = Math.min(allQuestions.size(), 10);
-        this.questions = allQuestions.subList(0, limit);
+            session.start(round);
 
-        loadQuestion(0);
+            showQuestion();
+            REFRESH.recordSince(start);
+            if (prepare != null) prepare.finish(round.size());
+        }, SwingUtilities::invokeLater);
     }
 
     // --- UI BUILDER METHODEN ---
@@ -179,12 +207,7 @@ public class TimeMode {
         JPanel center = new JPanel();
         center.setOpaque(false);
         center.setLayout(new BoxLayout(center, BoxLayout.Y_AXIS));
-        timerBar = new JProgressBar(0, SECONDS_PER_QUESTION * 1000);
-        timerBar.setValue(SECONDS_PER_QUESTION * 1000);
-        timerBar.setBorderPainted(false);
-        timerBar.setStringPainted(false);
-        timerBar.setForeground(TIMER_FILL);
-        timerBar.setBackground(TIMER_TRACK);
+        timerBar = new CountdownBar(TIMER_TRACK, TIMER_FILL);
         timerBar.setPreferredSize(new Dimension(520, 14));
         timerBar.setMaximumSize(new Dimension(520, 14));
         timerSecondsLabel = new JLabel(SECONDS_PER_QUESTION + "s", SwingConstants.CENTER);
@@ -276,17 +299,16 @@ public class TimeMode {
         panel.setOpaque(false);
         CircularButton fifty = new CircularButton("50:50", "Joker", JOKER_RING_PURPLE, JOKER_TEXT_PURPLE);
         fifty.setOnClick(() -> {
-            if (!used5050 && acceptingAnswers) {
-                used5050 = true;
-                apply5050();
+            if (apply5050()) {
                 fifty.setEnabledLook(false);
             }
         });
         CircularButton skip = new CircularButton("▶|", "Skip", SKIP_RING_TEAL, SKIP_TEXT_TEAL);
         skip.setOnClick(() -> {
-            if (acceptingAnswers) {
+            if (session.isAcceptingAnswers()) {
                 stopTimer();
-                nextQuestion();
+                if (session.skip()) showQuestion();
+                else finishGame();
             }
         });
         panel.add(fifty);
@@ -296,17 +318,13 @@ public class TimeMode {
 
     // --- LOGIC ---
 
-    private void loadQuestion(int index) {
-        questionIndex = index;
-        if (index >= questions.size()) return;
-
-        Question q = questions.get(index);
+    private void showQuestion() {
+        Question q = session.current();
         questionLabel.setText(q.getText());
         alertPanel.setVisible(false);
-        questionCounterValue.setText((index + 1) + " / " + questions.size());
-        pointsValue.setText(String.valueOf(score));
+        questionCounterValue.setText((session.index() + 1) + " / " + session.size());
+        pointsValue.setText(String.valueOf(session.score()));
 
-        acceptingAnswers = true;
         for (int i = 0; i < 4; i++) {
             answerOptions[i].setText(q.getOptions()[i]);
             answerOptions[i].setVisible(true);
@@ -317,39 +335,49 @@ public class TimeMode {
     }
 
     /**
-     * Stoppt den laufenden Timer für die aktuelle Frage.
+     * Stoppt Countdown und ausstehende Verzögerungen der aktuellen Frage.
+     * Die Restzeit bleibt danach auf dem Stand dieses Moments stehen.
      */
     private void stopTimer() {
-        if (tickTimer != null && tickTimer.isRunning()) tickTimer.stop();
+        if (countdown != null) countdown.stop();
+        cancel(tickTask);
+        cancel(expiryTask);
+        cancel(transitionTask);
+        tickTask = expiryTask = transitionTask = null;
+    }
+
+    private static void cancel(GameClock.Task task) {
+        if (task != null) task.cancel();
     }
 
     /**
-     * Startet den Countdown-Timer für die aktuelle Frage.
+     * Startet den Countdown für die aktuelle Frage.
      * <p>
-     * Ein {@link javax.swing.Timer} aktualisiert alle 50ms die Progress-Bar und
-     * das Textlabel. Wenn die Zeit abläuft, wird {@link #onTimeExpired()} aufgerufen.
+     * Der Ablauf wird exakt auf das Ende der Frage eingeplant und ruft dann
+     * {@link #onTimeExpired()} auf. Unabhängig davon aktualisiert ein Takt die Anzeige;
+     * er richtet sich danach, wie oft sich die Leiste um ein Pixel bewegt, höchstens
+     * aber nach der Bildwiederholrate (siehe {@link CountdownBar#tickNanos(long)}).
      * </p>
      */
     private void startTimer() {
         stopTimer();
-        timerBar.setMaximum(SECONDS_PER_QUESTION * 1000);
-        timerBar.setValue(SECONDS_PER_QUESTION * 1000);
-        timerSecondsLabel.setText(SECONDS_PER_QUESTION + "s");
-        questionStartMs = System.currentTimeMillis();
-        tickTimer = new javax.swing.Timer(50, e -> {
-            long elapsed = System.currentTimeMillis() - questionStartMs;
-            long remaining = (SECONDS_PER_QUESTION * 1000L) - elapsed;
-            if (remaining <= 0) {
-                timerBar.setValue(0);
-                timerSecondsLabel.setText("0s");
-                onTimeExpired();
-                return;
-            }
-            timerBar.setValue((int) remaining);
-            int sec = (int) Math.ceil(remaining / 1000.0);
-            timerSecondsLabel.setText(sec + "s");
-        });
-        tickTimer.start();
+        countdown = new Countdown(clock, TimeUnit.SECONDS.toNanos(SECONDS_PER_QUESTION));
+        updateTimerDisplay();
+        tickTask = clock.repeat(timerBar.tickNanos(countdown.durationNanos()), this::updateTimerDisplay);
+        expiryTask = clock.schedule(countdown.durationNanos(), this::onTimeExpired);
+    }
+
+    /**
+     * Aktualisiert die Anzeige. Die Leiste zeichnet nur den geänderten Streifen neu,
+     * das Label wird nur beim Wechsel der Sekunde gesetzt (löst sonst Layout und Repaint aus).
+     */
+    private void updateTimerDisplay() {
+        timerBar.setRemaining(countdown.remainingNanos(), countdown.durationNanos());
+        int seconds = countdown.displaySeconds();
+        if (seconds != shownSeconds) {
+            shownSeconds = seconds;
+            timerSecondsLabel.setText(seconds + "s");
+        }
     }
 
     /**
@@ -358,38 +386,37 @@ public class TimeMode {
      */
     private void onTimeExpired() {
         stopTimer();
-        if (!acceptingAnswers) return;
-        acceptingAnswers = false;
+        if (!session.timeOut()) return;
+        updateTimerDisplay();
         alertPanel.setVisible(true);
-        Question q = questions.get(questionIndex);
+        Question q = session.current();
         for (int i = 0; i < 4; i++) {
             if (i == q.getCorrectIndex()) answerOptions[i].setState(AnswerOption.State.CORRECT);
             else answerOptions[i].setEnabledLook(false);
         }
-        startDelayTransition(1500);
+        startDelayTransition();
     }
 
     /**
      * Verarbeitet den Klick auf eine Antwort.
      * <p>
      * Berechnet die Punkte basierend auf der verbleibenden Zeit:
-     * {@code 10 Basispunkte + verbleibende Sekunden}.
+     * {@code 10 Basispunkte + verbleibende Sekunden}. Die Restzeit wird im Moment des
+     * Klicks exakt aus dem {@link Countdown} bestimmt, nicht aus der Progress-Bar.
      * </p>
      *
      * @param idx Index der gewählten Antwort.
      */
     private void onAnswerClicked(int idx) {
-        if (!acceptingAnswers) return;
+        if (!session.isAcceptingAnswers()) return;
         stopTimer();
-        acceptingAnswers = false;
-        Question q = questions.get(questionIndex);
+        updateTimerDisplay();
+        Question q = session.current();
 
+        // Punkteberechnung (10 + Restsekunden) in der GameSession
+        session.answer(idx, countdown.remainingSeconds());
         if (idx == q.getCorrectIndex()) {
-            // Richtige Antwort: Punkteberechnung
-            int remainingSec = (int)(timerBar.getValue() / 1000);
-            int earned = 10 + remainingSec;
-            score += earned;
-            pointsValue.setText(String.valueOf(score));
+            pointsValue.setText(String.valueOf(session.score()));
         } else {
             // Falsche Antwort: Rot markieren
             answerOptions[idx].setState(AnswerOption.State.WRONG);
@@ -403,38 +430,42 @@ public class TimeMode {
                 answerOptions[i].setEnabledLook(false);
             }
         }
-        startDelayTransition(1500);
+        startDelayTransition();
     }
 
-    private void startDelayTransition(int delayMs) {
-        javax.swing.Timer pause = new javax.swing.Timer(delayMs, e -> {
-            ((javax.swing.Timer) e.getSource()).stop();
-            nextQuestion();
-        });
-        pause.setRepeats(false);
-        pause.start();
+    private void startDelayTransition() {
+        transitionTask = clock.schedule(FEEDBACK_NANOS, this::nextQuestion);
     }
 
     private void nextQuestion() {
-        if (questionIndex + 1 >= questions.size()) {
-            stopTimer();
-            DataManager.saveHighscore(currentUsername, score);
-            JOptionPane.showMessageDialog(mainPanel, "Time-Mode beendet!\nPunkte: " + score + "\nErgebnis für " + currentUsername + " gespeichert!");
-            onBack.run();
-            return;
-        }
-        loadQuestion(questionIndex + 1);
+        if (session.next()) showQuestion();
+        else finishGame();
     }
 
-    private void apply5050() {
-        Question q = questions.get(questionIndex);
-        int hidden = 0;
-        for (int i = 0; i < 4 && hidden < 2; i++) {
-            if (i != q.getCorrectIndex()) {
-                answerOptions[i].setVisible(false);
-                hidden++;
+    private void finishGame() {
+        stopTimer();
+        int score = session.score();
+        int game = gameId;
+        // Meldung erst, wenn der Eintrag wirklich gespeichert (oder das Speichern gescheitert) ist
+        AsyncDataManager.saveHighscore(currentUsername, score).whenCompleteAsync((v, error) -> {
+            if (game != gameId) return; // inzwischen wurde ein neues Spiel gestartet
+            if (error == null) {
+                JOptionPane.showMessageDialog(mainPanel, "Time-Mode beendet!\nPunkte: " + score + "\nErgebnis für " + currentUsername + " gespeichert!");
+            } else {
+                JOptionPane.showMessageDialog(mainPanel, "Time-Mode beendet!\nPunkte: " + score
+                        + "\nDas Ergebnis konnte nicht gespeichert werden:\n" + AsyncDataManager.describeFailure(error),
+                        "Fehler", JOptionPane.ERROR_MESSAGE);
             }
+            onBack.run();
+        }, SwingUtilities::invokeLater);
+    }
+
+    private boolean apply5050() {
+        int hidden = session.use5050();
+        for (int i = 0; i < 4; i++) {
+            if ((hidden & (1 << i)) != 0) answerOptions[i].setVisible(false);
         }
+        return hidden != 0;
     }
 
     /**
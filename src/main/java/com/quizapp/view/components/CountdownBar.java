@@ -0,0 +1,96 @@
+package com.quizapp.view.components;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schlanke Fortschrittsleiste für Countdowns.
+ * <p>
+ * Im Gegensatz zu {@link JProgressBar} löst ein neuer Wert kein Neuzeichnen der ganzen
+ * Leiste aus: Es wird nur der Streifen zwischen alter und neuer Füllkante als "dirty"
+ * gemeldet, und nur dann, wenn sich die Kante um mindestens ein Pixel bewegt hat.
+ * Da die Komponente deckend ({@code opaque}) ist, muss Swing auch die Eltern-Komponenten
+ * nicht mitzeichnen.
+ * </p>
+ */
+public class CountdownBar extends JComponent {
+
+    private static final int FALLBACK_REFRESH_HZ = 60;
+
+    private final Color track;
+    private final Color fill;
+    private long remaining = 1;
+    private long total = 1;
+
+    /**
+     * Erstellt eine volle Leiste.
+     *
+     * @param track Farbe der leeren Spur.
+     * @param fill  Farbe der Füllung.
+     */
+    public CountdownBar(Color track, Color fill) {
+        this.track = track;
+        this.fill = fill;
+        setOpaque(true);
+    }
+
+    /**
+     * Setzt die Restzeit und meldet höchstens den geänderten Streifen zum Neuzeichnen an.
+     *
+     * @param remainingNanos Restzeit.
+     * @param totalNanos     Gesamtdauer.
+     * @return {@code true}, wenn sich die Füllkante sichtbar bewegt hat.
+     */
+    public boolean setRemaining(long remainingNanos, long totalNanos) {
+        int w = getWidth();
+        int before = fillWidth(w);
+        remaining = Math.max(0, Math.min(remainingNanos, totalNanos));
+        total = Math.max(1, totalNanos);
+        int after = fillWidth(w);
+        if (before == after) {
+            return false;
+        }
+        repaint(Math.min(before, after), 0, Math.abs(after - before), getHeight());
+        return true;
+    }
+
+    /**
+     * Gibt den sinnvollen Takt für einen Countdown der angegebenen Dauer zurück:
+     * so oft, wie sich die Füllkante um ein Pixel bewegt, aber nicht öfter als die
+     * Bildwiederholrate des Bildschirms.
+     *
+     * @param totalNanos Gesamtdauer des Countdowns.
+     * @return Abstand zwischen zwei Aktualisierungen in Nanosekunden.
+     */
+    public long tickNanos(long totalNanos) {
+        int w = getWidth() > 0 ? getWidth() : getPreferredSize().width;
+        long perPixel = totalNanos / Math.max(1, w);
+        long perFrame = TimeUnit.SECONDS.toNanos(1) / refreshRate();
+        return Math.max(perFrame, perPixel);
+    }
+
+    private int refreshRate() {
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        if (gc == null) {
+            return FALLBACK_REFRESH_HZ;
+        }
+        int hz = gc.getDevice().getDisplayMode().getRefreshRate();
+        return hz > 0 ? hz : FALLBACK_REFRESH_HZ; // REFRESH_RATE_UNKNOWN
+    }
+
+    private int fillWidth(int w) {
+        return (int) (w * remaining / total);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        int w = getWidth();
+        int h = getHeight();
+        int f = fillWidth(w);
+        g.setColor(fill);
+        g.fillRect(0, 0, f, h);
+        g.setColor(track);
+        g.fillRect(f, 0, w - f, h);
+    }
+}
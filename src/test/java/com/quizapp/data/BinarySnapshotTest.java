@@ -0,0 +1,154 @@
+package com.quizapp.data;
+
+import com.quizapp.model.HighscoreEntry;
+import com.quizapp.model.Question;
+import com.quizapp.model.QuestionSampler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testklasse für den {@link BinarySnapshot}, den {@link SnapshotConverter} und
+ * den {@link MappedQuestionStore}.
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class BinarySnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    /**
+     * JSON → Binär → JSON liefert dieselben Fragen und Highscores
+     * (inkl. IDs, Umlauten und mehrfach verwendeter Strings).
+     */
+    @Test
+    void testRoundTripThroughConverter() throws Exception {
+        Path json = dir.resolve("questions.json");
+        List<Question> questions = List.of(
+                new Question("Was ist größer?", new String[]{"Ja", "Nein", "Vielleicht", "Ja"}, 1).withId(7),
+                new Question("Zweite Frage", new String[]{"Ja", "Nein"}, 0).withId(9));
+        JsonFiles.write(json, questions);
+
+        Path bin = dir.resolve("questions.bin");
+        assertEquals(2, SnapshotConverter.toBinary(json, bin, true));
+        Path back = dir.resolve("back.json");
+        SnapshotConverter.toJson(bin, back, true);
+        assertEquals(Files.readString(json), Files.readString(back));
+
+        Path scores = dir.resolve("highscores.json");
+        JsonFiles.write(scores, List.of(
+                new HighscoreEntry("Axel Müller", 120, "2024-01-15"),
+                new HighscoreEntry("Axel Müller", -3, "2024-01-15")));
+        Path scoresBin = dir.resolve("highscores.bin");
+        SnapshotConverter.toBinary(scores, scoresBin, false);
+        Path scoresBack = dir.resolve("scores-back.json");
+        SnapshotConverter.toJson(scoresBin, scoresBack, false);
+        assertEquals(Files.readString(scores), Files.readString(scoresBack));
+    }
+
+    /**
+     * Ein veralteter (andere Quelle) oder beschädigter Binär-Snapshot wird ignoriert;
+     * das Repository liest dann das JSON und schreibt den Binär-Snapshot neu.
+     */
+    @Test
+    void testStaleOrCorruptSnapshotFallsBackToJson() throws Exception {
+        Path json = dir.resolve("questions.json");
+        Path bin = dir.resolve("questions.bin");
+        JsonFiles.write(json, List.of(new Question("Alt", new String[]{"A", "B", "C", "D"}, 0).withId(1)));
+        assertEquals(1, new QuestionRepository(json, true).size());
+        assertTrue(Files.exists(bin));
+
+        // JSON wurde außerhalb der Anwendung geändert -> Prüfsumme passt nicht mehr
+        long newCrc = JsonFiles.write(json, List.of(new Question("Neu", new String[]{"A", "B", "C", "D"}, 0).withId(1)));
+        assertNull(BinarySnapshot.readQuestions(bin, newCrc));
+        assertEquals("Neu", new QuestionRepository(json, true).findById(1).getText());
+        assertEquals("Neu", BinarySnapshot.readQuestions(bin, newCrc).get(0).getText());
+
+        // Ein gekipptes Byte wird über die Prüfsumme am Dateiende erkannt
+        byte[] data = Files.readAllBytes(bin);
+        data[data.length / 2] ^= 0x55;
+        Files.write(bin, data);
+        assertNull(BinarySnapshot.readQuestions(bin, newCrc));
+        assertEquals("Neu", new QuestionRepository(json, true).findById(1).getText());
+    }
+
+    /**
+     * Der Mapped Store liefert dieselben Fragen wie das JSON. Das Repository zieht Runden
+     * daraus, solange nichts geändert wurde, und lädt nach einer Änderung vollständig.
+     */
+    @Test
+    void testMappedStoreServesRoundsUntilFirstWrite() throws Exception {
+        Path json = dir.resolve("questions.json");
+        List<Question> questions = List.of(
+                new Question("Erste", new String[]{"A", "B", "C", "D"}, 2).withId(3),
+                new Question("Zweite", new String[]{"Ä", "Ö", "Ü"}, 1).withId(5));
+        JsonFiles.write(json, questions);
+        new QuestionRepository(json, true).size(); // legt questions.bin an
+
+        MappedQuestionStore store = MappedQuestionStore.open(dir.resolve("questions.bin"));
+        assertNotNull(store);
+        assertEquals(2, store.size());
+        Question second = store.get(1);
+        assertEquals(5, second.getId());
+        assertEquals("Zweite", second.getText());
+        assertArrayEquals(new String[]{"Ä", "Ö", "Ü"}, second.getOptions());
+        assertEquals(1, second.getCorrectIndex());
+
+        QuestionRepository repo = new QuestionRepository(json, true);
+        List<Question> round = repo.sample(new QuestionSampler(1), 2);
+        assertEquals(2, round.size());
+        assertNotSame(Question.class, round.get(0).getClass(), "Runde sollte aus dem Mapped Store kommen");
+
+        repo.update(3L, new Question("Erste (neu)", new String[]{"A", "B", "C", "D"}, 0));
+        round = repo.sample(new QuestionSampler(1), 2);
+        assertSame(Question.class, round.get(0).getClass());
+        assertTrue(round.stream().anyMatch(q -> q.getText().equals("Erste (neu)")));
+
+        // Nach einem Neustart liegt eine Änderung im Journal -> kein Mapped Store
+        List<Question> afterRestart = new QuestionRepository(json, true).sample(new QuestionSampler(1), 2);
+        assertTrue(afterRestart.stream().anyMatch(q -> q.getText().equals("Erste (neu)")));
+    }
+
+    /**
+     * Fehlende Werte aus einer von Hand bearbeiteten JSON-Datei (Spielername, Fragetext,
+     * einzelne Antwort, ganze Antwortliste) bleiben nach dem Weg über den Binär-Snapshot
+     * {@code null} und werden nicht zu {@code ""}.
+     */
+    @Test
+    void testNullValuesSurviveRoundTrip() throws Exception {
+        Path bin = dir.resolve("questions.bin");
+        BinarySnapshot.writeQuestions(bin, List.of(
+                new Question(null, new String[]{"A", null, "", "D"}, 0).withId(1),
+                new Question("Ohne Antworten", null, 0).withId(2),
+                new Question("Normal", new String[]{"A", "B", "C", "D"}, 3).withId(3)), 42);
+
+        List<Question> read = BinarySnapshot.readQuestions(bin, 42);
+        assertNull(read.get(0).getText());
+        assertArrayEquals(new String[]{"A", null, "", "D"}, read.get(0).getOptions());
+        assertNull(read.get(1).getOptions());
+        assertArrayEquals(new String[]{"A", "B", "C", "D"}, read.get(2).getOptions());
+
+        MappedQuestionStore store = MappedQuestionStore.open(bin);
+        assertNull(store.get(0).getText());
+        assertArrayEquals(new String[]{"A", null, "", "D"}, store.get(0).getOptions());
+        assertNull(store.get(1).getOptions());
+        assertEquals("D", store.get(2).getOptions()[3]);
+
+        Path scoresBin = dir.resolve("highscores.bin");
+        BinarySnapshot.writeHighscores(scoresBin, List.of(
+                new HighscoreEntry(null, 50, "2024-01-01"),
+                new HighscoreEntry("", 40, null)), 7);
+        List<HighscoreEntry> scores = BinarySnapshot.readHighscores(scoresBin, 7);
+        assertNull(scores.get(0).getPlayerName());
+        assertEquals("", scores.get(1).getPlayerName());
+        assertNull(scores.get(1).getDate());
+    }
+}
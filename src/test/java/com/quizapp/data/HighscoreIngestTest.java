@@ -0,0 +1,99 @@
+package com.quizapp.data;
+
+import com.quizapp.model.HighscoreEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testklasse für die {@link HighscoreIngest}-Warteschlange.
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class HighscoreIngestTest {
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Viele Produzenten gleichzeitig bei kleiner Warteschlange (Backpressure): Kein Eintrag
+     * geht verloren, und nach dem Schließen ist alles auf der Platte.
+     */
+    @Test
+    void testConcurrentProducersLoseNothing() throws Exception {
+        Path file = dir.resolve("highscores.json");
+        HighscoreRepository repo = new HighscoreRepository(file, false);
+        HighscoreIngest ingest = new HighscoreIngest(repo, 16, false);
+
+        int producers = 8;
+        int perProducer = 400;
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            String name = "Spieler" + p;
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    try {
+                        HighscoreEntry entry = new HighscoreEntry(name, i, "2024-01-01");
+                        if (i < perProducer - 1) ingest.enqueue(entry);
+                        else ingest.await(ingest.submit(entry));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }));
+        }
+        for (Thread t : threads) t.join();
+
+        assertEquals(producers * perProducer, repo.leaderboard().size());
+        ingest.close();
+        assertThrows(IllegalStateException.class, () -> ingest.submit(new HighscoreEntry("Zu spät", 1, "2024-01-01")));
+
+        HighscoreRepository reopened = new HighscoreRepository(file, false);
+        assertEquals(producers * perProducer, reopened.leaderboard().size());
+        assertEquals(perProducer - 1, reopened.findBestScore("Spieler3"));
+    }
+
+    /**
+     * Kann das Journal nicht geschrieben werden, meldet {@code await} den Fehler, statt
+     * Erfolg vorzutäuschen; der Eintrag taucht auch nicht in der Rangliste auf.
+     */
+    @Test
+    void testFailedWriteIsReportedToWaiter() throws Exception {
+        Path file = dir.resolve("highscores.json");
+        HighscoreRepository repo = new HighscoreRepository(file, false);
+        repo.leaderboard();
+        Path journal = Journal.siblingOf(file);
+        Files.deleteIfExists(journal);
+        Files.createDirectory(journal); // Anhängen schlägt fehl
+
+        try (HighscoreIngest ingest = new HighscoreIngest(repo, 16, false)) {
+            long ticket = ingest.submit(new HighscoreEntry("Pech", 10, "2024-01-01"));
+            UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> ingest.await(ticket));
+            assertEquals(0, repo.leaderboard().size());
+            // Die Views zeigen die eigentliche Ursache, nicht die Hülle des Futures
+            String shown = AsyncDataManager.describeFailure(new CompletionException(e));
+            assertEquals(e.getCause().toString(), shown);
+            assertEquals(0, ingest.failuresRetained(), "abgeholter Fehlschlag wird vergessen");
+
+            // Ohne Wartenden wird ein Fehlschlag nur protokolliert und nicht gemerkt
+            ingest.enqueue(new HighscoreEntry("Niemand wartet", 5, "2024-01-01"));
+            ingest.flush();
+            assertEquals(0, ingest.failuresRetained());
+            assertEquals(0, repo.leaderboard().size());
+
+            Files.delete(journal);
+            ingest.await(ingest.submit(new HighscoreEntry("Glück", 20, "2024-01-01")));
+            assertEquals(20, repo.findBestScore("Glück"));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.quizapp.data;
+
+import com.quizapp.model.HighscoreEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testklasse für das {@link HighscoreRepository} und das zugrunde liegende {@link Journal}.
+ * <p>
+ * Alle Tests arbeiten in einem temporären Verzeichnis, damit die echte
+ * {@code highscores.json} des Projekts nicht verändert wird.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class HighscoreRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Ein neu gespeicherter Eintrag wird nur an das Journal angehängt und
+     * ist nach einem Neustart (neue Repository-Instanz) wieder vorhanden.
+     */
+    @Test
+    void testJournalReplayAfterRestart() throws Exception {
+        Path file = dir.resolve("highscores.json");
+        Files.writeString(file, "[{\"playerName\":\"Axel Muster\",\"score\":100,\"date\":\"2024-01-15\"}]");
+        String snapshotBefore = Files.readString(file);
+
+        HighscoreRepository repo = new HighscoreRepository(file);
+        repo.add(new HighscoreEntry("Kim", 150, "2024-03-01"));
+        repo.add(new HighscoreEntry("Tom", 20, "2024-03-02"));
+
+        assertEquals(snapshotBefore, Files.readString(file), "Snapshot darf beim Speichern nicht neu geschrieben werden");
+
+        List<HighscoreEntry> reloaded = new HighscoreRepository(file).findAll();
+        assertEquals(3, reloaded.size());
+        assertEquals("Kim", reloaded.get(0).getPlayerName());
+        assertEquals("Axel Muster", reloaded.get(1).getPlayerName());
+        assertEquals("Tom", reloaded.get(2).getPlayerName());
+    }
+
+    /**
+     * Nach der Kompaktierung stehen alle Einträge im Snapshot und das Journal
+     * wird beim nächsten Laden nicht doppelt eingespielt.
+     */
+    @Test
+    void testCompactionDoesNotDuplicate() {
+        Path file = dir.resolve("highscores.json");
+        HighscoreRepository repo = new HighscoreRepository(file);
+        for (int i = 0; i < HighscoreRepository.COMPACT_THRESHOLD + 5; i++) {
+            repo.add(new HighscoreEntry("P" + i, i, "2024-01-01"));
+        }
+
+        List<HighscoreEntry> reloaded = new HighscoreRepository(file).findAll();
+        assertEquals(HighscoreRepository.COMPACT_THRESHOLD + 5, reloaded.size());
+        assertEquals(HighscoreRepository.COMPACT_THRESHOLD + 4, reloaded.get(0).getScore());
+    }
+
+    /**
+     * Eine abgebrochene letzte Journal-Zeile (Absturz beim Schreiben) wird verworfen,
+     * ohne die nachfolgenden Einträge zu beschädigen.
+     */
+    @Test
+    void testTruncatedJournalLineIsDropped() throws Exception {
+        Path file = dir.resolve("highscores.json");
+        HighscoreRepository repo = new HighscoreRepository(file);
+        repo.add(new HighscoreEntry("Kim", 50, "2024-01-01"));
+        Files.write(Journal.siblingOf(file), "{\"playerName\":\"Hal".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        HighscoreRepository restarted = new HighscoreRepository(file);
+        assertEquals(1, restarted.findAll().size());
+        restarted.add(new HighscoreEntry("Tom", 70, "2024-01-02"));
+
+        List<HighscoreEntry> reloaded = new HighscoreRepository(file).findAll();
+        assertEquals(2, reloaded.size());
+        assertEquals("Tom", reloaded.get(0).getPlayerName());
+    }
+
+    /**
+     * Der Spieler-Index liefert exakt dieselben Treffer wie der bisherige lineare
+     * Vergleich mit {@code equalsIgnoreCase} – auch für Sonderfälle wie "İ", "ı" und "ß".
+     */
+    @Test
+    void testPlayerIndexMatchesEqualsIgnoreCase() {
+        String[] names = {"Kim", "KIM", "kIm", "Tom", "İrem", "irem", "IREM", "ırem", "Straße", "STRASSE", "Ärger", "ärger"};
+        HighscoreRepository repo = new HighscoreRepository(dir.resolve("highscores.json"));
+        for (int i = 0; i < names.length * 3; i++) {
+            repo.add(new HighscoreEntry(names[i % names.length], (i * 7) % 20, "2024-01-01"));
+        }
+
+        List<HighscoreEntry> all = repo.findAll();
+        for (String query : names) {
+            List<HighscoreEntry> expected = all.stream()
+                    .filter(e -> e.getPlayerName().equalsIgnoreCase(query)).toList();
+            assertEquals(expected, repo.findByPlayer(query), "Treffer für " + query);
+            assertEquals(expected.isEmpty() ? null : expected.get(0).getScore(), repo.findBestScore(query));
+        }
+        assertTrue(repo.findByPlayer("Niemand").isEmpty());
+    }
+
+    /**
+     * Ein Eintrag ohne Spielername in der Datei verhindert nicht das Laden; er steht in der
+     * Rangliste, wird aber keinem Spieler zugeordnet.
+     */
+    @Test
+    void testEntryWithoutPlayerNameIsNotIndexed() throws Exception {
+        Path file = dir.resolve("highscores.json");
+        Files.writeString(file, "[{\"score\":50,\"date\":\"2024-01-01\"},"
+                + "{\"playerName\":\"Kim\",\"score\":40,\"date\":\"2024-01-02\"}]");
+        HighscoreRepository repo = new HighscoreRepository(file, false);
+
+        assertEquals(2, repo.leaderboard().size());
+        assertEquals(40, repo.findBestScore("kim"));
+        assertNull(repo.findBestScore(null));
+        assertTrue(repo.findByPlayer("").isEmpty());
+        repo.add(new HighscoreEntry(null, 10, "2024-01-03"));
+        assertEquals(3, repo.findAll().size());
+    }
+
+    /**
+     * Lässt sich das Journal nach einer Kompaktierung nicht leeren, scheitert das nächste
+     * Anhängen laut; sobald es wieder geht, landen neue Einträge in einem Journal, das zum
+     * neuen Snapshot passt, und überstehen einen Neustart.
+     */
+    @Test
+    void testFailedJournalResetIsRetriedBeforeAppend() throws Exception {
+        Path file = dir.resolve("highscores.json");
+        HighscoreRepository repo = new HighscoreRepository(file, false);
+        repo.add(new HighscoreEntry("A", 10, "2024-01-01"));
+
+        // Journal durch ein nicht leeres Verzeichnis ersetzen -> Neuschreiben schlägt fehl
+        Path journal = Journal.siblingOf(file);
+        Files.delete(journal);
+        Files.createDirectory(journal);
+        Files.writeString(journal.resolve("blockiert"), "x");
+        repo.compact();
+        assertThrows(UncheckedIOException.class, () -> repo.add(new HighscoreEntry("B", 20, "2024-01-02")));
+
+        Files.delete(journal.resolve("blockiert"));
+        Files.delete(journal);
+        repo.add(new HighscoreEntry("C", 30, "2024-01-03"));
+
+        HighscoreRepository restarted = new HighscoreRepository(file, false);
+        assertEquals(List.of("C", "A"), restarted.findAll().stream().map(HighscoreEntry::getPlayerName).toList());
+    }
+}
@@ -0,0 +1,70 @@
+package com.quizapp.data;
+
+import com.quizapp.model.HighscoreEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testklasse für die {@link Leaderboard}-Datenstruktur.
+ * <p>
+ * Als Referenz dient das bisherige Verfahren: eine Liste, die nach jedem Einfügen
+ * stabil absteigend nach Punktzahl sortiert wird.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class LeaderboardTest {
+
+    /**
+     * Zufällige Einfügungen ergeben dieselbe Reihenfolge wie eine stabile Sortierung,
+     * und Rang- bzw. Positionsabfragen stimmen mit der Referenzliste überein.
+     */
+    @Test
+    void testMatchesStableSort() {
+        Random rnd = new Random(5);
+        List<HighscoreEntry> reference = new ArrayList<>();
+        Leaderboard board = Leaderboard.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            HighscoreEntry e = new HighscoreEntry("P" + i, rnd.nextInt(100), "2024-01-01");
+            reference.add(e);
+            board = board.insert(e);
+        }
+        reference.sort(HighscoreRepository.BY_SCORE_DESC);
+
+        assertEquals(reference, board.toList());
+        assertEquals(reference.subList(0, 10), board.top(10));
+        assertEquals(reference.subList(500, 550), board.range(500, 50));
+        assertSame(reference.get(1234), board.get(1234));
+
+        for (int score = -1; score <= 101; score++) {
+            int expected = 1;
+            for (HighscoreEntry e : reference) if (e.getScore() > score) expected++;
+            assertEquals(expected, board.rankOf(score), "Rang für Score " + score);
+        }
+    }
+
+    /**
+     * Einfügen verändert eine bestehende Rangliste nicht (Persistenz).
+     */
+    @Test
+    void testInsertKeepsOldVersion() {
+        Leaderboard before = Leaderboard.ofSorted(List.of(
+                new HighscoreEntry("Axel Muster", 100, "2024-01-15"),
+                new HighscoreEntry("Kim Beispiel", 1, "2024-02-20")));
+        Leaderboard after = before.insert(new HighscoreEntry("Neu", 100, "2024-03-01"));
+
+        assertEquals(2, before.size());
+        assertEquals(3, after.size());
+        assertEquals("Axel Muster", after.get(0).getPlayerName(), "Bei Gleichstand bleibt der ältere Eintrag vorne");
+        assertEquals("Neu", after.get(1).getPlayerName());
+        assertEquals(3, after.rankOf(50));
+    }
+}
@@ -0,0 +1,118 @@
+package com.quizapp.data;
+
+import com.quizapp.model.Question;
+import com.quizapp.model.QuestionSampler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testklasse für {@link QuestionRepository#reloadIfChanged()} und den {@link QuestionFileWatcher}.
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class QuestionFileWatcherTest {
+
+    @TempDir
+    Path dir;
+
+    private static Question q(long id, String text) {
+        return new Question(text, new String[]{"A", "B", "C", "D"}, 0).withId(id);
+    }
+
+    /**
+     * Eine nur berührte Datei wird nicht neu gelesen; eine von außen ersetzte Datei wird
+     * übernommen, und die Unterschiede werden richtig gezählt. Eine halb geschriebene Datei
+     * lässt den alten Stand unangetastet.
+     */
+    @Test
+    void testReloadOnlyOnRealChange() throws Exception {
+        Path file = dir.resolve("questions.json");
+        JsonFiles.write(file, List.of(q(1, "Eins"), q(2, "Zwei"), q(3, "Drei")));
+        QuestionRepository repo = new QuestionRepository(file, true);
+        assertEquals(3, repo.size());
+        assertNull(repo.reloadIfChanged(), "Unveränderte Datei");
+
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 5_000));
+        assertNull(repo.reloadIfChanged(), "Nur berührt, Inhalt gleich");
+
+        JsonFiles.write(file, List.of(q(1, "Eins"), q(2, "Zwei (neu)"), q(4, "Vier"), q(5, "Fünf")));
+        QuestionDiff diff = repo.reloadIfChanged();
+        assertEquals(new QuestionDiff(2, 1, 1, 4, 0), diff);
+        assertEquals("Zwei (neu)", repo.findById(2).getText());
+        assertNull(repo.findById(3));
+        assertEquals(4, repo.sample(new QuestionSampler(1), 10).size());
+        assertNull(repo.reloadIfChanged(), "Zweiter Aufruf ohne neue Änderung");
+
+        Files.writeString(file, "[{\"id\":9,\"text\":\"Halb");
+        assertNull(repo.reloadIfChanged());
+        assertEquals(4, repo.findAll().size());
+
+        // Eigene Schreibvorgänge lösen kein Neuladen aus
+        JsonFiles.write(file, List.of(q(1, "Eins"), q(2, "Zwei (neu)"), q(4, "Vier"), q(5, "Fünf")));
+        repo.reloadIfChanged();
+        repo.add(q(0, "Sechs"));
+        repo.flush();
+        assertNull(repo.reloadIfChanged());
+        assertEquals(5, new QuestionRepository(file, true).size());
+    }
+
+    /**
+     * Noch nicht kompaktierte lokale Änderungen überleben das Ersetzen der Datei: Sie werden
+     * auf die neue Datei angewendet, eine von der Datei belegte ID wird neu vergeben und
+     * überschriebene Fragen werden als Konflikt gemeldet – auch nach einem Neustart.
+     */
+    @Test
+    void testLocalChangesSurviveExternalReplace() throws Exception {
+        Path file = dir.resolve("questions.json");
+        JsonFiles.write(file, List.of(q(1, "Eins"), q(2, "Zwei")));
+        QuestionRepository repo = new QuestionRepository(file, false);
+        assertTrue(repo.update(1, q(0, "Eins lokal")));
+        long local = repo.add(q(0, "Lokal neu")).getId();
+        assertEquals(3, local);
+
+        JsonFiles.write(file, List.of(q(1, "Eins extern"), q(2, "Zwei"), q(3, "Drei extern")));
+        assertEquals(new QuestionDiff(1, 1, 0, 4, 1), repo.reloadIfChanged());
+
+        for (QuestionRepository r : List.of(repo, new QuestionRepository(file, false))) {
+            assertEquals("Eins lokal", r.findById(1).getText());
+            assertEquals("Drei extern", r.findById(3).getText());
+            List<String> texts = r.findAll().stream().map(Question::getText).toList();
+            assertEquals(List.of("Eins lokal", "Zwei", "Drei extern", "Lokal neu"), texts);
+        }
+    }
+
+    /**
+     * Der Watcher bemerkt eine ersetzte Datei und meldet die Unterschiede.
+     */
+    @Test
+    void testWatcherPicksUpExternalReplace() throws Exception {
+        Path file = dir.resolve("questions.json");
+        JsonFiles.write(file, List.of(q(1, "Eins")));
+        QuestionRepository repo = new QuestionRepository(file, true);
+        assertEquals(1, repo.size());
+
+        BlockingQueue<QuestionDiff> reloads = new ArrayBlockingQueue<>(10);
+        QuestionFileWatcher watcher = QuestionFileWatcher.start(repo, file, reloads::add);
+        try {
+            JsonFiles.write(file, List.of(q(1, "Eins"), q(2, "Zwei")));
+            QuestionDiff diff = reloads.poll(10, TimeUnit.SECONDS);
+            assertNotNull(diff, "Änderung wurde nicht bemerkt");
+            assertEquals(new QuestionDiff(1, 0, 0, 2, 0), diff);
+            assertEquals(2, repo.findAll().size());
+        } finally {
+            watcher.close();
+        }
+    }
+}
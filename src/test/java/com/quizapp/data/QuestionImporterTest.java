@@ -0,0 +1,107 @@
+package com.quizapp.data;
+
+import com.quizapp.model.Question;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testklasse für den {@link QuestionImporter} und das Speichern großer Mengen über
+ * {@link QuestionRepository#addAll}.
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class QuestionImporterTest {
+
+    @TempDir
+    Path dir;
+
+    /**
+     * NDJSON und CSV (mit Kopfzeile, BOM, Anführungszeichen und Leerzeilen) liefern
+     * dieselben Fragen in der Reihenfolge der Datei.
+     */
+    @Test
+    void testParsesNdjsonAndCsv() throws Exception {
+        Path ndjson = dir.resolve("fragen.ndjson");
+        Files.writeString(ndjson, """
+                {"text":"Was ist 2+2?","options":["3","4","5","6"],"correctIndex":1}
+
+                {"text":" Hauptstadt, Frankreich? ","options":["Paris","Rom","Bern","Wien"],"correctIndex":0,"id":99}
+                """);
+        Path csv = dir.resolve("fragen.csv");
+        Files.writeString(csv, "﻿text,a,b,c,d,correctIndex\n"
+                + "Was ist 2+2?,3,4,5,6,1\n"
+                + "\n"
+                + "\" Hauptstadt, Frankreich? \",Paris,Rom,Bern,Wien, 0\n");
+
+        for (Path file : List.of(ndjson, csv)) {
+            QuestionImporter.Result result = QuestionImporter.parse(file);
+            assertTrue(result.isValid(), file + ": " + result.errors());
+            assertEquals(2, result.questions().size());
+            Question second = result.questions().get(1);
+            assertEquals("Hauptstadt, Frankreich?", second.getText());
+            assertArrayEquals(new String[]{"Paris", "Rom", "Bern", "Wien"}, second.getOptions());
+            assertEquals(0, second.getCorrectIndex());
+            assertEquals(1, result.questions().get(0).getCorrectIndex());
+        }
+        assertEquals(List.of("a \"b\"", "", "c,d"), QuestionImporter.splitCsv("\"a \"\"b\"\"\",,\"c,d\""));
+    }
+
+    /**
+     * Jede Regel wird geprüft und der Fehler mit der richtigen Zeilennummer gemeldet.
+     */
+    @Test
+    void testReportsErrorsPerLine() {
+        List<String> lines = List.of(
+                "{\"text\":\"Gut\",\"options\":[\"A\",\"B\",\"C\",\"D\"],\"correctIndex\":3}",
+                "{\"text\":\"  \",\"options\":[\"A\",\"B\",\"C\",\"D\"],\"correctIndex\":0}",
+                "{\"text\":\"Drei\",\"options\":[\"A\",\"B\",\"C\"],\"correctIndex\":0}",
+                "{\"text\":\"Index\",\"options\":[\"A\",\"B\",\"C\",\"D\"],\"correctIndex\":4}",
+                "{\"text\":\"Leer\",\"options\":[\"A\",\"\",\"C\",\"D\"],\"correctIndex\":0}",
+                "{\"text\":\"Ohne Index\",\"options\":[\"A\",\"B\",\"C\",\"D\"]}",
+                "{\"text\":\"kaputt\"");
+        QuestionImporter.Result result = QuestionImporter.parse(lines, QuestionImporter.Format.NDJSON);
+
+        assertEquals(1, result.questions().size());
+        assertEquals(List.of(2, 3, 4, 5, 6, 7), result.errors().stream().map(QuestionImporter.LineError::line).toList());
+        assertTrue(result.errors().get(2).message().contains("correctIndex"), result.errors().get(2).message());
+        assertTrue(result.errors().get(3).toString().startsWith("Zeile 5: Antwort B"));
+
+        QuestionImporter.Result csv = QuestionImporter.parse(List.of("Frage,A,B,C,D,x", "Frage,A,B,C,1", "\"offen,A,B,C,D,0"),
+                QuestionImporter.Format.CSV);
+        assertEquals(3, csv.errors().size());
+        assertEquals(1, csv.errors().get(0).line());
+    }
+
+    /**
+     * Eine fehlerhafte Datei ändert den Katalog nicht; eine große gültige Menge wird
+     * direkt als Snapshot geschrieben, statt das Journal aufzublähen.
+     */
+    @Test
+    void testBulkAddWritesSnapshotOnce() throws Exception {
+        Path file = dir.resolve("questions.json");
+        QuestionRepository repo = new QuestionRepository(file);
+        repo.add(new Question("Vorher", new String[]{"A", "B", "C", "D"}, 0));
+
+        List<Question> many = new ArrayList<>();
+        for (int i = 0; i < QuestionRepository.COMPACT_THRESHOLD; i++) {
+            many.add(new Question("Frage " + i, new String[]{"A", "B", "C", "D"}, i % 4));
+        }
+        List<Question> stored = repo.addAll(many);
+        assertEquals(many.size(), stored.size());
+        // Im Journal steht nur noch der Kopf mit der Prüfsumme des neuen Snapshots
+        assertTrue(Files.size(Journal.siblingOf(file)) < 64, "Journal sollte im Snapshot aufgegangen sein");
+
+        QuestionRepository reopened = new QuestionRepository(file);
+        assertEquals(many.size() + 1, reopened.size());
+        assertEquals("Frage 7", reopened.findById(stored.get(7).getId()).getText());
+    }
+}
@@ -0,0 +1,110 @@
+package com.quizapp.data;
+
+import com.quizapp.model.Question;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testklasse für das {@link QuestionRepository} mit stabilen IDs und Journal.
+ * <p>
+ * Alle Tests arbeiten in einem temporären Verzeichnis, damit die echte
+ * {@code questions.json} des Projekts nicht verändert wird.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class QuestionRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    private static Question q(String text) {
+        return new Question(text, new String[]{"A", "B", "C", "D"}, 0);
+    }
+
+    /**
+     * Fragen aus einer älteren Datei ohne IDs erhalten beim Laden eindeutige IDs,
+     * die in den Snapshot übernommen werden und nach einem Neustart gleich bleiben.
+     */
+    @Test
+    void testLegacyFileGetsStableIds() throws Exception {
+        Path file = dir.resolve("questions.json");
+        Files.writeString(file, "[{\"text\":\"Eins\",\"options\":[\"A\",\"B\",\"C\",\"D\"],\"correctIndex\":0},"
+                + "{\"text\":\"Zwei\",\"options\":[\"A\",\"B\",\"C\",\"D\"],\"correctIndex\":1}]");
+
+        List<Question> first = new QuestionRepository(file).findAll();
+        assertEquals(2, first.size());
+        assertTrue(first.get(0).getId() > 0);
+        assertNotEquals(first.get(0).getId(), first.get(1).getId());
+        assertTrue(Files.readString(file).contains("\"id\""), "IDs müssen in den Snapshot geschrieben werden");
+
+        List<Question> second = new QuestionRepository(file).findAll();
+        assertEquals(first.get(0).getId(), second.get(0).getId());
+        assertEquals(first.get(1).getId(), second.get(1).getId());
+    }
+
+    /**
+     * Änderungen und Löschungen über die ID werden nur an das Journal angehängt
+     * und nach einem Neustart wieder eingespielt. Die IDs der übrigen Fragen
+     * verschieben sich dabei nicht.
+     */
+    @Test
+    void testUpdateAndDeleteByIdAreJournaled() throws Exception {
+        Path file = dir.resolve("questions.json");
+        QuestionRepository repo = new QuestionRepository(file);
+        List<Question> stored = repo.addAll(List.of(q("Eins"), q("Zwei"), q("Drei")));
+        repo.flush();
+        String snapshot = Files.readString(file);
+
+        assertTrue(repo.delete(stored.get(0).getId()));
+        assertTrue(repo.update(stored.get(2).getId(), q("Drei (neu)")));
+        assertFalse(repo.update(stored.get(0).getId(), q("gibt es nicht mehr")));
+        assertEquals(snapshot, Files.readString(file), "Snapshot darf nicht neu geschrieben werden");
+
+        QuestionRepository restarted = new QuestionRepository(file);
+        List<Question> all = restarted.findAll();
+        assertEquals(2, all.size());
+        assertEquals("Zwei", all.get(0).getText());
+        assertEquals(stored.get(1).getId(), all.get(0).getId());
+        assertEquals("Drei (neu)", restarted.findById(stored.get(2).getId()).getText());
+        assertNull(restarted.findById(stored.get(0).getId()));
+
+        // Neue IDs werden nie wiederverwendet
+        Question added = restarted.add(q("Vier"));
+        assertTrue(added.getId() > stored.get(2).getId());
+    }
+
+    /**
+     * Kann der Snapshot bei der Kompaktierung nicht geschrieben werden, bleibt das Journal
+     * erhalten; nach einem Neustart ist keine Änderung verloren.
+     */
+    @Test
+    void testFailedCompactionKeepsJournal() throws Exception {
+        Path file = dir.resolve("questions.json");
+        QuestionRepository repo = new QuestionRepository(file);
+        repo.add(q("Eins"));
+        repo.flush();
+        repo.add(q("Zwei"));
+
+        // Zieldatei durch ein nicht leeres Verzeichnis ersetzen -> Umbenennen schlägt fehl
+        Path saved = dir.resolve("saved.json");
+        Files.move(file, saved);
+        Files.createDirectory(file);
+        Files.writeString(file.resolve("blockiert"), "x");
+        repo.flush();
+        Files.delete(file.resolve("blockiert"));
+        Files.delete(file);
+        Files.move(saved, file);
+
+        List<Question> all = new QuestionRepository(file).findAll();
+        assertEquals(List.of("Eins", "Zwei"), all.stream().map(Question::getText).toList());
+    }
+}
@@ -0,0 +1,129 @@
+package com.quizapp.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testklasse für {@link LatencyHistogram}, {@link Metrics} und {@link MetricsExporter}.
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class MetricsTest {
+
+    /**
+     * Perzentile liegen höchstens eine Bucket-Breite (12,5 %) über dem exakten Wert,
+     * nie darunter; Anzahl, Summe und Maximum sind exakt.
+     */
+    @Test
+    void testHistogramPercentilesWithinBucketPrecision() {
+        LatencyHistogram h = new LatencyHistogram();
+        long sum = 0;
+        for (long v = 1; v <= 100_000; v++) {
+            h.record(v * 1000);
+            sum += v * 1000;
+        }
+        assertEquals(100_000, h.count());
+        assertEquals(sum, h.sumNanos());
+        assertEquals(100_000_000, h.maxNanos());
+
+        for (double q : new double[]{0.5, 0.9, 0.99, 0.999}) {
+            long exact = (long) Math.ceil(q * 100_000) * 1000;
+            long estimate = h.percentileNanos(q);
+            assertTrue(estimate >= exact, q + ": " + estimate + " < " + exact);
+            assertTrue(estimate <= exact * 1.125, q + ": " + estimate + " > " + exact + " + 12,5 %");
+        }
+        assertEquals(100_000_000, h.percentileNanos(1.0));
+        assertEquals(0, new LatencyHistogram().percentileNanos(0.5));
+    }
+
+    /**
+     * Jeder Wert fällt in einen Bucket, dessen Obergrenze ihn einschließt – bis Long.MAX_VALUE.
+     */
+    @Test
+    void testBucketBoundsCoverWholeRange() {
+        long[] values = {0, 1, 7, 8, 9, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE / 3, Long.MAX_VALUE};
+        for (long v : values) {
+            int index = LatencyHistogram.indexOf(v);
+            assertTrue(LatencyHistogram.upperBound(index) >= v, "Bucket " + index + " für " + v);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.upperBound(index - 1) < v, "Bucket " + index + " für " + v);
+            }
+        }
+    }
+
+    /**
+     * Gleichzeitiges Erfassen aus mehreren Threads verliert keine Werte.
+     */
+    @Test
+    void testConcurrentRecordingLosesNothing() throws Exception {
+        LatencyHistogram h = new LatencyHistogram();
+        Counter c = Metrics.counter("test_concurrent_total", "Test");
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    h.record(i);
+                    c.inc();
+                }
+            }));
+        }
+        for (Thread t : threads) t.join();
+        assertEquals(400_000, h.count());
+        assertEquals(400_000, c.get());
+        assertEquals(99_999, h.maxNanos());
+    }
+
+    /**
+     * Gleiche Namen und Labels liefern dieselbe Metrik; der Export folgt dem Prometheus-Textformat.
+     */
+    @Test
+    void testScrapeInPrometheusFormat() {
+        Counter ok = Metrics.counter("test_requests_total", "Anfragen", "result", "ok");
+        assertSame(ok, Metrics.counter("test_requests_total", "Anfragen", "result", "ok"));
+        ok.add(3);
+        Metrics.counter("test_requests_total", "Anfragen", "result", "a\"b").inc();
+        Metrics.gauge("test_queue", "Warteschlange", () -> 7);
+        Metrics.histogram("test_latency_seconds", "Dauer", "op", "load").record(2_000_000);
+        assertThrows(IllegalArgumentException.class, () -> Metrics.gauge("test_requests_total", "x", () -> 0));
+        assertThrows(IllegalArgumentException.class, () -> Metrics.counter("test_odd_total", "x", "label"));
+
+        String text = Metrics.scrape();
+        assertTrue(text.contains("# TYPE test_requests_total counter\n"));
+        assertTrue(text.contains("test_requests_total{result=\"ok\"} 3\n"));
+        assertTrue(text.contains("test_requests_total{result=\"a\\\"b\"} 1\n"));
+        assertTrue(text.contains("test_queue 7\n"));
+        assertTrue(text.contains("# TYPE test_latency_seconds summary\n"));
+        assertTrue(text.contains("test_latency_seconds{op=\"load\",quantile=\"0.99\"} 0.00200"));
+        assertTrue(text.contains("test_latency_seconds_count{op=\"load\"} 1\n"));
+    }
+
+    /**
+     * Der HTTP-Endpunkt liefert denselben Stand unter {@code /metrics}.
+     */
+    @Test
+    void testHttpEndpoint() throws Exception {
+        Metrics.counter("test_http_total", "HTTP-Test").add(42);
+        HttpServer server = MetricsExporter.serve(0);
+        try {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(HttpRequest.newBuilder(
+                    URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/metrics")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode());
+            assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/plain"));
+            assertTrue(response.body().contains("test_http_total 42\n"));
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.quizapp.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testklasse für {@link VirtualGameClock} und {@link Countdown}.
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class GameClockTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Aufgaben laufen in virtueller Zeit genau zu ihrem Zeitpunkt; abgebrochene nicht.
+     */
+    @Test
+    void testTasksRunAtTheirDueTime() {
+        VirtualGameClock clock = new VirtualGameClock();
+        List<String> log = new ArrayList<>();
+        clock.repeat(50 * MS, () -> log.add("tick@" + clock.nanoTime() / MS));
+        clock.schedule(120 * MS, () -> log.add("einmal@" + clock.nanoTime() / MS));
+        GameClock.Task cancelled = clock.schedule(60 * MS, () -> log.add("abgebrochen"));
+        cancelled.cancel();
+
+        clock.advance(160 * MS);
+
+        assertEquals(List.of("tick@50", "tick@100", "einmal@120", "tick@150"), log);
+        assertEquals(160 * MS, clock.nanoTime());
+    }
+
+    /**
+     * Die Punkte-Restzeit wird abgerundet, die Anzeige aufgerundet; nach {@code stop()} friert sie ein.
+     */
+    @Test
+    void testCountdownUsesExactElapsedTime() {
+        VirtualGameClock clock = new VirtualGameClock();
+        Countdown countdown = new Countdown(clock, TimeUnit.SECONDS.toNanos(20));
+
+        clock.advance(4_999 * MS);
+        assertEquals(15, countdown.remainingSeconds());
+        assertEquals(16, countdown.displaySeconds());
+
+        countdown.stop();
+        clock.advance(3_000 * MS);
+        assertEquals(15_001 * MS, countdown.remainingNanos());
+        assertEquals(10 + 15, 10 + countdown.remainingSeconds());
+
+        Countdown expired = new Countdown(clock, TimeUnit.SECONDS.toNanos(1));
+        clock.advance(2_000 * MS);
+        assertTrue(expired.isExpired());
+        assertEquals(0, expired.displaySeconds());
+    }
+}
@@ -0,0 +1,89 @@
+package com.quizapp.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testklasse für den Spielablauf {@link GameSession}.
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class GameSessionTest {
+
+    private static List<Question> round(int size) {
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            questions.add(new Question("Frage " + i, new String[]{"A", "B", "C", "D"}, i % 4));
+        }
+        return questions;
+    }
+
+    /**
+     * Klassischer Ablauf: Antworten nur einmal pro Frage, 50:50 nur einmal pro Runde,
+     * Überspringen der letzten Frage beendet die Runde.
+     */
+    @Test
+    void testClassicFlow() {
+        GameSession session = new GameSession(GameSession.Mode.CLASSIC);
+        session.start(round(3));
+
+        assertEquals(0b0110, session.use5050(), "Frage 0 (richtig: A) blendet B und C aus");
+        assertEquals(0, session.use5050(), "Joker nur einmal pro Runde");
+        assertEquals(10, session.answer(0, 0));
+        assertEquals(-1, session.answer(0, 0), "zweite Antwort wird ignoriert");
+        assertFalse(session.skip(), "nach dem Aufdecken kein Überspringen");
+
+        assertTrue(session.next());
+        assertEquals(0, session.hiddenMask());
+        assertEquals(0, session.answer(0, 0)); // richtig wäre B
+        assertTrue(session.next());
+        assertFalse(session.skip());
+
+        assertEquals(GameSession.State.FINISHED, session.state());
+        assertEquals(10, session.score());
+    }
+
+    /**
+     * Simuliert viele Runden im Zeitmodus in virtueller Zeit; Punkte ergeben sich
+     * aus den exakt vergangenen Sekunden.
+     */
+    @Test
+    void testSimulatedTimedSessions() {
+        Random random = new Random(42);
+        List<Question> questions = round(10);
+        VirtualGameClock clock = new VirtualGameClock();
+        GameSession session = new GameSession(GameSession.Mode.TIMED);
+
+        for (int game = 0; game < 5_000; game++) {
+            session.start(questions);
+            int expected = 0;
+            do {
+                Countdown countdown = new Countdown(clock, TimeUnit.SECONDS.toNanos(20));
+                clock.advance(TimeUnit.MILLISECONDS.toNanos(random.nextInt(25_000)));
+                if (countdown.isExpired()) {
+                    assertTrue(session.timeOut());
+                    continue;
+                }
+                int choice = random.nextInt(4);
+                int points = session.answer(choice, countdown.remainingSeconds());
+                if (choice == session.current().getCorrectIndex()) {
+                    assertEquals(10 + countdown.remainingSeconds(), points);
+                    assertTrue(points >= 10 && points <= 30);
+                    expected += points;
+                } else {
+                    assertEquals(0, points);
+                }
+            } while (session.next());
+            assertEquals(expected, session.score());
+            assertEquals(GameSession.State.FINISHED, session.state());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.quizapp.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testklasse für den {@link QuestionSampler}.
+ * <p>
+ * Geprüft werden die Grundeigenschaften einer Ziehung ohne Zurücklegen:
+ * richtige Anzahl, keine Duplikate, Reproduzierbarkeit über den Seed und
+ * eine (grob) gleichmäßige Verteilung für beide Verfahren.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class QuestionSamplerTest {
+
+    private static List<Question> pool(int n) {
+        List<Question> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            list.add(new Question("Frage " + i, new String[]{"A", "B", "C", "D"}, 0));
+        }
+        return list;
+    }
+
+    /**
+     * Eine Ziehung liefert genau k verschiedene Fragen und verändert den Pool nicht.
+     */
+    @Test
+    void testSampleIsDistinctAndLeavesPoolUntouched() {
+        List<Question> pool = pool(1000);
+        List<Question> before = new ArrayList<>(pool);
+
+        List<Question> round = new QuestionSampler(42).sample(pool, 10);
+
+        assertEquals(10, round.size());
+        assertEquals(10, new HashSet<>(round).size(), "Keine Frage darf doppelt vorkommen");
+        assertEquals(before, pool, "Der Pool darf nicht gemischt werden");
+    }
+
+    /**
+     * Ist der Pool kleiner als k, werden alle Fragen zurückgegeben (Randfall).
+     */
+    @Test
+    void testSmallPoolReturnsEverything() {
+        List<Question> pool = pool(4);
+        assertEquals(new HashSet<>(pool), new HashSet<>(new QuestionSampler(1).sample(pool, 10)));
+        assertEquals(new HashSet<>(pool), new HashSet<>(new QuestionSampler(1).sample(pool.iterator(), 10)));
+        assertTrue(new QuestionSampler(1).sample(pool, 0).isEmpty());
+    }
+
+    /**
+     * Gleicher Seed ergibt die gleiche Ziehung.
+     */
+    @Test
+    void testSeedIsReproducible() {
+        List<Question> pool = pool(500);
+        assertEquals(new QuestionSampler(7).sample(pool, 10), new QuestionSampler(7).sample(pool, 10));
+        assertEquals(new QuestionSampler(7).sample(pool.iterator(), 10),
+                new QuestionSampler(7).sample(pool.iterator(), 10));
+    }
+
+    /**
+     * Jede Frage wird ungefähr gleich oft gezogen (Floyd und Reservoir).
+     * Erwartet: 20000 Ziehungen * 5 / 50 = 2000 Treffer pro Frage, Toleranz 15 %.
+     */
+    @Test
+    void testSamplingIsUniform() {
+        List<Question> arrayPool = pool(50);
+        List<Question> linkedPool = new LinkedList<>(arrayPool);
+        QuestionSampler sampler = new QuestionSampler(123);
+        int[] floyd = new int[50];
+        int[] reservoir = new int[50];
+
+        for (int run = 0; run < 20000; run++) {
+            for (Question q : sampler.sample(arrayPool, 5)) floyd[arrayPool.indexOf(q)]++;
+            for (Question q : sampler.sample(linkedPool, 5)) reservoir[arrayPool.indexOf(q)]++;
+        }
+
+        Set<String> outliers = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            if (Math.abs(floyd[i] - 2000) > 300) outliers.add("floyd#" + i + "=" + floyd[i]);
+            if (Math.abs(reservoir[i] - 2000) > 300) outliers.add("reservoir#" + i + "=" + reservoir[i]);
+        }
+        assertTrue(outliers.isEmpty(), "Ungleichmäßige Verteilung: " + outliers);
+    }
+}
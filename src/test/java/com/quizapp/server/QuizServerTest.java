@@ -0,0 +1,119 @@
+package com.quizapp.server;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.quizapp.data.Leaderboard;
+import com.quizapp.model.Question;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testklasse für den {@link QuizServer}.
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class QuizServerTest {
+
+    private final Map<String, Integer> saved = new ConcurrentHashMap<>();
+    private QuizServer server;
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    /**
+     * Viele Spieler spielen gleichzeitig je eine Runde; jedes Ergebnis kommt genau einmal
+     * und mit der Punktzahl an, die der Spieler zuletzt gesehen hat.
+     */
+    @Test
+    void testConcurrentRoundsLoseNoScores() throws Exception {
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            questions.add(new Question("Frage " + i, new String[]{"A", "B", "C", "D"}, i % 4).withId(i + 1));
+        }
+        server = new QuizServer(questions, saved::put, Leaderboard::empty);
+        server.start(0);
+
+        HttpClient client = HttpClient.newHttpClient();
+        Gson gson = new Gson();
+        String base = "http://localhost:" + server.port();
+        int players = 50;
+
+        List<Future<Integer>> finalScores = new ArrayList<>();
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int p = 0; p < players; p++) {
+                String name = "Spieler" + p;
+                finalScores.add(pool.submit(() -> {
+                    JsonObject state = post(client, gson, base + "/sessions?player=" + name + "&mode=classic");
+                    long id = state.get("session").getAsLong();
+                    int answers = 0;
+                    while (!state.get("finished").getAsBoolean()) {
+                        state = post(client, gson, base + "/sessions/" + id + "/answer?choice=" + (answers++ % 4));
+                    }
+                    assertEquals(QuizServer.QUESTIONS_PER_ROUND, answers);
+                    return state.get("score").getAsInt();
+                }));
+            }
+        }
+
+        assertEquals(players, saved.size());
+        for (int p = 0; p < players; p++) {
+            assertEquals(finalScores.get(p).get(), saved.get("Spieler" + p));
+        }
+        assertEquals(0, server.activeSessions());
+    }
+
+    /**
+     * Der Modus wird unabhängig von der Standard-Locale erkannt; ein unbekannter Modus
+     * ist ein Fehler des Aufrufers (400) und kein interner Fehler.
+     */
+    @Test
+    void testModeIsParsedIndependentOfLocale() throws Exception {
+        server = new QuizServer(List.of(new Question("Frage", new String[]{"A", "B", "C", "D"}, 0).withId(1)),
+                saved::put, Leaderboard::empty);
+        server.start(0);
+        HttpClient client = HttpClient.newHttpClient();
+        String base = "http://localhost:" + server.port();
+
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            post(client, new Gson(), base + "/sessions?player=Ayse&mode=timed");
+        } finally {
+            Locale.setDefault(previous);
+        }
+        HttpResponse<String> unknown = send(client, base + "/sessions?player=Ayse&mode=blitz");
+        assertEquals(400, unknown.statusCode(), unknown.body());
+        assertTrue(unknown.body().contains("blitz"), unknown.body());
+    }
+
+    private static JsonObject post(HttpClient client, Gson gson, String url) throws Exception {
+        HttpResponse<String> response = send(client, url);
+        assertEquals(200, response.statusCode(), response.body());
+        return gson.fromJson(response.body(), JsonObject.class);
+    }
+
+    private static HttpResponse<String> send(HttpClient client, String url) throws Exception {
+        return client.send(
+                HttpRequest.newBuilder(URI.create(url)).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,77 @@
+package com.quizapp.view;
+
+import com.quizapp.data.AsyncDataManager;
+import com.quizapp.data.DataManager;
+import com.quizapp.data.EdtIoGuard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prüft, dass die Ansichten keine Datei-Ein-/Ausgabe auf dem Event Dispatch Thread ausführen.
+ * <p>
+ * Die Ansichten werden wie in der Anwendung auf dem EDT erzeugt und bedient, während der
+ * {@link EdtIoGuard} jeden Plattenzugriff vom EDT protokolliert. Die Tests laufen headless.
+ * </p>
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class EdtIoTest {
+
+    static {
+        System.setProperty("java.awt.headless", "true");
+    }
+
+    @BeforeEach
+    void setUp() {
+        EdtIoGuard.setEnabled(true);
+        EdtIoGuard.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        EdtIoGuard.setEnabled(false);
+        EdtIoGuard.reset();
+    }
+
+    /**
+     * Gegenprobe: Ein direkter Dateizugriff auf dem EDT wird vom Guard erkannt.
+     */
+    @Test
+    void testGuardDetectsIoOnEdt() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            try (Stream<?> s = DataManager.streamQuestions()) {
+                s.findFirst();
+            }
+        });
+
+        assertFalse(EdtIoGuard.violations().isEmpty(), "Zugriff auf dem EDT muss protokolliert werden");
+    }
+
+    /**
+     * Aufbau und Aktualisierung aller datenlastigen Ansichten lesen und schreiben
+     * ausschließlich im Hintergrund.
+     */
+    @Test
+    void testViewsDoNoIoOnEdt() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            new Highscores(() -> { }).refresh();
+            new Admin(() -> { });
+            new Quiz(() -> { }).startGame("Tester");
+            new TimeMode(() -> { }).startGame("Tester");
+        });
+
+        // Warten, bis der I/O-Thread und die anschließenden EDT-Aufgaben abgearbeitet sind
+        AsyncDataManager.run(() -> { }).get();
+        SwingUtilities.invokeAndWait(() -> { });
+
+        assertEquals(0, EdtIoGuard.violations().size(), String.join("\n", EdtIoGuard.violations()));
+    }
+}
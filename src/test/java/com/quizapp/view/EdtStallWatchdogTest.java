@@ -0,0 +1,63 @@
+package com.quizapp.view;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testklasse für den {@link EdtStallWatchdog}. Läuft headless.
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class EdtStallWatchdogTest {
+
+    static {
+        System.setProperty("java.awt.headless", "true");
+    }
+
+    /**
+     * Ein blockierender Aufruf auf dem EDT wird mit Dauer und Stack erkannt; der Bericht
+     * nennt die blockierende Methode als Ursache. Kurze Aufgaben lösen nichts aus.
+     */
+    @Test
+    void testDetectsStallAndNamesCulprit() throws Exception {
+        List<EdtStallWatchdog.Stall> seen = new CopyOnWriteArrayList<>();
+        SwingUtilities.invokeAndWait(() -> { }); // EDT starten
+        EdtStallWatchdog watchdog = EdtStallWatchdog.start(50, seen::add);
+        try {
+            Thread.sleep(200); // ruhiger EDT
+            assertTrue(seen.isEmpty(), "Ohne Last darf kein Hänger gemeldet werden");
+
+            SwingUtilities.invokeAndWait(EdtStallWatchdogTest::blockEdt);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (seen.isEmpty() && System.nanoTime() < deadline) Thread.sleep(10);
+        } finally {
+            watchdog.stop();
+        }
+
+        assertEquals(1, seen.size());
+        EdtStallWatchdog.Stall stall = seen.get(0);
+        assertTrue(stall.durationNanos() >= TimeUnit.MILLISECONDS.toNanos(250), "Dauer: " + stall.durationNanos());
+        assertFalse(stall.samples().isEmpty());
+        assertTrue(stall.samples().size() <= EdtStallWatchdog.MAX_SAMPLES);
+        assertEquals(EdtStallWatchdogTest.class.getName() + ".blockEdt", stall.culprit());
+        assertTrue(stall.format().contains("blockEdt"));
+        assertTrue(watchdog.report().contains("1x  " + EdtStallWatchdogTest.class.getName() + ".blockEdt"));
+        assertEquals(1, watchdog.stalls().size());
+    }
+
+    private static void blockEdt() {
+        try {
+            Thread.sleep(350);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.quizapp.view;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testklasse für {@link LazyCards}.
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class LazyCardsTest {
+
+    static {
+        System.setProperty("java.awt.headless", "true");
+    }
+
+    /**
+     * Eine registrierte Seite wird erst beim ersten Anzeigen erzeugt und danach wiederverwendet.
+     */
+    @Test
+    void testCardIsCreatedOnFirstUseOnly() {
+        LazyCards cards = new LazyCards();
+        AtomicInteger created = new AtomicInteger();
+        cards.add("LOGIN", new JPanel());
+        Supplier<JPanel> page = cards.register("QUIZ", () -> {
+            created.incrementAndGet();
+            return new JPanel();
+        }, p -> p);
+
+        assertEquals(0, created.get());
+        assertEquals(1, cards.createdCount());
+
+        cards.show("QUIZ");
+        JPanel first = page.get();
+        cards.show("QUIZ");
+        assertSame(first, page.get());
+        assertEquals(1, created.get());
+        assertEquals(2, cards.createdCount());
+        assertThrows(IllegalArgumentException.class, () -> cards.show("UNBEKANNT"));
+    }
+}
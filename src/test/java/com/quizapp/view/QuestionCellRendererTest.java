@@ -0,0 +1,52 @@
+package com.quizapp.view;
+
+import com.quizapp.model.Question;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.DefaultListModel;
+import javax.swing.JList;
+import java.awt.Point;
+import java.awt.Rectangle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testklasse für den gemeinsamen {@link QuestionCellRenderer} der Admin-Fragenliste.
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class QuestionCellRendererTest {
+
+    static {
+        System.setProperty("java.awt.headless", "true");
+    }
+
+    /**
+     * Klicks werden anhand der Position in der Zelle den gezeichneten Buttons zugeordnet,
+     * auch für Zellen weiter unten in der Liste.
+     */
+    @Test
+    void testHitTestFindsButtons() {
+        DefaultListModel<Question> model = new DefaultListModel<>();
+        model.addElement(new Question("Was ist 2+2?", new String[]{"4", "3", "5", "6"}, 0));
+        JList<Question> list = new JList<>(model);
+        QuestionCellRenderer renderer = new QuestionCellRenderer();
+        renderer.getListCellRendererComponent(list, model.get(0), 0, false, false);
+
+        Rectangle cell = new Rectangle(0, 5 * QuestionCellRenderer.ROW_HEIGHT, 800, QuestionCellRenderer.ROW_HEIGHT);
+        int midY = cell.y + 28;
+
+        // Rechts außen liegt der Löschen-Button, links davon der Bearbeiten-Button
+        int x = cell.width - 20;
+        while (x > 0 && renderer.hitTest(cell, new Point(x, midY)) != QuestionCellRenderer.DELETE) x--;
+        assertTrue(x > cell.width / 2, "Löschen-Button nicht gefunden");
+
+        while (x > 0 && renderer.hitTest(cell, new Point(x, midY)) != QuestionCellRenderer.EDIT) x--;
+        assertTrue(x > cell.width / 2, "Bearbeiten-Button nicht gefunden");
+
+        assertEquals(QuestionCellRenderer.NONE, renderer.hitTest(cell, new Point(100, midY)));
+        assertEquals(QuestionCellRenderer.NONE, renderer.hitTest(cell, new Point(100, 2)));
+    }
+}
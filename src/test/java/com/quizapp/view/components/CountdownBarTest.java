@@ -0,0 +1,53 @@
+package com.quizapp.view.components;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testklasse für {@link CountdownBar}.
+ *
+ * @author Istiqlal Momand
+ * @author Helal Storany
+ * @version 1.0
+ */
+class CountdownBarTest {
+
+    static {
+        System.setProperty("java.awt.headless", "true");
+    }
+
+    /**
+     * Über einen ganzen Countdown wird nie mehr als ein schmaler Streifen neu gezeichnet,
+     * und nur dann, wenn sich die Füllkante um ein Pixel bewegt.
+     */
+    @Test
+    void testRepaintsOnlyTheChangedStrip() {
+        List<Rectangle> dirty = new ArrayList<>();
+        CountdownBar bar = new CountdownBar(Color.LIGHT_GRAY, Color.BLUE) {
+            @Override
+            public void repaint(long tm, int x, int y, int width, int height) {
+                dirty.add(new Rectangle(x, y, width, height));
+            }
+        };
+        bar.setSize(520, 14);
+        long total = TimeUnit.SECONDS.toNanos(20);
+        long tick = bar.tickNanos(total);
+        assertEquals(total / 520, tick, "ein Takt pro Pixel, da seltener als 60 Hz");
+
+        int ticks = 0;
+        for (long elapsed = 0; elapsed <= total; elapsed += TimeUnit.MILLISECONDS.toNanos(5)) {
+            bar.setRemaining(total - elapsed, total);
+            ticks++;
+        }
+
+        assertTrue(ticks > 4 * dirty.size(), "die meisten Werte ändern kein Pixel");
+        assertEquals(520, dirty.stream().mapToInt(r -> r.width).sum());
+        assertTrue(dirty.stream().allMatch(r -> r.width <= 1 && r.height == 14));
+    }
+}